@@ -0,0 +1,56 @@
+package corypgr.project.euler.jmh;
+
+import corypgr.project.euler.problems.util.ContinuedFractionUtil;
+import corypgr.project.euler.problems.util.ContinuedFractionUtil.ConvergentSequence;
+import corypgr.project.euler.problems.util.ContinuedFractionUtil.RationalFraction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steps through the first numConvergents convergents of sqrt(n). Longer runs go past what fits in a long, so they
+ * include the switch over to BigInteger.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContinuedFractionUtilBenchmark {
+    @Param({"2", "61", "9949"})
+    private int n;
+
+    @Param({"10", "100", "1000"})
+    private int numConvergents;
+
+    private final ContinuedFractionUtil continuedFractionUtil = new ContinuedFractionUtil();
+
+    @Benchmark
+    public void convergentSequence(Blackhole blackhole) {
+        ConvergentSequence sequence = continuedFractionUtil.getConvergentSequenceOfSquareRoot(n);
+        for (int i = 0; i < numConvergents; i++) {
+            blackhole.consume(sequence.fitsInLong() ? sequence.getNumeratorAsLong() : sequence.getNumerator());
+            sequence.advance();
+        }
+    }
+
+    @Benchmark
+    public void rationalFractionIterator(Blackhole blackhole) {
+        Iterator<RationalFraction> convergents = continuedFractionUtil.getConvergentsOfSquareRoot(n);
+        for (int i = 0; i < numConvergents; i++) {
+            blackhole.consume(convergents.next());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package corypgr.project.euler.jmh;
+
+import corypgr.project.euler.problems.prime.PrimeGenerator;
+import corypgr.project.euler.problems.util.DivisorsUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Values are a highly composite number, a prime, and Problem 3's number, which are the best, worst, and a typical case
+ * for trial division.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DivisorsUtilBenchmark {
+    @Param({"720720", "999999937", "600851475143"})
+    private long value;
+
+    private final DivisorsUtil divisorsUtil = new DivisorsUtil();
+    private List<Long> primes;
+
+    @Setup
+    public void setup() {
+        primes = new PrimeGenerator().generatePrimesList((long) Math.sqrt(value));
+    }
+
+    @Benchmark
+    public Set<Long> getDivisors() {
+        return divisorsUtil.getDivisors(value);
+    }
+
+    @Benchmark
+    public long getNumDivisors() {
+        return divisorsUtil.getNumDivisors(value);
+    }
+
+    /**
+     * Includes generating the primes up to sqrt(value).
+     */
+    @Benchmark
+    public Set<Long> getPrimeDivisors() {
+        return divisorsUtil.getPrimeDivisors(value);
+    }
+
+    @Benchmark
+    public Set<Long> getPrimeDivisorsWithPrimes() {
+        return divisorsUtil.getPrimeDivisors(value, primes);
+    }
+}
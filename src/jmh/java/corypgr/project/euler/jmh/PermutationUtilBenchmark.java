@@ -0,0 +1,45 @@
+package corypgr.project.euler.jmh;
+
+import corypgr.project.euler.problems.util.PermutationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PermutationUtilBenchmark {
+    @Param({"5", "7", "9"})
+    private int numValues;
+
+    private final PermutationUtil<Integer> permutationUtil = new PermutationUtil<>();
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        values = IntStream.range(0, numValues)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<List<Integer>> getAllPermutations() {
+        return permutationUtil.getAllPermutations(values);
+    }
+}
@@ -0,0 +1,34 @@
+package corypgr.project.euler.jmh;
+
+import corypgr.project.euler.problems.prime.PrimeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimeGeneratorBenchmark {
+    @Param({"10000", "1000000", "10000000"})
+    private long maxVal;
+
+    private final PrimeGenerator primeGenerator = new PrimeGenerator();
+
+    @Benchmark
+    public List<Long> generatePrimesList() {
+        return primeGenerator.generatePrimesList(maxVal);
+    }
+}
@@ -0,0 +1,124 @@
+package corypgr.project.euler.jmh;
+
+import corypgr.project.euler.problems.util.CompressedGraph;
+import corypgr.project.euler.problems.util.CompressedShortestPathSolver;
+import corypgr.project.euler.problems.util.CompressedShortestPathSolver.SearchStrategy;
+import corypgr.project.euler.problems.util.ShortestPathSolver;
+import corypgr.project.euler.problems.util.ShortestPathSolver.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Square grids connected to all 4 neighbours, like Problem 83, with random weights in [1, 9999].
+ *
+ * ShortestPathSolver leaves its distances on the Nodes, so every search needs a fresh graph and that benchmark includes
+ * building it. CompressedShortestPathSolver keeps its state per search, so the graph is built once, and each
+ * SearchStrategy gets its own benchmark. A_STAR uses the Manhattan distance times the smallest cell weight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShortestPathSolverBenchmark {
+    private static final int MAX_WEIGHT = 9999;
+    private static final long SEED = 83;
+
+    @Param({"80", "256", "512"})
+    private int size;
+
+    private int[][] grid;
+    private CompressedGraph compressedGraph;
+    private CompressedShortestPathSolver aStarSolver;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(SEED);
+        grid = new int[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                grid[row][col] = random.nextInt(MAX_WEIGHT) + 1;
+            }
+        }
+
+        CompressedGraph.Builder builder = new CompressedGraph.Builder(size * size);
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int node = row * size + col;
+                for (int[] neighbour : getNeighbours(row, col)) {
+                    builder.addEdge(node, neighbour[0] * size + neighbour[1], grid[neighbour[0]][neighbour[1]]);
+                }
+            }
+        }
+        compressedGraph = builder.build();
+        // The reversed graph is built lazily, so build it here rather than in the first bidirectional search.
+        compressedGraph.getReversed();
+
+        int minWeight = Arrays.stream(grid).flatMapToInt(Arrays::stream).min().orElse(0);
+        aStarSolver = new CompressedShortestPathSolver(SearchStrategy.A_STAR,
+                CompressedShortestPathSolver.getManhattanHeuristic(size, minWeight));
+    }
+
+    @Benchmark
+    public int nodeGraphBuildAndSolve() {
+        Node[][] nodes = new Node[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                nodes[row][col] = new Node(grid[row][col]);
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                for (int[] neighbour : getNeighbours(row, col)) {
+                    nodes[row][col].addChild(nodes[neighbour[0]][neighbour[1]]);
+                }
+            }
+        }
+
+        return new ShortestPathSolver().findShortestPathDistance(nodes[0][0], nodes[size - 1][size - 1]);
+    }
+
+    @Benchmark
+    public int compressedGraphSolve() {
+        return new CompressedShortestPathSolver()
+                .findShortestPathDistance(compressedGraph, 0, size * size - 1) + grid[0][0];
+    }
+
+    @Benchmark
+    public int compressedGraphSolveAStar() {
+        return aStarSolver.findShortestPathDistance(compressedGraph, 0, size * size - 1) + grid[0][0];
+    }
+
+    @Benchmark
+    public int compressedGraphSolveBidirectional() {
+        return new CompressedShortestPathSolver(SearchStrategy.BIDIRECTIONAL)
+                .findShortestPathDistance(compressedGraph, 0, size * size - 1) + grid[0][0];
+    }
+
+    private int[][] getNeighbours(int row, int col) {
+        int[][] candidates = {{row - 1, col}, {row + 1, col}, {row, col - 1}, {row, col + 1}};
+        int count = 0;
+        for (int[] candidate : candidates) {
+            if (candidate[0] >= 0 && candidate[0] < size && candidate[1] >= 0 && candidate[1] < size) {
+                candidates[count++] = candidate;
+            }
+        }
+        int[][] neighbours = new int[count][];
+        System.arraycopy(candidates, 0, neighbours, 0, count);
+        return neighbours;
+    }
+}
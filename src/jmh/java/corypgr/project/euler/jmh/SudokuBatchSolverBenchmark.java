@@ -0,0 +1,73 @@
+package corypgr.project.euler.jmh;
+
+import corypgr.project.euler.problems.util.SudokuBatchSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SudokuBatchSolver over a file of the PE0096_sudoku boards repeated COPIES times, with numThreads solver threads. The
+ * resource is found relative to the project root, which the jmh profile runs from. Times include reading the puzzles
+ * and writing the solutions to a temporary file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SudokuBatchSolverBenchmark {
+    private static final String PE0096_PATH = "src/main/java/corypgr/project/euler/problems/resources/PE0096_sudoku";
+    private static final int COPIES = 200;
+
+    @Param({"1", "2", "4"})
+    private int numThreads;
+
+    private SudokuBatchSolver batchSolver;
+    private Path input;
+    private Path output;
+
+    @Setup
+    public void setup() throws IOException {
+        batchSolver = new SudokuBatchSolver(numThreads);
+        List<String> lines = Files.readAllLines(Paths.get(PE0096_PATH));
+        input = Files.createTempFile("sudoku-puzzles", ".txt");
+        output = Files.createTempFile("sudoku-solutions", ".txt");
+        try (Writer writer = Files.newBufferedWriter(input)) {
+            for (int copy = 0; copy < COPIES; copy++) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write(System.lineSeparator());
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public SudokuBatchSolver.BatchReport solve() throws IOException {
+        return batchSolver.solve(input, output);
+    }
+}
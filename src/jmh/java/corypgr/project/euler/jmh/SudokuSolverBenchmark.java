@@ -0,0 +1,94 @@
+package corypgr.project.euler.jmh;
+
+import corypgr.project.euler.problems.util.BitmaskSudokuSolver;
+import corypgr.project.euler.problems.util.SudokuSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solves the first numBoards boards of PE0096_sudoku with each solver. The resource is found relative to the project
+ * root, which the jmh profile runs from. SudokuSolver changes the Board it is given, so every call builds a new one
+ * from the parsed grid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SudokuSolverBenchmark {
+    private static final String PE0096_PATH = "src/main/java/corypgr/project/euler/problems/resources/PE0096_sudoku";
+    private static final int SIZE = 9;
+
+    @Param({"1", "10", "50"})
+    private int numBoards;
+
+    private final SudokuSolver sudokuSolver = new SudokuSolver();
+    private final BitmaskSudokuSolver bitmaskSudokuSolver = new BitmaskSudokuSolver();
+    private List<int[][]> grids;
+    private List<int[]> boards;
+
+    @Setup
+    public void setup() throws IOException {
+        grids = new ArrayList<>();
+        boards = new ArrayList<>();
+        List<String> lines = Files.readAllLines(Paths.get(PE0096_PATH));
+        for (int start = 0; grids.size() < numBoards; start += SIZE + 1) {
+            int[][] grid = new int[SIZE][];
+            int[] board = new int[SIZE * SIZE];
+            for (int row = 0; row < SIZE; row++) {
+                grid[row] = lines.get(start + 1 + row).chars()
+                        .map(Character::getNumericValue)
+                        .toArray();
+                System.arraycopy(grid[row], 0, board, row * SIZE, SIZE);
+            }
+            grids.add(grid);
+            boards.add(board);
+        }
+    }
+
+    @Benchmark
+    public void sudokuSolver(Blackhole blackhole) {
+        for (int[][] grid : grids) {
+            blackhole.consume(sudokuSolver.solveBoard(new SudokuSolver.Board(grid)));
+        }
+    }
+
+    @Benchmark
+    public void exactCoverBoard(Blackhole blackhole) {
+        for (int[][] grid : grids) {
+            blackhole.consume(sudokuSolver.solveBoardWithExactCover(new SudokuSolver.Board(grid)));
+        }
+    }
+
+    @Benchmark
+    public void exactCover(Blackhole blackhole) {
+        for (int[] board : boards) {
+            blackhole.consume(sudokuSolver.solveWithExactCover(board));
+        }
+    }
+
+    @Benchmark
+    public void bitmask(Blackhole blackhole) {
+        for (int[] board : boards) {
+            blackhole.consume(bitmaskSudokuSolver.solve(board));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package corypgr.project.euler.jmh;
+
+import corypgr.project.euler.problems.util.TriangleMaxSumRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated triangles in the same format as PE0067_triangle, with random 2 digit values. Every method parses the file,
+ * so the times include reading it (from the page cache, after the first run).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TriangleMaxSumRouteBenchmark {
+    private static final long SEED = 67;
+
+    @Param({"100", "1000", "4000"})
+    private int numRows;
+
+    private final TriangleMaxSumRoute triangleMaxSumRoute = new TriangleMaxSumRoute();
+    private Path triangleFile;
+
+    @Setup
+    public void setup() throws IOException {
+        triangleFile = Files.createTempFile("triangle", ".txt");
+        Random random = new Random(SEED);
+        try (BufferedWriter writer = Files.newBufferedWriter(triangleFile)) {
+            for (int row = 1; row <= numRows; row++) {
+                for (int col = 0; col < row; col++) {
+                    if (col > 0) {
+                        writer.write(' ');
+                    }
+                    writer.write(String.format("%02d", random.nextInt(100)));
+                }
+                writer.newLine();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(triangleFile);
+    }
+
+    @Benchmark
+    public long findMaxSumRoute() {
+        return triangleMaxSumRoute.findMaxSumRoute(triangleFile);
+    }
+
+    @Benchmark
+    public long findMaxSumRouteParallel() {
+        return triangleMaxSumRoute.findMaxSumRouteParallel(triangleFile);
+    }
+
+    @Benchmark
+    public long findMaxSumRouteStreaming() {
+        return triangleMaxSumRoute.findMaxSumRouteStreaming(triangleFile);
+    }
+}
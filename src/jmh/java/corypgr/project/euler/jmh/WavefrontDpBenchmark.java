@@ -0,0 +1,72 @@
+package corypgr.project.euler.jmh;
+
+import corypgr.project.euler.problems.util.WavefrontDp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serial and parallel versions of WavefrontDp on generated inputs with random values in [1, 9999], like the Project
+ * Euler inputs. The triangle has width rows, and the grid is width wide and width / 2 tall.
+ *
+ * The parallel versions use the common ForkJoinPool. Pass -Djava.util.concurrent.ForkJoinPool.common.parallelism
+ * through -jvmArgsAppend to try other thread counts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WavefrontDpBenchmark {
+    private static final int MAX_VALUE = 9999;
+    private static final long SEED = 36;
+
+    @Param({"1000", "5000"})
+    private int width;
+
+    private final WavefrontDp wavefrontDp = new WavefrontDp();
+    private int[][] triangle;
+    private int[] grid;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(SEED);
+        triangle = new int[width][];
+        for (int row = 0; row < width; row++) {
+            triangle[row] = random.ints(row + 1, 1, MAX_VALUE + 1).toArray();
+        }
+        grid = random.ints((long) width * (width / 2), 1, MAX_VALUE + 1).toArray();
+    }
+
+    @Benchmark
+    public long triangleSerial() {
+        return wavefrontDp.findMaxTriangleRouteSumSerial(triangle);
+    }
+
+    @Benchmark
+    public long triangleParallel() {
+        return wavefrontDp.findMaxTriangleRouteSum(triangle);
+    }
+
+    @Benchmark
+    public long gridSerial() {
+        return wavefrontDp.findMinRightDownPathSumSerial(grid, width);
+    }
+
+    @Benchmark
+    public long gridParallel() {
+        return wavefrontDp.findMinRightDownPathSum(grid, width);
+    }
+}
@@ -2,246 +2,352 @@ package corypgr.project.euler;
 
 import corypgr.project.euler.cli.CommandLineArgs;
 import corypgr.project.euler.cli.CommandLineArgsParser;
-import corypgr.project.euler.problems.PE0001;
-import corypgr.project.euler.problems.PE0002;
-import corypgr.project.euler.problems.PE0003;
-import corypgr.project.euler.problems.PE0004;
-import corypgr.project.euler.problems.PE0005;
-import corypgr.project.euler.problems.PE0006;
-import corypgr.project.euler.problems.PE0007;
-import corypgr.project.euler.problems.PE0008;
-import corypgr.project.euler.problems.PE0009;
-import corypgr.project.euler.problems.PE0010;
-import corypgr.project.euler.problems.PE0011;
-import corypgr.project.euler.problems.PE0012;
-import corypgr.project.euler.problems.PE0013;
-import corypgr.project.euler.problems.PE0014;
-import corypgr.project.euler.problems.PE0015;
-import corypgr.project.euler.problems.PE0016;
-import corypgr.project.euler.problems.PE0017;
-import corypgr.project.euler.problems.PE0018;
-import corypgr.project.euler.problems.PE0019;
-import corypgr.project.euler.problems.PE0020;
-import corypgr.project.euler.problems.PE0021;
-import corypgr.project.euler.problems.PE0022;
-import corypgr.project.euler.problems.PE0023;
-import corypgr.project.euler.problems.PE0024;
-import corypgr.project.euler.problems.PE0025;
-import corypgr.project.euler.problems.PE0026;
-import corypgr.project.euler.problems.PE0027;
-import corypgr.project.euler.problems.PE0028;
-import corypgr.project.euler.problems.PE0029;
-import corypgr.project.euler.problems.PE0030;
-import corypgr.project.euler.problems.PE0031;
-import corypgr.project.euler.problems.PE0032;
-import corypgr.project.euler.problems.PE0033;
-import corypgr.project.euler.problems.PE0034;
-import corypgr.project.euler.problems.PE0035;
-import corypgr.project.euler.problems.PE0036;
-import corypgr.project.euler.problems.PE0037;
-import corypgr.project.euler.problems.PE0038;
-import corypgr.project.euler.problems.PE0039;
-import corypgr.project.euler.problems.PE0040;
-import corypgr.project.euler.problems.PE0041;
-import corypgr.project.euler.problems.PE0042;
-import corypgr.project.euler.problems.PE0043;
-import corypgr.project.euler.problems.PE0044;
-import corypgr.project.euler.problems.PE0045;
-import corypgr.project.euler.problems.PE0046;
-import corypgr.project.euler.problems.PE0047;
-import corypgr.project.euler.problems.PE0048;
-import corypgr.project.euler.problems.PE0049;
-import corypgr.project.euler.problems.PE0050;
-import corypgr.project.euler.problems.PE0051;
-import corypgr.project.euler.problems.PE0052;
-import corypgr.project.euler.problems.PE0053;
-import corypgr.project.euler.problems.PE0054;
-import corypgr.project.euler.problems.PE0055;
-import corypgr.project.euler.problems.PE0056;
-import corypgr.project.euler.problems.PE0057;
-import corypgr.project.euler.problems.PE0058;
-import corypgr.project.euler.problems.PE0059;
-import corypgr.project.euler.problems.PE0060;
-import corypgr.project.euler.problems.PE0061;
-import corypgr.project.euler.problems.PE0062;
-import corypgr.project.euler.problems.PE0063;
-import corypgr.project.euler.problems.PE0064;
-import corypgr.project.euler.problems.PE0065;
-import corypgr.project.euler.problems.PE0066;
-import corypgr.project.euler.problems.PE0067;
-import corypgr.project.euler.problems.PE0068;
-import corypgr.project.euler.problems.PE0069;
-import corypgr.project.euler.problems.PE0070;
-import corypgr.project.euler.problems.PE0071;
-import corypgr.project.euler.problems.PE0072;
-import corypgr.project.euler.problems.PE0073;
-import corypgr.project.euler.problems.PE0074;
-import corypgr.project.euler.problems.PE0075;
-import corypgr.project.euler.problems.PE0076;
-import corypgr.project.euler.problems.PE0077;
-import corypgr.project.euler.problems.PE0078;
-import corypgr.project.euler.problems.PE0079;
-import corypgr.project.euler.problems.PE0080;
-import corypgr.project.euler.problems.PE0081;
-import corypgr.project.euler.problems.PE0082;
-import corypgr.project.euler.problems.PE0083;
-import corypgr.project.euler.problems.PE0084;
-import corypgr.project.euler.problems.PE0085;
-import corypgr.project.euler.problems.PE0086;
-import corypgr.project.euler.problems.PE0087;
-import corypgr.project.euler.problems.PE0088;
-import corypgr.project.euler.problems.PE0089;
-import corypgr.project.euler.problems.PE0090;
-import corypgr.project.euler.problems.PE0091;
-import corypgr.project.euler.problems.PE0092;
-import corypgr.project.euler.problems.PE0093;
-import corypgr.project.euler.problems.PE0094;
-import corypgr.project.euler.problems.PE0095;
-import corypgr.project.euler.problems.PE0096;
-import corypgr.project.euler.problems.PE0097;
-import corypgr.project.euler.problems.PE0098;
-import corypgr.project.euler.problems.PE0099;
-import corypgr.project.euler.problems.PE0100;
+import corypgr.project.euler.daemon.SolverDaemon;
+import corypgr.project.euler.problems.ProblemRegistry;
 import corypgr.project.euler.problems.util.Problem;
-import corypgr.project.euler.problems.util.ProblemSolution;
+import corypgr.project.euler.runner.BaselineComparator;
+import corypgr.project.euler.runner.BatchSummary;
+import corypgr.project.euler.runner.BenchmarkReportWriter;
+import corypgr.project.euler.runner.BenchmarkResult;
+import corypgr.project.euler.runner.BenchmarkRunner;
+import corypgr.project.euler.runner.ExpectedProblemTimes;
+import corypgr.project.euler.runner.GrowthCurve;
+import corypgr.project.euler.runner.MemoryProbe;
+import corypgr.project.euler.runner.MemoryStats;
+import corypgr.project.euler.runner.ParallelProblemRunner;
+import corypgr.project.euler.runner.PerformanceBaseline;
+import corypgr.project.euler.runner.ProblemComparison;
+import corypgr.project.euler.runner.ProblemResult;
+import corypgr.project.euler.runner.ProblemRunner;
+import corypgr.project.euler.runner.SolutionCache;
+import corypgr.project.euler.runner.SolverHasher;
+import corypgr.project.euler.runner.SweepRunner;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 public class ProjectEuler {
-    private static final Map<Integer, Problem> numberToProblem = Map.ofEntries(
-            Map.entry(1, new PE0001()),
-            Map.entry(2, new PE0002()),
-            Map.entry(3, new PE0003()),
-            Map.entry(4, new PE0004()),
-            Map.entry(5, new PE0005()),
-            Map.entry(6, new PE0006()),
-            Map.entry(7, new PE0007()),
-            Map.entry(8, new PE0008()),
-            Map.entry(9, new PE0009()),
-            Map.entry(10, new PE0010()),
-            Map.entry(11, new PE0011()),
-            Map.entry(12, new PE0012()),
-            Map.entry(13, new PE0013()),
-            Map.entry(14, new PE0014()),
-            Map.entry(15, new PE0015()),
-            Map.entry(16, new PE0016()),
-            Map.entry(17, new PE0017()),
-            Map.entry(18, new PE0018()),
-            Map.entry(19, new PE0019()),
-            Map.entry(20, new PE0020()),
-            Map.entry(21, new PE0021()),
-            Map.entry(22, new PE0022()),
-            Map.entry(23, new PE0023()),
-            Map.entry(24, new PE0024()),
-            Map.entry(25, new PE0025()),
-            Map.entry(26, new PE0026()),
-            Map.entry(27, new PE0027()),
-            Map.entry(28, new PE0028()),
-            Map.entry(29, new PE0029()),
-            Map.entry(30, new PE0030()),
-            Map.entry(31, new PE0031()),
-            Map.entry(32, new PE0032()),
-            Map.entry(33, new PE0033()),
-            Map.entry(34, new PE0034()),
-            Map.entry(35, new PE0035()),
-            Map.entry(36, new PE0036()),
-            Map.entry(37, new PE0037()),
-            Map.entry(38, new PE0038()),
-            Map.entry(39, new PE0039()),
-            Map.entry(40, new PE0040()),
-            Map.entry(41, new PE0041()),
-            Map.entry(42, new PE0042()),
-            Map.entry(43, new PE0043()),
-            Map.entry(44, new PE0044()),
-            Map.entry(45, new PE0045()),
-            Map.entry(46, new PE0046()),
-            Map.entry(47, new PE0047()),
-            Map.entry(48, new PE0048()),
-            Map.entry(49, new PE0049()),
-            Map.entry(50, new PE0050()),
-            Map.entry(51, new PE0051()),
-            Map.entry(52, new PE0052()),
-            Map.entry(53, new PE0053()),
-            Map.entry(54, new PE0054()),
-            Map.entry(55, new PE0055()),
-            Map.entry(56, new PE0056()),
-            Map.entry(57, new PE0057()),
-            Map.entry(58, new PE0058()),
-            Map.entry(59, new PE0059()),
-            Map.entry(60, new PE0060()),
-            Map.entry(61, new PE0061()),
-            Map.entry(62, new PE0062()),
-            Map.entry(63, new PE0063()),
-            Map.entry(64, new PE0064()),
-            Map.entry(65, new PE0065()),
-            Map.entry(66, new PE0066()),
-            Map.entry(67, new PE0067()),
-            Map.entry(68, new PE0068()),
-            Map.entry(69, new PE0069()),
-            Map.entry(70, new PE0070()),
-            Map.entry(71, new PE0071()),
-            Map.entry(72, new PE0072()),
-            Map.entry(73, new PE0073()),
-            Map.entry(74, new PE0074()),
-            Map.entry(75, new PE0075()),
-            Map.entry(76, new PE0076()),
-            Map.entry(77, new PE0077()),
-            Map.entry(78, new PE0078()),
-            Map.entry(79, new PE0079()),
-            Map.entry(80, new PE0080()),
-            Map.entry(81, new PE0081()),
-            Map.entry(82, new PE0082()),
-            Map.entry(83, new PE0083()),
-            Map.entry(84, new PE0084()),
-            Map.entry(85, new PE0085()),
-            Map.entry(86, new PE0086()),
-            Map.entry(87, new PE0087()),
-            Map.entry(88, new PE0088()),
-            Map.entry(89, new PE0089()),
-            Map.entry(90, new PE0090()),
-            Map.entry(91, new PE0091()),
-            Map.entry(92, new PE0092()),
-            Map.entry(93, new PE0093()),
-            Map.entry(94, new PE0094()),
-            Map.entry(95, new PE0095()),
-            Map.entry(96, new PE0096()),
-            Map.entry(97, new PE0097()),
-            Map.entry(98, new PE0098()),
-            Map.entry(99, new PE0099()),
-            Map.entry(100, new PE0100())
-    );
+    private static final ProblemRegistry problemRegistry = new ProblemRegistry();
 
     public static void main(String[] args) {
         CommandLineArgsParser argsParser = new CommandLineArgsParser();
         CommandLineArgs parsedArgs = argsParser.parseArgs(args);
 
-        if (parsedArgs.getProblemNumber() == null) {
-            System.out.println("Running all Problems.");
-            numberToProblem.keySet().stream()
-                    .mapToInt(Integer::intValue)
-                    .sorted()
-                    .forEach(ProjectEuler::runProblem);
-        } else if (numberToProblem.containsKey(parsedArgs.getProblemNumber())) {
-            runProblem(parsedArgs.getProblemNumber());
+        if (parsedArgs.isDaemon()) {
+            runDaemon(parsedArgs);
+        } else if (parsedArgs.getSweepParameter() != null) {
+            runSweep(parsedArgs);
+        } else if (parsedArgs.isCompareBaseline()) {
+            compareBaseline(parsedArgs);
+        } else if (parsedArgs.isWriteBaseline()) {
+            writeBaseline(parsedArgs);
+        } else if (parsedArgs.isBenchmark()) {
+            runBenchmark(parsedArgs);
+        } else if (parsedArgs.getProblemNumber() == null || problemRegistry.hasProblem(parsedArgs.getProblemNumber())) {
+            runProblems(parsedArgs);
         } else {
             System.out.println("Problem Number provided is not known or is not solved yet.");
         }
     }
 
-    private static void runProblem(int problemNumber) {
+    /**
+     * Runs one problem, or all of them, reusing and then saving cached solutions unless told not to.
+     */
+    private static void runProblems(CommandLineArgs parsedArgs) {
+        SolutionCache solutionCache = parsedArgs.isNoCache()
+                ? null
+                : SolutionCache.load(SolutionCache.DEFAULT_PATH, new SolverHasher());
+        ProblemRunner problemRunner =
+                new ProblemRunner(parsedArgs.isMemory(), parsedArgs.getTimeoutOrDefault(), solutionCache);
+
+        if (parsedArgs.getProblemNumber() != null) {
+            runProblem(parsedArgs.getProblemNumber(), problemRunner, parsedArgs.getParameters());
+        } else if (parsedArgs.getThreads() != null) {
+            runAllProblemsInParallel(parsedArgs.getThreads(), problemRunner);
+        } else {
+            runAllProblems(problemRunner);
+        }
+
+        if (solutionCache != null) {
+            solutionCache.save(SolutionCache.DEFAULT_PATH);
+            System.out.println();
+            System.out.println("Solution cache: " + solutionCache.getHits() + " hits, " + solutionCache.getMisses()
+                    + " misses. Run with --no-cache to solve everything.");
+        }
+    }
+
+    private static void runDaemon(CommandLineArgs parsedArgs) {
+        int threads = (parsedArgs.getThreads() == null)
+                ? Runtime.getRuntime().availableProcessors()
+                : parsedArgs.getThreads();
+        SolverDaemon daemon = new SolverDaemon(problemRegistry, parsedArgs.getPortOrDefault(), threads,
+                SolverDaemon.DEFAULT_QUEUE_CAPACITY, new ProblemRunner(false, parsedArgs.getTimeoutOrDefault()));
+        try {
+            int port = daemon.start();
+            System.out.println("Solver daemon listening on 127.0.0.1:" + port + " with " + threads + " threads.");
+            Runtime.getRuntime().addShutdownHook(new Thread(daemon::close));
+            daemon.awaitShutdown();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start the solver daemon", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            daemon.close();
+        }
+        System.out.println("Solver daemon stopped.");
+    }
+
+    private static ProblemResult runProblem(int problemNumber, ProblemRunner problemRunner,
+                                            Map<String, Long> parameters) {
+        ProblemResult result = problemRunner.run(problemNumber, problemRegistry.getProblem(problemNumber), parameters);
+        printResult(result);
+        return result;
+    }
+
+    private static void runAllProblems(ProblemRunner problemRunner) {
+        System.out.println("Running all Problems.");
+        List<Integer> timedOutProblemNumbers = new ArrayList<>();
+        for (int problemNumber : problemRegistry.getProblemNumbers()) {
+            if (runProblem(problemNumber, problemRunner, Map.of()).isTimedOut()) {
+                timedOutProblemNumbers.add(problemNumber);
+            }
+        }
+        printTimedOut(timedOutProblemNumbers);
+    }
+
+    private static void runAllProblemsInParallel(int threads, ProblemRunner problemRunner) {
+        System.out.println("Running all Problems on " + threads + " threads.");
+        ParallelProblemRunner runner = new ParallelProblemRunner(threads,
+                ExpectedProblemTimes.load(ExpectedProblemTimes.DEFAULT_PATH), problemRunner);
+        BatchSummary summary = runner.runAll(problemRegistry.getAllProblems(), ProjectEuler::printResult);
+
+        System.out.println();
+        System.out.println("Ran " + summary.getProblemCount() + " Problems on " + summary.getNumThreads()
+                + " threads.");
+        System.out.println("Wall-clock time: " + getExecutionTime(summary.getWallNanos()));
+        System.out.println("Sum of execution times: " + getExecutionTime(summary.getTotalExecutionNanos()));
+        System.out.println("Sum of CPU times: " + getExecutionTime(summary.getTotalCpuNanos()));
+        printTimedOut(summary.getTimedOutProblemNumbers());
+    }
+
+    private static void printTimedOut(List<Integer> timedOutProblemNumbers) {
+        if (!timedOutProblemNumbers.isEmpty()) {
+            System.out.println();
+            System.out.println(timedOutProblemNumbers.size() + " Problems timed out: " + timedOutProblemNumbers);
+        }
+    }
+
+    /**
+     * Benchmarks the problem at each swept value, printing a line per value as it finishes, then the fitted growth.
+     * The local exponent is the growth between a value and the one before it.
+     */
+    private static void runSweep(CommandLineArgs parsedArgs) {
+        if (!problemRegistry.hasProblem(parsedArgs.getProblemNumber())) {
+            System.out.println("Problem Number provided is not known or is not solved yet.");
+            return;
+        }
+
+        int problemNumber = parsedArgs.getProblemNumber();
+        Problem problem = problemRegistry.getProblem(problemNumber);
+        String parameter = parsedArgs.getSweepParameter();
+        Long defaultValue = problem.getDefaultParameters().get(parameter);
+        if (defaultValue == null) {
+            System.out.println("Problem " + problemNumber + " has no parameter " + parameter + ". Its parameters are "
+                    + problem.getDefaultParameters().keySet() + ".");
+            return;
+        }
+
+        long sweepMax = parsedArgs.getSweepMaxOrDefault(defaultValue);
+        List<Long> sizes = SweepRunner.getSizes(parsedArgs.getSweepMinOrDefault(sweepMax), sweepMax,
+                parsedArgs.getSweepFactorOrDefault());
+        SweepRunner sweepRunner = new SweepRunner(
+                new BenchmarkRunner(parsedArgs.getWarmupIterationsOrDefault(), parsedArgs.getIterationsOrDefault()));
+        System.out.println("Sweeping " + parameter + " of Problem " + problemNumber + " over " + sizes.size()
+                + " values with " + parsedArgs.getWarmupIterationsOrDefault() + " warmup and "
+                + parsedArgs.getIterationsOrDefault() + " measured iterations each.");
+        System.out.println(parameter + " | Median | Allocated per iteration | Local exponent");
+
+        List<SweepRunner.SweepPoint> measured = new ArrayList<>();
+        SweepRunner.SweepResult sweep = sweepRunner.run(problemNumber, problem, parameter, sizes,
+                parsedArgs.getParameters(), point -> {
+                    String localExponent = "n/a";
+                    if (!measured.isEmpty()) {
+                        SweepRunner.SweepPoint last = measured.get(measured.size() - 1);
+                        localExponent = String.format(Locale.ROOT, "%.2f", GrowthCurve.getLocalExponent(
+                                last.getSize(), Math.max(1, last.getResult().getMedianNanos()),
+                                point.getSize(), Math.max(1, point.getResult().getMedianNanos())));
+                    }
+                    measured.add(point);
+                    System.out.println(point.getSize()
+                            + " | " + getExecutionTime(point.getResult().getMedianNanos())
+                            + " | " + getMemorySize(point.getResult().getAllocatedBytesPerIteration())
+                            + " | " + localExponent);
+                });
+
+        GrowthCurve curve = sweep.getGrowthCurve();
+        System.out.println();
+        System.out.println(String.format(Locale.ROOT, "Median time ~ %s^%.2f (R^2 %.3f)", parameter,
+                curve.getExponent(), curve.getRSquared()));
+    }
+
+    private static void runBenchmark(CommandLineArgs parsedArgs) {
+        List<BenchmarkResult> results = benchmarkProblems(parsedArgs);
+        if (results == null || parsedArgs.getOutputPath() == null) {
+            return;
+        }
+
+        Path outputPath = Path.of(parsedArgs.getOutputPath());
+        try (Writer writer = Files.newBufferedWriter(outputPath)) {
+            new BenchmarkReportWriter().write(results, parsedArgs.getOutputFormat(), writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write benchmark results to " + outputPath, e);
+        }
+        System.out.println("Wrote results to " + outputPath);
+    }
+
+    private static void writeBaseline(CommandLineArgs parsedArgs) {
+        List<BenchmarkResult> results = benchmarkProblems(parsedArgs);
+        if (results == null) {
+            return;
+        }
+
+        Path baselinePath = Path.of(parsedArgs.getBaselinePathOrDefault());
+        PerformanceBaseline.fromResults(results).save(baselinePath);
+        System.out.println("Wrote baseline to " + baselinePath);
+    }
+
+    /**
+     * Benchmarks the problems and compares them against the baseline, printing the comparisons worst first. Exits
+     * with status 1 if any problem regressed, so scripts and CI jobs can fail on it.
+     */
+    private static void compareBaseline(CommandLineArgs parsedArgs) {
+        PerformanceBaseline baseline = PerformanceBaseline.load(Path.of(parsedArgs.getBaselinePathOrDefault()));
+        List<BenchmarkResult> results = benchmarkProblems(parsedArgs);
+        if (results == null) {
+            return;
+        }
+
+        BaselineComparator comparator = new BaselineComparator(parsedArgs.getTimeThresholdPercentOrDefault(),
+                parsedArgs.getAllocationThresholdPercentOrDefault());
+        List<ProblemComparison> comparisons = comparator.compare(baseline, results);
+
         System.out.println();
-        System.out.println("Problem " + problemNumber + ":");
+        System.out.println("Compared against " + parsedArgs.getBaselinePathOrDefault() + ", allowing +"
+                + parsedArgs.getTimeThresholdPercentOrDefault() + "% median time and +"
+                + parsedArgs.getAllocationThresholdPercentOrDefault() + "% allocation.");
+        System.out.println("Problem | Status | Baseline median | Median | Change | Baseline allocated | Allocated "
+                + "| Change");
+        for (ProblemComparison comparison : comparisons) {
+            if (!comparison.isInBaseline()) {
+                System.out.println(comparison.getProblemNumber() + " | NEW | n/a | "
+                        + getExecutionTime(comparison.getMedianNanos()) + " | n/a | n/a | "
+                        + getMemorySize(comparison.getAllocatedBytes()) + " | n/a");
+                continue;
+            }
+
+            String status = comparison.isTimeRegression() && comparison.isAllocationRegression() ? "SLOWER, MORE MEMORY"
+                    : comparison.isTimeRegression() ? "SLOWER"
+                    : comparison.isAllocationRegression() ? "MORE MEMORY"
+                    : "OK";
+            System.out.println(comparison.getProblemNumber()
+                    + " | " + status
+                    + " | " + getExecutionTime(comparison.getBaselineMedianNanos())
+                    + " | " + getExecutionTime(comparison.getMedianNanos())
+                    + " | " + getChangePercent(comparison.getTimeChangePercent())
+                    + " | " + getMemorySize(comparison.getBaselineAllocatedBytes())
+                    + " | " + getMemorySize(comparison.getAllocatedBytes())
+                    + " | " + getChangePercent(comparison.getAllocationChangePercent()));
+        }
+
+        long regressionCount = comparisons.stream()
+                .filter(ProblemComparison::isRegression)
+                .count();
+        if (regressionCount > 0) {
+            System.out.println(regressionCount + " of " + comparisons.size() + " Problems regressed.");
+            System.exit(1);
+        }
+        System.out.println("No regressions in " + comparisons.size() + " Problems.");
+    }
+
+    /**
+     * Benchmarks one problem, or all of them in problem order, printing a line per problem as it finishes. Problems
+     * are run one at a time even if threads are given, so they don't compete with each other for CPU time.
+     *
+     * Returns null if the problem number isn't known.
+     */
+    private static List<BenchmarkResult> benchmarkProblems(CommandLineArgs parsedArgs) {
+        List<Integer> problemNumbers;
+        if (parsedArgs.getProblemNumber() == null) {
+            problemNumbers = problemRegistry.getProblemNumbers();
+        } else if (problemRegistry.hasProblem(parsedArgs.getProblemNumber())) {
+            problemNumbers = List.of(parsedArgs.getProblemNumber());
+        } else {
+            System.out.println("Problem Number provided is not known or is not solved yet.");
+            return null;
+        }
 
-        Problem problem = numberToProblem.get(problemNumber);
-        Instant startTime = Instant.now();
-        ProblemSolution solution = problem.solve();
-        Instant endTime = Instant.now();
+        BenchmarkRunner benchmarkRunner =
+                new BenchmarkRunner(parsedArgs.getWarmupIterationsOrDefault(), parsedArgs.getIterationsOrDefault());
+        System.out.println("Benchmarking with " + parsedArgs.getWarmupIterationsOrDefault() + " warmup and "
+                + parsedArgs.getIterationsOrDefault() + " measured iterations per Problem.");
+        System.out.println("Problem | Min | Median | p90 | p99 | Max | Std dev | Allocated per iteration | GCs (time) "
+                + "| Peak heap");
 
-        System.out.println("Solution: " + solution.getSolution());
-        System.out.println("Descriptive Solution: " + solution.getDescriptiveSolution());
-        System.out.println("Execution time: " + getExecutionTime(startTime, endTime));
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (int problemNumber : problemNumbers) {
+            BenchmarkResult result = benchmarkRunner.run(problemNumber, problemRegistry.getProblem(problemNumber),
+                    parsedArgs.getParameters());
+            results.add(result);
+            System.out.println(problemNumber
+                    + " | " + getExecutionTime(result.getMinNanos())
+                    + " | " + getExecutionTime(result.getMedianNanos())
+                    + " | " + getExecutionTime(result.getP90Nanos())
+                    + " | " + getExecutionTime(result.getP99Nanos())
+                    + " | " + getExecutionTime(result.getMaxNanos())
+                    + " | " + getExecutionTime(Math.round(result.getStdDevNanos()))
+                    + " | " + getMemorySize(result.getAllocatedBytesPerIteration())
+                    + " | " + result.getGcCount() + " (" + result.getGcMillis() + "ms)"
+                    + " | " + getMemorySize(result.getPeakHeapBytes()));
+        }
+        return results;
+    }
+
+    private static void printResult(ProblemResult result) {
+        System.out.println();
+        System.out.println("Problem " + result.getProblemNumber() + ":");
+        if (!result.getParameters().isEmpty()) {
+            System.out.println("Parameters: " + result.getParameters());
+        }
+        if (result.isCached()) {
+            System.out.println("Solution: " + result.getSolution().getSolution());
+            System.out.println("Descriptive Solution: " + result.getSolution().getDescriptiveSolution());
+            System.out.println("Cached, not run");
+            return;
+        }
+        if (result.isTimedOut()) {
+            System.out.println("TIMED OUT after " + getExecutionTime(result.getExecutionNanos()));
+            System.out.println("CPU time: " + getExecutionTime(result.getCpuNanos()));
+            return;
+        }
+        System.out.println("Solution: " + result.getSolution().getSolution());
+        System.out.println("Descriptive Solution: " + result.getSolution().getDescriptiveSolution());
+        System.out.println("Execution time: " + getExecutionTime(result.getExecutionNanos()));
+        System.out.println("CPU time: " + getExecutionTime(result.getCpuNanos()));
+
+        MemoryStats memoryStats = result.getMemoryStats();
+        if (memoryStats != null) {
+            System.out.println("Allocated: " + getMemorySize(memoryStats.getAllocatedBytes()));
+            System.out.println("GC: " + memoryStats.getGcCount() + " collections, " + memoryStats.getGcMillis() + "ms");
+            System.out.println("Peak heap: " + getMemorySize(memoryStats.getPeakHeapBytes()));
+        }
     }
 
     /**
@@ -252,8 +358,8 @@ public class ProjectEuler {
      * If the execution is less than 1 second and longer than 1 millisecond, then milliseconds are displayed. Otherwise,
      * nanoseconds are displayed.
      */
-    private static String getExecutionTime(Instant start, Instant end) {
-        Duration duration = Duration.between(start, end);
+    private static String getExecutionTime(long nanos) {
+        Duration duration = Duration.ofNanos(nanos);
 
         // All seconds, not just the ones less than 1 minute.
         long seconds = duration.getSeconds();
@@ -267,4 +373,32 @@ public class ProjectEuler {
         }
         return duration.toNanosPart() + "ns";
     }
+
+    private static String getChangePercent(double percent) {
+        if (Double.isNaN(percent)) {
+            return "n/a";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", percent);
+    }
+
+    /**
+     * Byte counts in the largest binary unit that keeps at least 1 before the decimal point, ex: 512B, 1.5KB, 2.0GB.
+     */
+    private static String getMemorySize(long bytes) {
+        if (bytes == MemoryProbe.UNSUPPORTED) {
+            return "n/a";
+        }
+        if (bytes < 1024) {
+            return bytes + "B";
+        }
+
+        String[] units = {"KB", "MB", "GB", "TB"};
+        double size = bytes;
+        int unit = -1;
+        while (size >= 1024 && unit < units.length - 1) {
+            size /= 1024;
+            unit++;
+        }
+        return String.format(Locale.ROOT, "%.1f%s", size, units[unit]);
+    }
 }
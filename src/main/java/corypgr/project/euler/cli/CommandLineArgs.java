@@ -1,10 +1,106 @@
 package corypgr.project.euler.cli;
 
+import corypgr.project.euler.daemon.DaemonProtocol;
+import corypgr.project.euler.runner.BaselineComparator;
+import corypgr.project.euler.runner.BenchmarkReportWriter;
+import corypgr.project.euler.runner.PerformanceBaseline;
 import lombok.Builder;
 import lombok.Value;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Value
 @Builder
 public class CommandLineArgs {
+    public static final int DEFAULT_WARMUP_ITERATIONS = 3;
+    public static final int DEFAULT_ITERATIONS = 10;
+    public static final double DEFAULT_SWEEP_FACTOR = 2;
+    public static final long DEFAULT_SWEEP_RANGE = 100;
+    public static final double DEFAULT_TIMEOUT_SECONDS = 60;
+
     private final Integer problemNumber;
+    private final Integer threads;
+    private final boolean memory;
+    private final Double timeoutSeconds;
+    private final boolean noCache;
+
+    /**
+     * Overrides for the problem's default parameters. Empty, never null, if none are given.
+     */
+    private final Map<String, Long> parameters;
+
+    private final boolean benchmark;
+    private final Integer warmupIterations;
+    private final Integer iterations;
+    private final String outputPath;
+    private final BenchmarkReportWriter.Format outputFormat;
+
+    private final boolean compareBaseline;
+    private final boolean writeBaseline;
+    private final String baselinePath;
+    private final Double timeThresholdPercent;
+    private final Double allocationThresholdPercent;
+
+    private final String sweepParameter;
+    private final Long sweepMin;
+    private final Long sweepMax;
+    private final Double sweepFactor;
+
+    private final boolean daemon;
+    private final Integer port;
+
+    /**
+     * Null if timeouts were turned off with a timeout of 0.
+     */
+    public Duration getTimeoutOrDefault() {
+        double seconds = (timeoutSeconds == null) ? DEFAULT_TIMEOUT_SECONDS : timeoutSeconds;
+        return (seconds == 0) ? null : Duration.ofNanos(Math.round(seconds * 1_000_000_000));
+    }
+
+    public int getWarmupIterationsOrDefault() {
+        return (warmupIterations == null) ? DEFAULT_WARMUP_ITERATIONS : warmupIterations;
+    }
+
+    public int getIterationsOrDefault() {
+        return (iterations == null) ? DEFAULT_ITERATIONS : iterations;
+    }
+
+    public int getPortOrDefault() {
+        return (port == null) ? DaemonProtocol.DEFAULT_PORT : port;
+    }
+
+    /**
+     * Defaults to the parameter's default value.
+     */
+    public long getSweepMaxOrDefault(long defaultValue) {
+        return (sweepMax == null) ? defaultValue : sweepMax;
+    }
+
+    /**
+     * Defaults to DEFAULT_SWEEP_RANGE times smaller than the sweep's max, but at least 1.
+     */
+    public long getSweepMinOrDefault(long sweepMax) {
+        return (sweepMin == null) ? Math.max(1, sweepMax / DEFAULT_SWEEP_RANGE) : sweepMin;
+    }
+
+    public double getSweepFactorOrDefault() {
+        return (sweepFactor == null) ? DEFAULT_SWEEP_FACTOR : sweepFactor;
+    }
+
+    public String getBaselinePathOrDefault() {
+        return (baselinePath == null) ? PerformanceBaseline.DEFAULT_PATH.toString() : baselinePath;
+    }
+
+    public double getTimeThresholdPercentOrDefault() {
+        return (timeThresholdPercent == null)
+                ? BaselineComparator.DEFAULT_MAX_TIME_INCREASE_PERCENT
+                : timeThresholdPercent;
+    }
+
+    public double getAllocationThresholdPercentOrDefault() {
+        return (allocationThresholdPercent == null)
+                ? BaselineComparator.DEFAULT_MAX_ALLOCATION_INCREASE_PERCENT
+                : allocationThresholdPercent;
+    }
 }
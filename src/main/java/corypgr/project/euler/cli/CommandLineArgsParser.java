@@ -1,5 +1,9 @@
 package corypgr.project.euler.cli;
 
+import corypgr.project.euler.daemon.DaemonProtocol;
+import corypgr.project.euler.runner.BaselineComparator;
+import corypgr.project.euler.runner.BenchmarkReportWriter;
+import corypgr.project.euler.runner.PerformanceBaseline;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -7,8 +11,33 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
 public class CommandLineArgsParser {
     private static final String PROBLEM_NUMBER_NAME = "problemNumber";
+    private static final String THREADS_NAME = "threads";
+    private static final String MEMORY_NAME = "memory";
+    private static final String TIMEOUT_NAME = "timeout";
+    private static final String NO_CACHE_NAME = "no-cache";
+    private static final String PARAM_NAME = "param";
+    private static final String SWEEP_NAME = "sweep";
+    private static final String SWEEP_MIN_NAME = "sweep-min";
+    private static final String SWEEP_MAX_NAME = "sweep-max";
+    private static final String SWEEP_FACTOR_NAME = "sweep-factor";
+    private static final String BENCHMARK_NAME = "benchmark";
+    private static final String WARMUP_NAME = "warmup";
+    private static final String ITERATIONS_NAME = "iterations";
+    private static final String OUTPUT_NAME = "output";
+    private static final String FORMAT_NAME = "format";
+    private static final String COMPARE_BASELINE_NAME = "compare-baseline";
+    private static final String WRITE_BASELINE_NAME = "write-baseline";
+    private static final String BASELINE_NAME = "baseline";
+    private static final String TIME_THRESHOLD_NAME = "time-threshold";
+    private static final String ALLOCATION_THRESHOLD_NAME = "allocation-threshold";
+    private static final String DAEMON_NAME = "daemon";
+    private static final String PORT_NAME = "port";
     private static final Options OPTIONS = createOptions();
 
     private static Options createOptions() {
@@ -21,6 +50,163 @@ public class CommandLineArgsParser {
                 .required(false)
                 .type(Number.class)
                 .build());
+        options.addOption(Option.builder()
+                .argName(THREADS_NAME)
+                .longOpt(THREADS_NAME)
+                .hasArg()
+                .desc("Number of threads to run all problems with when no problem number is given, or for a daemon")
+                .required(false)
+                .type(Number.class)
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(MEMORY_NAME)
+                .desc("Record allocated bytes, garbage collections, and peak heap for each problem. Always on when "
+                        + "benchmarking")
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .argName(TIMEOUT_NAME)
+                .longOpt(TIMEOUT_NAME)
+                .hasArg()
+                .desc("Seconds each problem can run before it is stopped and reported as timed out, 0 for no limit. "
+                        + "Doesn't apply when benchmarking. Default " + CommandLineArgs.DEFAULT_TIMEOUT_SECONDS)
+                .required(false)
+                .type(Number.class)
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(NO_CACHE_NAME)
+                .desc("Solve every problem, instead of reusing cached solutions for problems whose code hasn't "
+                        + "changed. Benchmarks and the daemon never use the cache")
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .argName("name=value")
+                .longOpt(PARAM_NAME)
+                .hasArg()
+                .desc("Override one of the problem's default parameters, ex: maxPrime=1000. Can be repeated. Needs "
+                        + PROBLEM_NUMBER_NAME)
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .argName("name")
+                .longOpt(SWEEP_NAME)
+                .hasArg()
+                .desc("Benchmark the problem at geometrically growing values of one of its parameters, and fit how "
+                        + "its time grows. Needs " + PROBLEM_NUMBER_NAME)
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .argName(SWEEP_MIN_NAME)
+                .longOpt(SWEEP_MIN_NAME)
+                .hasArg()
+                .desc("Smallest value to sweep. Default " + CommandLineArgs.DEFAULT_SWEEP_RANGE
+                        + " times smaller than the max")
+                .required(false)
+                .type(Number.class)
+                .build());
+        options.addOption(Option.builder()
+                .argName(SWEEP_MAX_NAME)
+                .longOpt(SWEEP_MAX_NAME)
+                .hasArg()
+                .desc("Largest value to sweep. Default the parameter's default value")
+                .required(false)
+                .type(Number.class)
+                .build());
+        options.addOption(Option.builder()
+                .argName(SWEEP_FACTOR_NAME)
+                .longOpt(SWEEP_FACTOR_NAME)
+                .hasArg()
+                .desc("How many times larger each swept value is than the last. Default "
+                        + CommandLineArgs.DEFAULT_SWEEP_FACTOR)
+                .required(false)
+                .type(Number.class)
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(BENCHMARK_NAME)
+                .desc("Benchmark the problem, or all problems, with warmup and repeated measured iterations")
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .argName(WARMUP_NAME)
+                .longOpt(WARMUP_NAME)
+                .hasArg()
+                .desc("Number of warmup iterations per problem when benchmarking. Default "
+                        + CommandLineArgs.DEFAULT_WARMUP_ITERATIONS)
+                .required(false)
+                .type(Number.class)
+                .build());
+        options.addOption(Option.builder()
+                .argName(ITERATIONS_NAME)
+                .longOpt(ITERATIONS_NAME)
+                .hasArg()
+                .desc("Number of measured iterations per problem when benchmarking. Default "
+                        + CommandLineArgs.DEFAULT_ITERATIONS)
+                .required(false)
+                .type(Number.class)
+                .build());
+        options.addOption(Option.builder()
+                .argName(OUTPUT_NAME)
+                .longOpt(OUTPUT_NAME)
+                .hasArg()
+                .desc("File to write benchmark results to")
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .argName(FORMAT_NAME)
+                .longOpt(FORMAT_NAME)
+                .hasArg()
+                .desc("Benchmark output format, json or csv. Defaults to the output file's extension, then json")
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(COMPARE_BASELINE_NAME)
+                .desc("Benchmark the problem, or all problems, and fail if any regressed from the baseline")
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(WRITE_BASELINE_NAME)
+                .desc("Benchmark the problem, or all problems, and save the results as the new baseline")
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .argName(BASELINE_NAME)
+                .longOpt(BASELINE_NAME)
+                .hasArg()
+                .desc("Baseline file to compare against or write. Default " + PerformanceBaseline.DEFAULT_PATH)
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .argName(TIME_THRESHOLD_NAME)
+                .longOpt(TIME_THRESHOLD_NAME)
+                .hasArg()
+                .desc("Percent increase in median time that counts as a regression. Default "
+                        + BaselineComparator.DEFAULT_MAX_TIME_INCREASE_PERCENT)
+                .required(false)
+                .type(Number.class)
+                .build());
+        options.addOption(Option.builder()
+                .argName(ALLOCATION_THRESHOLD_NAME)
+                .longOpt(ALLOCATION_THRESHOLD_NAME)
+                .hasArg()
+                .desc("Percent increase in allocated bytes that counts as a regression. Default "
+                        + BaselineComparator.DEFAULT_MAX_ALLOCATION_INCREASE_PERCENT)
+                .required(false)
+                .type(Number.class)
+                .build());
+        options.addOption(Option.builder()
+                .longOpt(DAEMON_NAME)
+                .desc("Keep running, solving problems requested over a loopback socket. Solves on threads threads, "
+                        + "default one per processor")
+                .required(false)
+                .build());
+        options.addOption(Option.builder()
+                .argName(PORT_NAME)
+                .longOpt(PORT_NAME)
+                .hasArg()
+                .desc("Port for the daemon to listen on. Default " + DaemonProtocol.DEFAULT_PORT)
+                .required(false)
+                .type(Number.class)
+                .build());
 
         return options;
     }
@@ -30,14 +216,132 @@ public class CommandLineArgsParser {
         try {
             CommandLine commandLine = parser.parse(OPTIONS, args);
 
-            if (commandLine.hasOption(PROBLEM_NUMBER_NAME)) {
-                return CommandLineArgs.builder()
-                        .problemNumber(((Long) commandLine.getParsedOptionValue(PROBLEM_NUMBER_NAME)).intValue())
-                        .build();
+            // Options that aren't given are left null. A null ProblemNumber runs all corypgr.project.euler.problems.
+            CommandLineArgs.CommandLineArgsBuilder builder = CommandLineArgs.builder()
+                    .problemNumber(getInt(commandLine, PROBLEM_NUMBER_NAME))
+                    .threads(getPositiveInt(commandLine, THREADS_NAME))
+                    .memory(commandLine.hasOption(MEMORY_NAME))
+                    .timeoutSeconds(getNonNegativeDouble(commandLine, TIMEOUT_NAME))
+                    .noCache(commandLine.hasOption(NO_CACHE_NAME))
+                    .parameters(getParameters(commandLine))
+                    .sweepParameter(commandLine.getOptionValue(SWEEP_NAME))
+                    .sweepMin(getPositiveLong(commandLine, SWEEP_MIN_NAME))
+                    .sweepMax(getPositiveLong(commandLine, SWEEP_MAX_NAME))
+                    .benchmark(commandLine.hasOption(BENCHMARK_NAME))
+                    .outputPath(commandLine.getOptionValue(OUTPUT_NAME))
+                    .compareBaseline(commandLine.hasOption(COMPARE_BASELINE_NAME))
+                    .writeBaseline(commandLine.hasOption(WRITE_BASELINE_NAME))
+                    .baselinePath(commandLine.getOptionValue(BASELINE_NAME))
+                    .timeThresholdPercent(getNonNegativeDouble(commandLine, TIME_THRESHOLD_NAME))
+                    .allocationThresholdPercent(getNonNegativeDouble(commandLine, ALLOCATION_THRESHOLD_NAME))
+                    .daemon(commandLine.hasOption(DAEMON_NAME))
+                    .port(getInt(commandLine, PORT_NAME));
+            if (commandLine.hasOption(COMPARE_BASELINE_NAME) && commandLine.hasOption(WRITE_BASELINE_NAME)) {
+                throw new IllegalArgumentException("Error parsing command line options: only one of "
+                        + COMPARE_BASELINE_NAME + " and " + WRITE_BASELINE_NAME + " can be given");
             }
-            return CommandLineArgs.builder().build(); // null ProblemNumber. Run for all corypgr.project.euler.problems.
+
+            if ((commandLine.hasOption(PARAM_NAME) || commandLine.hasOption(SWEEP_NAME))
+                    && !commandLine.hasOption(PROBLEM_NUMBER_NAME)) {
+                throw new IllegalArgumentException("Error parsing command line options: " + PARAM_NAME + " and "
+                        + SWEEP_NAME + " need " + PROBLEM_NUMBER_NAME);
+            }
+            Double sweepFactor = getNonNegativeDouble(commandLine, SWEEP_FACTOR_NAME);
+            if (sweepFactor != null && !(sweepFactor > 1)) {
+                throw new IllegalArgumentException("Error parsing command line options: " + SWEEP_FACTOR_NAME
+                        + " must be greater than 1");
+            }
+            builder.sweepFactor(sweepFactor);
+
+            Integer warmupIterations = getInt(commandLine, WARMUP_NAME);
+            if (warmupIterations != null && warmupIterations < 0) {
+                throw new IllegalArgumentException("Error parsing command line options: warmup can't be negative");
+            }
+            builder.warmupIterations(warmupIterations);
+            builder.iterations(getPositiveInt(commandLine, ITERATIONS_NAME));
+
+            if (commandLine.hasOption(FORMAT_NAME)) {
+                builder.outputFormat(getFormat(commandLine.getOptionValue(FORMAT_NAME)));
+            } else if (commandLine.hasOption(OUTPUT_NAME)) {
+                String outputPath = commandLine.getOptionValue(OUTPUT_NAME);
+                builder.outputFormat(BenchmarkReportWriter.Format.fromFileName(outputPath));
+            }
+            return builder.build();
         } catch (ParseException e) {
             throw new IllegalArgumentException("Error parsing command line options: " + e.getMessage());
         }
     }
+
+    private static Integer getInt(CommandLine commandLine, String name) throws ParseException {
+        if (!commandLine.hasOption(name)) {
+            return null;
+        }
+        return ((Long) commandLine.getParsedOptionValue(name)).intValue();
+    }
+
+    private static Integer getPositiveInt(CommandLine commandLine, String name) throws ParseException {
+        Integer val = getInt(commandLine, name);
+        if (val != null && val < 1) {
+            throw new IllegalArgumentException("Error parsing command line options: " + name + " must be positive");
+        }
+        return val;
+    }
+
+    private static Long getPositiveLong(CommandLine commandLine, String name) throws ParseException {
+        if (!commandLine.hasOption(name)) {
+            return null;
+        }
+
+        long val = (Long) commandLine.getParsedOptionValue(name);
+        if (val < 1) {
+            throw new IllegalArgumentException("Error parsing command line options: " + name + " must be positive");
+        }
+        return val;
+    }
+
+    /**
+     * Each value is name=value with a whole number value. Later values for the same name win.
+     */
+    private static Map<String, Long> getParameters(CommandLine commandLine) {
+        Map<String, Long> parameters = new LinkedHashMap<>();
+        String[] values = commandLine.getOptionValues(PARAM_NAME);
+        if (values == null) {
+            return parameters;
+        }
+
+        for (String value : values) {
+            int equals = value.indexOf('=');
+            if (equals < 1) {
+                throw new IllegalArgumentException("Error parsing command line options: " + PARAM_NAME
+                        + " must be name=value, not " + value);
+            }
+            try {
+                parameters.put(value.substring(0, equals), Long.parseLong(value.substring(equals + 1)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Error parsing command line options: " + PARAM_NAME
+                        + " values must be whole numbers, not " + value);
+            }
+        }
+        return parameters;
+    }
+
+    private static Double getNonNegativeDouble(CommandLine commandLine, String name) throws ParseException {
+        if (!commandLine.hasOption(name)) {
+            return null;
+        }
+
+        double val = ((Number) commandLine.getParsedOptionValue(name)).doubleValue();
+        if (!(val >= 0)) {
+            throw new IllegalArgumentException("Error parsing command line options: " + name + " can't be negative");
+        }
+        return val;
+    }
+
+    private static BenchmarkReportWriter.Format getFormat(String format) {
+        try {
+            return BenchmarkReportWriter.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Error parsing command line options: unknown format " + format);
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package corypgr.project.euler.daemon;
+
+import corypgr.project.euler.runner.ProblemResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The line based protocol between SolverDaemon and its clients. Each request is a single line, and gets a single line
+ * of JSON back:
+ *  * "<problemNumber> [name=value ...]" solves a problem. The response has the problemNumber, solution,
+ *    descriptiveSolution, executionNanos, and cpuNanos.
+ *  * "ping" responds with {"status": "ok"}.
+ *  * "shutdown" responds with {"status": "shutting down"}, then stops the daemon.
+ *
+ * Anything that goes wrong, including a problem timing out, gets {"error": "..."} instead, with the problemNumber if it
+ * was known. Since every request is a plain line, something like `echo 7 | nc 127.0.0.1 7878` works as a client too.
+ */
+public final class DaemonProtocol {
+    public static final int DEFAULT_PORT = 7878;
+    public static final String PING = "ping";
+    public static final String SHUTDOWN = "shutdown";
+
+    private DaemonProtocol() {
+    }
+
+    /**
+     * Parses a solve request. Throws IllegalArgumentException if it isn't a problem number followed by name=value
+     * pairs with whole number values.
+     */
+    public static SolveRequest parseSolveRequest(String line) {
+        String[] parts = line.trim().split("\\s+");
+        int problemNumber;
+        try {
+            problemNumber = Integer.parseInt(parts[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a problem number but found: " + parts[0]);
+        }
+
+        Map<String, Long> params = new LinkedHashMap<>();
+        for (int i = 1; i < parts.length; i++) {
+            int equals = parts[i].indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Expected name=value but found: " + parts[i]);
+            }
+            try {
+                params.put(parts[i].substring(0, equals), Long.parseLong(parts[i].substring(equals + 1)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Parameter values must be whole numbers: " + parts[i]);
+            }
+        }
+        return new SolveRequest(problemNumber, params);
+    }
+
+    public static String toJson(ProblemResult result) {
+        if (result.isTimedOut()) {
+            return errorJson(result.getProblemNumber(),
+                    "Timed out after " + TimeUnit.NANOSECONDS.toMillis(result.getExecutionNanos()) + "ms.");
+        }
+        return "{\"problemNumber\": " + result.getProblemNumber()
+                + ", \"solution\": " + result.getSolution().getSolution()
+                + ", \"descriptiveSolution\": " + quote(result.getSolution().getDescriptiveSolution())
+                + ", \"executionNanos\": " + result.getExecutionNanos()
+                + ", \"cpuNanos\": " + result.getCpuNanos() + "}";
+    }
+
+    public static String statusJson(String status) {
+        return "{\"status\": " + quote(status) + "}";
+    }
+
+    /**
+     * problemNumber may be null if the request couldn't be parsed.
+     */
+    public static String errorJson(Integer problemNumber, String message) {
+        String problemNumberField = (problemNumber == null) ? "" : "\"problemNumber\": " + problemNumber + ", ";
+        return "{" + problemNumberField + "\"error\": " + quote(message) + "}";
+    }
+
+    static String quote(String val) {
+        if (val == null) {
+            return "null";
+        }
+
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : val.toCharArray()) {
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
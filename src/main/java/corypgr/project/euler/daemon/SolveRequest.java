@@ -0,0 +1,14 @@
+package corypgr.project.euler.daemon;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * A problem to solve, with any parameter overrides.
+ */
+@Value
+public class SolveRequest {
+    private final int problemNumber;
+    private final Map<String, Long> params;
+}
@@ -0,0 +1,79 @@
+package corypgr.project.euler.daemon;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Sends requests to a SolverDaemon on this machine over a single connection. Not thread safe, so use one per thread.
+ *
+ * Run from the command line with a request, ex: SolverClient [--port 7878] 7
+ * The response is printed as is, and the exit status is 1 if it was an error.
+ */
+public class SolverClient implements Closeable {
+    private static final String PORT_ARG = "--port";
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+
+    public SolverClient(int port) throws IOException {
+        this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Sends a single request line and returns the JSON response line. Throws IOException if the daemon closes the
+     * connection without responding.
+     */
+    public String send(String request) throws IOException {
+        if (request.contains("\n") || request.contains("\r")) {
+            throw new IllegalArgumentException("Requests must be a single line.");
+        }
+
+        writer.write(request + "\n");
+        writer.flush();
+        String response = reader.readLine();
+        if (response == null) {
+            throw new IOException("The daemon closed the connection without responding.");
+        }
+        return response;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = DaemonProtocol.DEFAULT_PORT;
+        int requestStart = 0;
+        if (args.length >= 2 && PORT_ARG.equals(args[0])) {
+            port = Integer.parseInt(args[1]);
+            requestStart = 2;
+        }
+        if (requestStart == args.length) {
+            System.err.println(
+                    "Usage: SolverClient [--port <port>] <problemNumber> [name=value ...] | ping | shutdown");
+            System.exit(2);
+        }
+
+        String request = String.join(" ", Arrays.copyOfRange(args, requestStart, args.length));
+        String response;
+        try (SolverClient client = new SolverClient(port)) {
+            response = client.send(request);
+        }
+        System.out.println(response);
+        if (response.contains("\"error\":")) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package corypgr.project.euler.daemon;
+
+import corypgr.project.euler.problems.ProblemRegistry;
+import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.runner.ProblemRunner;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps a JVM running to solve problems on request, so repeated runs skip JVM startup, class loading, and JIT warmup.
+ * Requests and responses follow DaemonProtocol.
+ *
+ * Only listens on the loopback address. Each connection is handled by a fixed size pool of threads, and can send any
+ * number of requests one after another. Connections waiting for a thread are queued up to queueCapacity, and beyond
+ * that get a "busy" error and are closed. Connections that go quiet for IDLE_TIMEOUT_MILLIS are closed too, so idle
+ * clients can't hold on to threads. Problems that time out without stopping keep a thread busy outside the pool, so
+ * once numThreads of those are still running, solve requests get a "busy" error until some finish.
+ *
+ * Problems come from a shared ProblemRegistry. They keep no state between solve calls, so the same instance can be
+ * solved on several threads at once.
+ */
+public class SolverDaemon implements Closeable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+    static final int IDLE_TIMEOUT_MILLIS = 60_000;
+
+    private final ProblemRegistry problemRegistry;
+    private final ProblemRunner problemRunner;
+    private final int port;
+    private final int numThreads;
+    private final ThreadPoolExecutor pool;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    private volatile ServerSocket serverSocket;
+
+    public SolverDaemon(ProblemRegistry problemRegistry, int port, int numThreads) {
+        this(problemRegistry, port, numThreads, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public SolverDaemon(ProblemRegistry problemRegistry, int port, int numThreads, int queueCapacity) {
+        this(problemRegistry, port, numThreads, queueCapacity, new ProblemRunner());
+    }
+
+    /**
+     * A port of 0 picks any free port. See start. Every problem is solved with problemRunner, so give it a timeout to
+     * answer requests for runaway problems with an error.
+     */
+    public SolverDaemon(ProblemRegistry problemRegistry, int port, int numThreads, int queueCapacity,
+                        ProblemRunner problemRunner) {
+        if (port < 0 || port > 0xFFFF) {
+            throw new IllegalArgumentException("port must be in [0, 65535].");
+        }
+        if (numThreads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("numThreads and queueCapacity must be positive.");
+        }
+
+        this.problemRegistry = problemRegistry;
+        this.problemRunner = problemRunner;
+        this.port = port;
+        this.numThreads = numThreads;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(numThreads, numThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "solver-daemon-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Binds to the loopback address and starts accepting connections on a background thread. Returns the port it is
+     * listening on.
+     */
+    public synchronized int start() throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Already started.");
+        }
+
+        serverSocket = new ServerSocket(port, numThreads, InetAddress.getLoopbackAddress());
+        Thread acceptThread = new Thread(this::acceptConnections, "solver-daemon-accept");
+        acceptThread.start();
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Blocks until the daemon is closed, either by close or a shutdown request.
+     */
+    public void awaitShutdown() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Stops accepting connections and interrupts any requests being solved.
+     */
+    @Override
+    public void close() {
+        ServerSocket socket = serverSocket;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Already as closed as it's going to get.
+            }
+        }
+        pool.shutdownNow();
+        stopped.countDown();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                // The server socket was closed.
+                break;
+            }
+
+            try {
+                pool.execute(() -> handleConnection(socket));
+            } catch (RejectedExecutionException e) {
+                rejectConnection(socket);
+            }
+        }
+        close();
+    }
+
+    private void handleConnection(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String request = line.trim();
+                if (request.isEmpty()) {
+                    continue;
+                }
+
+                writer.write(handleRequest(request) + "\n");
+                writer.flush();
+                if (DaemonProtocol.SHUTDOWN.equals(request)) {
+                    close();
+                    return;
+                }
+            }
+        } catch (SocketTimeoutException e) {
+            // Idle client. Drop it to free up the thread.
+        } catch (IOException e) {
+            // The client went away. Nothing to respond to.
+        }
+    }
+
+    private static void rejectConnection(Socket socket) {
+        try (socket; Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write(DaemonProtocol.errorJson(null, "busy") + "\n");
+        } catch (IOException e) {
+            // The client went away.
+        }
+    }
+
+    String handleRequest(String request) {
+        if (DaemonProtocol.PING.equals(request)) {
+            return DaemonProtocol.statusJson("ok");
+        }
+        if (DaemonProtocol.SHUTDOWN.equals(request)) {
+            return DaemonProtocol.statusJson("shutting down");
+        }
+
+        SolveRequest solveRequest;
+        try {
+            solveRequest = DaemonProtocol.parseSolveRequest(request);
+        } catch (IllegalArgumentException e) {
+            return DaemonProtocol.errorJson(null, e.getMessage());
+        }
+
+        int problemNumber = solveRequest.getProblemNumber();
+        if (!problemRegistry.hasProblem(problemNumber)) {
+            return DaemonProtocol.errorJson(problemNumber,
+                    "Problem " + problemNumber + " is not known or is not solved yet.");
+        }
+
+        if (problemRunner.getRunawayThreadCount() >= numThreads) {
+            return DaemonProtocol.errorJson(problemNumber, "busy");
+        }
+
+        try {
+            Problem problem = problemRegistry.getProblem(problemNumber);
+            return DaemonProtocol.toJson(problemRunner.run(problemNumber, problem, solveRequest.getParams()));
+        } catch (IllegalArgumentException e) {
+            // Unknown or out of range parameters.
+            return DaemonProtocol.errorJson(problemNumber, e.getMessage());
+        } catch (RuntimeException e) {
+            return DaemonProtocol.errorJson(problemNumber, "Failed to solve: " + e);
+        }
+    }
+}
@@ -2,9 +2,11 @@ package corypgr.project.euler.problems;
 
 import corypgr.project.euler.problems.prime.PrimeGenerator;
 import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemParameters;
 import corypgr.project.euler.problems.util.ProblemSolution;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Problem 10
@@ -14,12 +16,25 @@ import java.util.List;
  * With our PrimeGenerator this problem is pretty easy.
  */
 public class PE0010 implements Problem {
+    public static final String MAX_PRIME_PARAM = "maxPrime";
     private static final long MAX_PRIME = 2_000_000;
 
+    @Override
+    public Map<String, Long> getDefaultParameters() {
+        return Map.of(MAX_PRIME_PARAM, MAX_PRIME);
+    }
+
+    @Override
     public ProblemSolution solve() {
+        return solve(Map.of());
+    }
+
+    @Override
+    public ProblemSolution solve(Map<String, Long> overrides) {
+        long maxPrime = ProblemParameters.withOverrides(getDefaultParameters(), overrides).get(MAX_PRIME_PARAM, 2);
         PrimeGenerator primeGenerator = new PrimeGenerator();
 
-        List<Long> primes = primeGenerator.generatePrimesList(MAX_PRIME);
+        List<Long> primes = primeGenerator.generatePrimesList(maxPrime);
         long sum = primes.stream()
                 .mapToLong(Long::longValue)
                 .sum();
@@ -1,6 +1,8 @@
 package corypgr.project.euler.problems;
 
+import corypgr.project.euler.problems.util.Cancellation;
 import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemParameters;
 import corypgr.project.euler.problems.util.ProblemSolution;
 
 import java.util.HashMap;
@@ -15,15 +17,31 @@ import java.util.Map;
  * I don't think we'll be able to pre-generate everything. I'll go with recursion and memoization.
  */
 public class PE0014 implements Problem {
+    public static final String MAX_START_PARAM = "maxStart";
     private static final long MAX_START = 1_000_000L;
+
+    @Override
+    public Map<String, Long> getDefaultParameters() {
+        return Map.of(MAX_START_PARAM, MAX_START);
+    }
+
     @Override
     public ProblemSolution solve() {
+        return solve(Map.of());
+    }
+
+    @Override
+    public ProblemSolution solve(Map<String, Long> overrides) {
+        long maxStart = ProblemParameters.withOverrides(getDefaultParameters(), overrides).get(MAX_START_PARAM, 2);
         Map<Long, Long> numberToSequenceCount = new HashMap<>();
         numberToSequenceCount.put(1L,1L);
 
         long bestStartVal = 0L;
         long bestSequenceCount = 0L;
-        for (long i = 1; i < MAX_START; i++) {
+        for (long i = 1; i < maxStart; i++) {
+            if ((i & 0xFFFF) == 0) {
+                Cancellation.checkInterrupted();
+            }
             long sequenceCount = getSequenceCount(i, numberToSequenceCount);
             if (sequenceCount > bestSequenceCount) {
                 bestSequenceCount = sequenceCount;
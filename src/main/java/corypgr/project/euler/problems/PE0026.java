@@ -12,22 +12,24 @@ import corypgr.project.euler.problems.util.ProblemSolution;
  * I was actually asked a question similar to this in an interview, so I've given some thought on how to detect the
  * repeating part of the decimal. Basically, you track the remainder and when it repeats that is where your repeating
  * decimal is. We can roll our own division algorithm to determine this.
+ *
+ * -------
+ * We only ever needed the length of the repeating part, not the digits. DivisionUtil can now calculate the lengths
+ * for every denominator at once without building any Strings, so this uses that instead.
  */
 public class PE0026 implements Problem {
+    private static final int MAX_DENOMINATOR = 999;
+
     @Override
     public ProblemSolution solve() {
         DivisionUtil util = new DivisionUtil();
+        int[] repeatingLengths = util.getRepeatingDecimalLengths(MAX_DENOMINATOR);
+
         int bestDenominator = 0;
         int bestDenominatorLength = 0;
-
-        for (int i = 1; i < 1000; i++) {
-            String divisionString = util.divideWithRepeatingDecimalRepresentation(1, i);
-            String[] divisionParts = divisionString.split("[()]");
-
-            // Only process the pieces that have parens. If it is length 1 then there are no parens.
-            // The second part is the piece between the parens.
-            if (divisionParts.length != 1 && divisionParts[1].length() > bestDenominatorLength) {
-                bestDenominatorLength = divisionParts[1].length();
+        for (int i = 1; i <= MAX_DENOMINATOR; i++) {
+            if (repeatingLengths[i] > bestDenominatorLength) {
+                bestDenominatorLength = repeatingLengths[i];
                 bestDenominator = i;
             }
         }
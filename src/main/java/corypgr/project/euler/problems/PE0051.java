@@ -1,6 +1,7 @@
 package corypgr.project.euler.problems;
 
 import corypgr.project.euler.problems.prime.PrimeGenerator;
+import corypgr.project.euler.problems.util.Cancellation;
 import corypgr.project.euler.problems.util.CountMap;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
@@ -58,6 +59,7 @@ public class PE0051 implements Problem {
             List<List<Integer>> masks = getMasks(numDigits, numZeroes);
 
             for (List<Integer> mask : masks) {
+                Cancellation.checkInterrupted();
                 CountMap<Long> countMap = new CountMap<>();
                 primesAsListOfInts.stream()
                         .filter(prime -> isMaskingOnSameDigit(prime, mask))
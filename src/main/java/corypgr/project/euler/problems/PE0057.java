@@ -1,5 +1,7 @@
 package corypgr.project.euler.problems;
 
+import corypgr.project.euler.problems.util.ContinuedFractionUtil;
+import corypgr.project.euler.problems.util.ContinuedFractionUtil.ConvergentSequence;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
 
@@ -15,27 +17,25 @@ import java.math.BigInteger;
  * directly from the previous value.
  *
  * Need to use BigInteger again. The expansions grow very quickly.
+ *
+ * -------
+ * The expansions are just the convergents of sqrt(2), so this now uses the ConvergentSequence from
+ * ContinuedFractionUtil. That keeps the early expansions in longs and only switches to BigInteger once they overflow.
  */
 public class PE0057 implements Problem {
+    private static final int NUM_EXPANSIONS = 1000;
+
     @Override
     public ProblemSolution solve() {
         int countOfNumeratorLongerThanDenominator = 0;
 
-        BigInteger prevNumerator = BigInteger.valueOf(3);
-        BigInteger numerator = BigInteger.valueOf(7);
-        BigInteger prevDenominator = BigInteger.valueOf(2);
-        BigInteger denominator = BigInteger.valueOf(5);
-        for (int i = 3; i <= 1000; i++) {
-            BigInteger nextNumerator = numerator.multiply(BigInteger.TWO).add(prevNumerator);
-            BigInteger nextDenominator = denominator.multiply(BigInteger.TWO).add(prevDenominator);
-            if (numDigits(nextNumerator) > numDigits(nextDenominator)) {
+        // The first convergent is the whole part (1 / 1), which isn't one of the expansions.
+        ConvergentSequence expansions = new ContinuedFractionUtil().getConvergentSequenceOfSquareRoot(2);
+        for (int i = 1; i <= NUM_EXPANSIONS; i++) {
+            expansions.advance();
+            if (numeratorIsLonger(expansions)) {
                 countOfNumeratorLongerThanDenominator++;
             }
-
-            prevNumerator = numerator;
-            numerator = nextNumerator;
-            prevDenominator = denominator;
-            denominator = nextDenominator;
         }
 
         return ProblemSolution.builder()
@@ -45,6 +45,21 @@ public class PE0057 implements Problem {
                 .build();
     }
 
+    private boolean numeratorIsLonger(ConvergentSequence expansion) {
+        if (expansion.fitsInLong()) {
+            return numDigits(expansion.getNumeratorAsLong()) > numDigits(expansion.getDenominatorAsLong());
+        }
+        return numDigits(expansion.getNumerator()) > numDigits(expansion.getDenominator());
+    }
+
+    private int numDigits(long num) {
+        int digits = 1;
+        for (long remaining = num / 10; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
     private int numDigits(BigInteger num) {
         return num.toString().length();
     }
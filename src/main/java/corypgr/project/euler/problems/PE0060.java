@@ -1,6 +1,7 @@
 package corypgr.project.euler.problems;
 
 import corypgr.project.euler.problems.prime.PrimeGenerator;
+import corypgr.project.euler.problems.util.Cancellation;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
 
@@ -63,6 +64,7 @@ public class PE0060 implements Problem {
         Set<Long> newSeenPrimes = new HashSet<>(seenPrimes);
 
         for (long prime : intersectionSoFar) {
+            Cancellation.checkInterrupted();
             if (!newSeenPrimes.contains(prime)) {
                 newSeenPrimes.add(prime);
                 List<Long> newIntersection = intersection(intersectionSoFar, primeToGrouping.get(prime));
@@ -83,6 +85,7 @@ public class PE0060 implements Problem {
         Map<Long, List<Long>> primeToGrouping = new HashMap<>();
         Iterator<Long> primeIterOuter = primes.iterator();
         for (long primeOuter = primeIterOuter.next(); primeOuter < MAX_GROUPING_PRIME; primeOuter = primeIterOuter.next()) {
+            Cancellation.checkInterrupted();
             List<Long> grouping = new LinkedList<>();
             Iterator<Long> primeIterInner = primes.iterator();
             for (long primeInner = primeIterInner.next(); primeInner < MAX_GROUPING_PRIME; primeInner = primeIterInner.next()) {
@@ -39,14 +39,20 @@ import java.util.stream.IntStream;
  *
  * ------
  * Refactored the continued fraction functionality into ContinuedFractionUtil after working on Problem 66.
+ *
+ * ------
+ * We only need the period lengths here, so this now uses the bulk period calculation in ContinuedFractionUtil. It
+ * skips building the continued fractions entirely.
  */
 public class PE0064 implements Problem {
+    private static final int MAX_N = 10000;
+
     @Override
     public ProblemSolution solve() {
         ContinuedFractionUtil continuedFractionUtil = new ContinuedFractionUtil();
-        long count = IntStream.rangeClosed(1, 10000)
-                .mapToObj(continuedFractionUtil::getContinuedFractionOfSquareRoot)
-                .filter(v -> v.getRepeatedContinuedPart().size() % 2 == 1)
+        int[] periods = continuedFractionUtil.getPeriodsOfSquareRoots(MAX_N);
+        long count = IntStream.rangeClosed(1, MAX_N)
+                .filter(n -> periods[n] % 2 == 1)
                 .count();
 
         return ProblemSolution.builder()
@@ -1,14 +1,13 @@
 package corypgr.project.euler.problems;
 
-import corypgr.project.euler.problems.util.ContinuedFractionUtil;
+import corypgr.project.euler.problems.util.ContinuedFractionUtil.ConvergentSequence;
 import corypgr.project.euler.problems.util.ContinuedFractionUtil.RationalFraction;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
 
 import java.math.BigInteger;
 import java.util.Arrays;
-import java.util.Iterator;
-import java.util.stream.Stream;
+import java.util.PrimitiveIterator;
 
 /**
  * Problem 65
@@ -43,6 +42,10 @@ import java.util.stream.Stream;
  * -------
  * Refactored this a bit after working on Problem 66. We now generate the full convergents (numerator and denominator)
  * and pull out the numerator value for the solution.
+ *
+ * -------
+ * Swapped over to ContinuedFractionUtil's ConvergentSequence, which steps through the convergents in place and only
+ * moves to BigIntegers once the numbers get too large for a long.
  */
 public class PE0065 implements Problem {
     private static final int CONVERGENT_NUMBER_POSITION = 100;
@@ -59,18 +62,16 @@ public class PE0065 implements Problem {
     }
 
     private RationalFraction getTargetConvergentFraction() {
-        ContinuedFractionUtil continuedFractionUtil = new ContinuedFractionUtil();
-        Iterator<RationalFraction> convergentIterator =
-                continuedFractionUtil.getConvergentsUsingContinuedFractionVals(2, getContinuedFractionIterator());
+        ConvergentSequence convergentSequence = new ConvergentSequence(2, getContinuedFractionIterator());
 
-        // Uses an infinite stream while the iterator isn't infinite. Since we know when the iterator ends, this is ok.
-        return Stream.generate(convergentIterator::next)
-                .skip(CONVERGENT_NUMBER_POSITION - 1)
-                .findFirst()
-                .get();
+        // The sequence starts on the first convergent.
+        for (int i = 1; i < CONVERGENT_NUMBER_POSITION; i++) {
+            convergentSequence.advance();
+        }
+        return convergentSequence.toRationalFraction();
     }
 
-    private Iterator<Integer> getContinuedFractionIterator() {
+    private PrimitiveIterator.OfInt getContinuedFractionIterator() {
         int[] continuedFraction = new int[CONVERGENT_NUMBER_POSITION];
 
         // Start by filling with all 1s. We'll replace every third element next.
@@ -1,13 +1,10 @@
 package corypgr.project.euler.problems;
 
-import corypgr.project.euler.problems.util.ContinuedFractionUtil;
-import corypgr.project.euler.problems.util.ContinuedFractionUtil.RationalFraction;
+import corypgr.project.euler.problems.util.PellSolver;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
 
 import java.math.BigInteger;
-import java.util.Iterator;
-import java.util.stream.Stream;
 
 /**
  * Problem 66
@@ -27,18 +24,24 @@ import java.util.stream.Stream;
  *
  * I created a utility for generalizing the continued fraction and convergent generation, and swapped that in here to
  * come up with the current solution.
+ *
+ * Later moved over to the ConvergentSequence, which keeps the convergents in longs until they overflow. Most of the
+ * checks for small D values never need a BigInteger.
+ *
+ * After Problems 94 and 100 turned out to be Pell's equations too, the convergent search moved into PellSolver. It
+ * knows which convergent is the solution from the period of the continued fraction, so there's nothing left to check.
  */
 public class PE0066 implements Problem {
     private static final int MAX_D = 1000;
 
     @Override
     public ProblemSolution solve() {
-        ContinuedFractionUtil continuedFractionUtil = new ContinuedFractionUtil();
+        PellSolver pellSolver = new PellSolver();
 
         BigInteger largestMinimalX = BigInteger.ZERO;
         int bestD = 1;
         for (int d = 1; d <= MAX_D; d++) {
-            BigInteger minimalX = getMinimalX(d, continuedFractionUtil);
+            BigInteger minimalX = getMinimalX(d, pellSolver);
             if (minimalX != null && minimalX.compareTo(largestMinimalX) > 0) {
                 largestMinimalX = minimalX;
                 bestD = d;
@@ -51,29 +54,13 @@ public class PE0066 implements Problem {
                 .build();
     }
 
-    private BigInteger getMinimalX(int d, ContinuedFractionUtil continuedFractionUtil) {
+    private BigInteger getMinimalX(int d, PellSolver pellSolver) {
         // Skip square d values.
         int dSqrt = (int) Math.sqrt(d);
         if (dSqrt * dSqrt == d) {
             return null;
         }
 
-        BigInteger dAsBigInt = BigInteger.valueOf(d);
-
-        Iterator<RationalFraction> convergentIterator = continuedFractionUtil.getConvergentsOfSquareRoot(d);
-        return Stream.generate(convergentIterator::next)
-                .filter(fraction -> solvesPellsEquation(fraction.getNumerator(), fraction.getDenominator(), dAsBigInt))
-                .map(RationalFraction::getNumerator)
-                .findFirst()
-                .get();
-    }
-
-    /**
-     * Checks if the lhs of x^2 - d * y^2 == 1.
-     */
-    private boolean solvesPellsEquation(BigInteger x, BigInteger y, BigInteger d) {
-        BigInteger xSquared = x.multiply(x);
-        BigInteger ySquared = y.multiply(y);
-        return xSquared.subtract(d.multiply(ySquared)).equals(BigInteger.ONE);
+        return pellSolver.getFundamentalSolution(d).getX();
     }
 }
@@ -19,7 +19,7 @@ public class PE0067 implements Problem {
     @Override
     public ProblemSolution solve() {
         TriangleMaxSumRoute triangleRouteUtil = new TriangleMaxSumRoute();
-        long maxSum = triangleRouteUtil.findMaxSumRoute(Paths.get(FILE_PATH));
+        long maxSum = triangleRouteUtil.findMaxSumRouteStreaming(Paths.get(FILE_PATH));
 
         return ProblemSolution.builder()
                 .solution(maxSum)
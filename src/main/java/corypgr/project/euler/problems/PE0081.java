@@ -2,13 +2,13 @@ package corypgr.project.euler.problems;
 
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
-import corypgr.project.euler.problems.util.ShortestPathSolver;
-import corypgr.project.euler.problems.util.ShortestPathSolver.Node;
+import corypgr.project.euler.problems.util.WavefrontDp;
 import lombok.SneakyThrows;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Problem 81
@@ -32,6 +32,13 @@ import java.util.Arrays;
  * ---------------
  * Coming back again... Problems 82 and 83 are harder versions of this. Swapping out the solution to use my shared
  * solver for finding the shortest path.
+ * ---------------
+ * Switched to GridPathSolver, which works on the grid directly instead of building Nodes. The weights are all under
+ * 10000, so the bucket queue works well here.
+ * ---------------
+ * Only moving right and down means we don't need a queue at all, which is the second solution above. That now lives
+ * in WavefrontDp, which can also split large grids into blocks and work through them in parallel. This grid is small
+ * enough that it's a single block.
  */
 public class PE0081 implements Problem {
     private static final String FILE_PATH = "src/main/java/corypgr/project/euler/problems/resources/PE0081_grid";
@@ -46,38 +53,24 @@ public class PE0081 implements Problem {
     }
 
     private int getShortestPathSum() {
-        Node[][] grid = getNodeGrid();
-
-        // Set up down connections. Don't need to process the last row.
-        for (int row = 0; row < grid.length - 1; row++) {
-            for (int col = 0; col < grid[row].length; col++) {
-                grid[row][col].addChild(grid[row + 1][col]);
-            }
-        }
-
-        // Set up right connections. Don't need to process the last col.
-        for (int row = 0; row < grid.length; row++) {
-            for (int col = 0; col < grid[row].length - 1; col++) {
-                grid[row][col].addChild(grid[row][col + 1]);
-            }
-        }
-
-        ShortestPathSolver solver = new ShortestPathSolver();
-        return solver.findShortestPathDistance(grid[0][0], grid[grid.length - 1][grid[0].length - 1]);
+        List<String> lines = getLines();
+        WavefrontDp wavefrontDp = new WavefrontDp();
+        return wavefrontDp.findMinRightDownPathSum(getGrid(lines), getCols(lines));
     }
 
     @SneakyThrows
-    private Node[][] getNodeGrid() {
-        return Files.lines(Paths.get(FILE_PATH))
-                .map(line -> line.split(","))
-                .map(this::stringsToNodes)
-                .toArray(Node[][]::new);
+    private List<String> getLines() {
+        return Files.readAllLines(Paths.get(FILE_PATH));
+    }
+
+    private int[] getGrid(List<String> lines) {
+        return lines.stream()
+                .flatMap(line -> Arrays.stream(line.split(",")))
+                .mapToInt(Integer::parseInt)
+                .toArray();
     }
 
-    private Node[] stringsToNodes(String[] strings) {
-        return Arrays.stream(strings)
-                .map(Integer::parseInt)
-                .map(Node::new)
-                .toArray(Node[]::new);
+    private int getCols(List<String> lines) {
+        return lines.get(0).split(",").length;
     }
 }
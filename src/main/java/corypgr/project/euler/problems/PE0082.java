@@ -1,14 +1,16 @@
 package corypgr.project.euler.problems;
 
+import corypgr.project.euler.problems.util.GridPathSolver;
+import corypgr.project.euler.problems.util.GridPathSolver.MoveSet;
+import corypgr.project.euler.problems.util.GridPathSolver.QueueType;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
-import corypgr.project.euler.problems.util.ShortestPathSolver;
-import corypgr.project.euler.problems.util.ShortestPathSolver.Node;
 import lombok.SneakyThrows;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Problem 82
@@ -23,6 +25,9 @@ import java.util.Arrays;
  * and end at any val on the last column, there isn't a defined start or end. To solve for this, we can use a dummy
  * start and dummy end node, both with weights 0, which are connected to all possible start and all possible end routes.
  * Our solver will work out the actual best start and end from that.
+ * ---------------
+ * Switched to GridPathSolver, which accepts multiple sources and targets directly. No more dummy Nodes, and no graph to
+ * build at all. The whole first column is the sources and the whole last column is the targets.
  */
 public class PE0082 implements Problem {
     private static final String FILE_PATH = "src/main/java/corypgr/project/euler/problems/resources/PE0082_grid";
@@ -37,59 +42,30 @@ public class PE0082 implements Problem {
     }
 
     private int getShortestPathSum() {
-        Node[][] grid = getNodeGrid();
-        Node dummyStart = new Node(0);
-        Node dummyEnd = new Node(0);
+        List<String> lines = getLines();
+        int[] grid = getGrid(lines);
+        int cols = getCols(lines);
+        int rows = grid.length / cols;
 
-        // Set up the dummy start and end Nodes. All Nodes in the first column are children of the dummy start. The
-        // dummy end is a child of all Nodes in the last column.
-        int lastCol = grid[0].length - 1;
-        for (int row = 0; row < grid.length; row++) {
-            dummyStart.addChild(grid[row][0]);
-            grid[row][lastCol].addChild(dummyEnd);
-        }
-
-        // We can move vertically in any column, but logically we'll never do so in the first or last columns.
-        // Since we can start in any of the first column and end in any of the last, moving vertically in either
-        // column would only increase our sum.
-
-        // Set up down connections. Don't need to process the last row, or the first and last columns.
-        for (int row = 0; row < grid.length - 1; row++) {
-            for (int col = 1; col < lastCol; col++) {
-                grid[row][col].addChild(grid[row + 1][col]);
-            }
-        }
-
-        // Set up up connections. Don't need to process the first row, or the first and last columns.
-        for (int row = 1; row < grid.length; row++) {
-            for (int col = 1; col < lastCol; col++) {
-                grid[row][col].addChild(grid[row - 1][col]);
-            }
-        }
-
-        // Set up right connections. Don't need to process the last column.
-        for (int row = 0; row < grid.length; row++) {
-            for (int col = 0; col < grid[row].length - 1; col++) {
-                grid[row][col].addChild(grid[row][col + 1]);
-            }
-        }
-
-        ShortestPathSolver solver = new ShortestPathSolver();
-        return solver.findShortestPathDistance(dummyStart, dummyEnd);
+        GridPathSolver solver = new GridPathSolver(MoveSet.UP_DOWN_RIGHT, QueueType.BUCKET);
+        return solver.findMinimalPathSum(grid, cols,
+                GridPathSolver.getColumnCells(rows, cols, 0),
+                GridPathSolver.getColumnCells(rows, cols, cols - 1));
     }
 
     @SneakyThrows
-    private Node[][] getNodeGrid() {
-        return Files.lines(Paths.get(FILE_PATH))
-                .map(line -> line.split(","))
-                .map(this::stringsToNodes)
-                .toArray(Node[][]::new);
+    private List<String> getLines() {
+        return Files.readAllLines(Paths.get(FILE_PATH));
+    }
+
+    private int[] getGrid(List<String> lines) {
+        return lines.stream()
+                .flatMap(line -> Arrays.stream(line.split(",")))
+                .mapToInt(Integer::parseInt)
+                .toArray();
     }
 
-    private Node[] stringsToNodes(String[] strings) {
-        return Arrays.stream(strings)
-                .map(Integer::parseInt)
-                .map(Node::new)
-                .toArray(Node[]::new);
+    private int getCols(List<String> lines) {
+        return lines.get(0).split(",").length;
     }
 }
@@ -1,14 +1,16 @@
 package corypgr.project.euler.problems;
 
+import corypgr.project.euler.problems.util.GridPathSolver;
+import corypgr.project.euler.problems.util.GridPathSolver.MoveSet;
+import corypgr.project.euler.problems.util.GridPathSolver.QueueType;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
-import corypgr.project.euler.problems.util.ShortestPathSolver;
-import corypgr.project.euler.problems.util.ShortestPathSolver.Node;
 import lombok.SneakyThrows;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Problem 83
@@ -17,6 +19,8 @@ import java.util.Arrays;
  *
  * Our last shortest path problem. A little strangely, this one is more straightforward than Problem 82 as far as
  * setting up the graph. We know what our start and end nodes are. And all Nodes can connect to all adjacent Nodes.
+ * ---------------
+ * Switched to GridPathSolver, which works on the grid directly instead of building Nodes and wiring up every edge.
  */
 public class PE0083 implements Problem {
     private static final String FILE_PATH = "src/main/java/corypgr/project/euler/problems/resources/PE0083_grid";
@@ -31,52 +35,25 @@ public class PE0083 implements Problem {
     }
 
     private int getShortestPathSum() {
-        Node[][] grid = getNodeGrid();
-
-        // Set up down connections. Don't need to process the last row.
-        for (int row = 0; row < grid.length - 1; row++) {
-            for (int col = 0; col < grid[row].length; col++) {
-                grid[row][col].addChild(grid[row + 1][col]);
-            }
-        }
-
-        // Set up up connections. Don't need to process the first row.
-        for (int row = 1; row < grid.length; row++) {
-            for (int col = 0; col < grid[row].length; col++) {
-                grid[row][col].addChild(grid[row - 1][col]);
-            }
-        }
-
-        // Set up right connections. Don't need to process the last col.
-        for (int row = 0; row < grid.length; row++) {
-            for (int col = 0; col < grid[row].length - 1; col++) {
-                grid[row][col].addChild(grid[row][col + 1]);
-            }
-        }
-
-        // Set up left connections. Don't need to process the first col.
-        for (int row = 0; row < grid.length; row++) {
-            for (int col = 1; col < grid[row].length; col++) {
-                grid[row][col].addChild(grid[row][col - 1]);
-            }
-        }
-
-        ShortestPathSolver solver = new ShortestPathSolver();
-        return solver.findShortestPathDistance(grid[0][0], grid[grid.length - 1][grid[0].length - 1]);
+        List<String> lines = getLines();
+        int[] grid = getGrid(lines);
+        GridPathSolver solver = new GridPathSolver(MoveSet.ALL_NEIGHBOURS, QueueType.BUCKET);
+        return solver.findMinimalPathSum(grid, getCols(lines), new int[] {0}, new int[] {grid.length - 1});
     }
 
     @SneakyThrows
-    private Node[][] getNodeGrid() {
-        return Files.lines(Paths.get(FILE_PATH))
-                .map(line -> line.split(","))
-                .map(this::stringsToNodes)
-                .toArray(Node[][]::new);
+    private List<String> getLines() {
+        return Files.readAllLines(Paths.get(FILE_PATH));
+    }
+
+    private int[] getGrid(List<String> lines) {
+        return lines.stream()
+                .flatMap(line -> Arrays.stream(line.split(",")))
+                .mapToInt(Integer::parseInt)
+                .toArray();
     }
 
-    private Node[] stringsToNodes(String[] strings) {
-        return Arrays.stream(strings)
-                .map(Integer::parseInt)
-                .map(Node::new)
-                .toArray(Node[]::new);
+    private int getCols(List<String> lines) {
+        return lines.get(0).split(",").length;
     }
 }
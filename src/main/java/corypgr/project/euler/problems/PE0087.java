@@ -1,12 +1,15 @@
 package corypgr.project.euler.problems;
 
 import corypgr.project.euler.problems.prime.PrimeGenerator;
+import corypgr.project.euler.problems.util.Cancellation;
 import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemParameters;
 import corypgr.project.euler.problems.util.ProblemSolution;
 
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -21,31 +24,50 @@ import java.util.stream.Collectors;
  *
  * We'll need to keep track of what values we've already calculated so that we do not double count anything. I thought
  * this may result in too many numbers to keep in a normal HashSet, but I didn't run into any problems.
+ * ---------------
+ * maxSum can be changed as a parameter, up to MAX_SUM_LIMIT. At the limit there are already around 17 million sums in
+ * the HashSet, taking about 1GB, and much further out (around 2^62) the sums themselves could overflow. Checks for
+ * interrupts once per square, so runs that time out stop early.
  */
 public class PE0087 implements Problem {
+    public static final String MAX_SUM_PARAM = "maxSum";
+    public static final long MAX_SUM_LIMIT = 1_000_000_000;
     private static final long MAX_SUM = 50_000_000;
 
+    @Override
+    public Map<String, Long> getDefaultParameters() {
+        return Map.of(MAX_SUM_PARAM, MAX_SUM);
+    }
+
     @Override
     public ProblemSolution solve() {
+        return solve(Map.of());
+    }
+
+    @Override
+    public ProblemSolution solve(Map<String, Long> overrides) {
+        long maxSum = ProblemParameters.withOverrides(getDefaultParameters(), overrides)
+                .get(MAX_SUM_PARAM, 1, MAX_SUM_LIMIT);
         PrimeGenerator primeGenerator = new PrimeGenerator();
-        List<Long> primes = primeGenerator.generatePrimesList((long) Math.sqrt(MAX_SUM));
-        List<Long> squares = getPowerNumberList(primes, 2);
-        List<Long> cubes = getPowerNumberList(primes, 3);
-        List<Long> fourths = getPowerNumberList(primes, 4);
+        List<Long> primes = primeGenerator.generatePrimesList((long) Math.sqrt(maxSum));
+        List<Long> squares = getPowerNumberList(primes, 2, maxSum);
+        List<Long> cubes = getPowerNumberList(primes, 3, maxSum);
+        List<Long> fourths = getPowerNumberList(primes, 4, maxSum);
 
         Set<Long> sums = new HashSet<>();
 
         // Normally I'm not a fan of break statements in for loops. I can't think of a cleaner way to write this though.
         for (long square : squares) {
+            Cancellation.checkInterrupted();
             for (long cube : cubes) {
                 long squarePlusCube = square + cube;
-                if (squarePlusCube >= MAX_SUM) {
+                if (squarePlusCube >= maxSum) {
                     break;
                 }
 
                 for (long fourth : fourths) {
                     long sum = fourth + squarePlusCube;
-                    if (sum >= MAX_SUM) {
+                    if (sum >= maxSum) {
                         break;
                     }
 
@@ -56,14 +78,14 @@ public class PE0087 implements Problem {
 
         return ProblemSolution.builder()
                 .solution(sums.size())
-                .descriptiveSolution("Number of sums below 50 million: " + sums.size())
+                .descriptiveSolution("Number of sums below " + maxSum + ": " + sums.size())
                 .build();
     }
 
-    private List<Long> getPowerNumberList(List<Long> primes, int power) {
+    private List<Long> getPowerNumberList(List<Long> primes, int power, long maxSum) {
         return primes.stream()
                 .map(prime -> (long) Math.pow(prime, power))
-                .takeWhile(num -> num < MAX_SUM)
+                .takeWhile(num -> num < maxSum)
                 .collect(Collectors.toList());
     }
 }
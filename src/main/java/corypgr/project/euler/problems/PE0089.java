@@ -3,12 +3,9 @@ package corypgr.project.euler.problems;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
 import corypgr.project.euler.problems.util.RomanNumeral;
-import lombok.SneakyThrows;
+import corypgr.project.euler.problems.util.RomanNumeral.MinimalFormSavings;
 
-import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Problem 89
@@ -18,33 +15,22 @@ import java.util.stream.Collectors;
  * This is kind of a cool problem. The solution seems pretty straightforward. We'll parse each roman numeral string into
  * an integer, then convert it to the minimal form, and compare the string lengths. Most of the work is happening in the
  * RomanNumeral class.
+ *
+ * -------
+ * We never needed the minimal Strings, just their lengths. RomanNumeral can now stream the whole file and total up the
+ * lengths directly, so this just asks it for the savings.
  */
 public class PE0089 implements Problem {
     private static final String FILE_PATH = "src/main/java/corypgr/project/euler/problems/resources/PE0089_romans";
 
     @Override
     public ProblemSolution solve() {
-        List<RomanNumeral> numerals = getRomanNumerals();
-        int originalTextCharCount = numerals.stream()
-                .map(RomanNumeral::getOriginalString)
-                .mapToInt(String::length)
-                .sum();
-        int minimalTextCharCount = numerals.stream()
-                .map(RomanNumeral::getMinimalString)
-                .mapToInt(String::length)
-                .sum();
+        MinimalFormSavings savings = RomanNumeral.getMinimalFormSavings(Paths.get(FILE_PATH));
 
-        int charsSaved = originalTextCharCount - minimalTextCharCount;
+        long charsSaved = savings.getCharactersSaved();
         return ProblemSolution.builder()
                 .solution(charsSaved)
                 .descriptiveSolution("Characters saved when converting Roman Numerals to their minimal form: " + charsSaved)
                 .build();
     }
-
-    @SneakyThrows
-    private List<RomanNumeral> getRomanNumerals() {
-        return Files.lines(Paths.get(FILE_PATH))
-                .map(RomanNumeral::parseString)
-                .collect(Collectors.toList());
-    }
 }
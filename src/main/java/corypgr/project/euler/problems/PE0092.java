@@ -1,9 +1,12 @@
 package corypgr.project.euler.problems;
 
+import corypgr.project.euler.problems.util.Cancellation;
 import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemParameters;
 import corypgr.project.euler.problems.util.ProblemSolution;
 
 import java.util.Arrays;
+import java.util.Map;
 
 /**
  * Problem 92
@@ -18,12 +21,28 @@ import java.util.Arrays;
  * storing their result in the lookup table because they will never be retrieved.
  */
 public class PE0092 implements Problem {
+    public static final String MAX_NUM_PARAM = "maxNum";
     private static final int MAX_NUM = 10_000_000;
     private static final int[] DIGIT_SQUARES = { 0, 1, 4, 9, 16, 25, 36, 49, 64, 81};
     private static final int MAX_LOOKUP_VAL = 567;
 
+    @Override
+    public Map<String, Long> getDefaultParameters() {
+        return Map.of(MAX_NUM_PARAM, (long) MAX_NUM);
+    }
+
     @Override
     public ProblemSolution solve() {
+        return solve(Map.of());
+    }
+
+    /**
+     * Above 10 million, numbers have more than 7 digits and their first sums can go past MAX_LOOKUP_VAL. Those just
+     * take one more summation to land in the table.
+     */
+    @Override
+    public ProblemSolution solve(Map<String, Long> overrides) {
+        int maxNum = ProblemParameters.withOverrides(getDefaultParameters(), overrides).getInt(MAX_NUM_PARAM, 2);
         int[] numToTerminatingVal = new int[MAX_LOOKUP_VAL + 1]; // Add 1 for 0, so we can do direct lookups.
         Arrays.fill(numToTerminatingVal, -1);
         numToTerminatingVal[0] = 0;
@@ -31,7 +50,10 @@ public class PE0092 implements Problem {
         numToTerminatingVal[89] = 89;
 
         int countOf89 = 0;
-        for (int i = 2; i < MAX_NUM; i++) {
+        for (int i = 2; i < maxNum; i++) {
+            if ((i & 0xFFFF) == 0) {
+                Cancellation.checkInterrupted();
+            }
             int terminatingVal = getTerminatingValue(i, numToTerminatingVal);
             if (terminatingVal == 89) {
                 countOf89++;
@@ -40,7 +62,7 @@ public class PE0092 implements Problem {
 
         return ProblemSolution.builder()
                 .solution(countOf89)
-                .descriptiveSolution("Count of numbers below 10 million terminating at 89: " + countOf89)
+                .descriptiveSolution("Count of numbers below " + maxNum + " terminating at 89: " + countOf89)
                 .build();
     }
 
@@ -1,20 +1,9 @@
 package corypgr.project.euler.problems;
 
-import corypgr.project.euler.problems.prime.PrimeGenerator;
-import corypgr.project.euler.problems.util.DivisorsUtil;
+import corypgr.project.euler.problems.util.PellSolver;
+import corypgr.project.euler.problems.util.PellSolver.SolutionSequence;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
-import lombok.RequiredArgsConstructor;
-import lombok.Value;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.LongStream;
-import java.util.stream.Stream;
 
 /**
  * Problem 94
@@ -71,19 +60,36 @@ import java.util.stream.Stream;
  * 333,333,334 and the largest side given by u^2 + v^2, sqrt(333,333,334) ~= 18,267 is a good place to start for a max u
  * value. For a max v, we need to look at sqrt(333,333,334 / 2) ~= 12,909 since we're adding 2 squares together and
  * u > v.
+ *
+ * -------
+ * Coming back to this after generalizing Pell's equations for Problems 66 and 100. This is a Pell's equation in
+ * disguise. Call the unequal side 2k (we showed above it has to be even) and the equal sides a = 2k +/- 1. The height
+ * splits the triangle into two right triangles with sides k, h, a, and the area is k * h. So we need an integer h with:
+ * h^2 = a^2 - k^2 = (2k +/- 1)^2 - k^2 = 3k^2 +/- 4k + 1
+ *
+ * Multiplying by 3 and completing the square:
+ * 3h^2 = 9k^2 +/- 12k + 3
+ * (3k +/- 2)^2 - 3h^2 = 1
+ *
+ * With x = 3k +/- 2 and y = h this is x^2 - 3y^2 = 1. Every solution from PellSolver is a triangle, and the perimeter
+ * is 2a + 2k = 6k +/- 2. The fundamental solution (2, 1) gives k = 0, which is the first non-triangle. The next ones
+ * give 5, 5, 6 and 17, 17, 16, matching the sequence above. We walk the solutions until the perimeter passes 1 billion.
  */
 public class PE0094 implements Problem {
-    private static final int MAX_SIDE_LENGTH = 333_333_334;
-    private static final int MAX_U = (int) Math.sqrt(MAX_SIDE_LENGTH);
-    private static final int MAX_V = (int) Math.sqrt(MAX_SIDE_LENGTH / 2);
+    private static final long MAX_PERIMETER = 1_000_000_000;
 
     @Override
     public ProblemSolution solve() {
-        long solution = Stream.generate(new HeronianTriangleSupplier())
-                .takeWhile(Objects::nonNull)
-                .filter(this::isAlmostEquilateral)
-                .mapToLong(Triangle::getPerimeter)
-                .sum();
+        PellSolver pellSolver = new PellSolver();
+        SolutionSequence solutions = pellSolver.getSolutionSequence(3);
+        solutions.advance(); // Skip the fundamental solution. It has k = 0.
+
+        long solution = 0;
+        for (long perimeter = getPerimeter(solutions.getXAsLong()); perimeter <= MAX_PERIMETER;
+                perimeter = getPerimeter(solutions.getXAsLong())) {
+            solution += perimeter;
+            solutions.advance();
+        }
 
         return ProblemSolution.builder()
                 .solution(solution)
@@ -92,174 +98,17 @@ public class PE0094 implements Problem {
                 .build();
     }
 
-    private boolean isAlmostEquilateral(Triangle triangle) {
-        return Math.abs(triangle.getA() - triangle.getC()) == 1;
-    }
-
-    private static final class HeronianTriangleSupplier implements Supplier<Triangle> {
-        private final int[] valToSquareMap;
-        private final List<List<Long>> valToPrimeDivisorsMap;
-
-        // u > v and u + v is odd for our formulas to work.
-        private int u;
-        private int v;
-
-        // Pre-stored triangle values. We populate these and only return these values.
-        private Triangle formulaATriangle;
-        private Triangle formulaBTriangle;
-
-        public HeronianTriangleSupplier() {
-            this.valToPrimeDivisorsMap = getPrimeDivisorsMap();
-            this.valToSquareMap = getValToSquareMap();
-
-            // Start with our u > v and u + v odd conditions met.
-            this.u = 2;
-            this.v = 1;
-            setTrianglesWithUandV();
+    /**
+     * x = 3k + 2 for the a, a, a - 1 triangles, and x = 3k - 2 for the a, a, a + 1 triangles. x is never a multiple
+     * of 3, so exactly one of these applies.
+     */
+    private long getPerimeter(long x) {
+        if ((x - 2) % 3 == 0) {
+            long k = (x - 2) / 3;
+            return 6 * k + 2;
         }
 
-        @Override
-        public Triangle get() {
-            if (formulaATriangle != null) {
-                Triangle result = formulaATriangle;
-                formulaATriangle = null;
-                return result;
-            }
-            if (formulaBTriangle != null) {
-                Triangle result = formulaBTriangle;
-                formulaBTriangle = null;
-                return result;
-            }
-
-            advanceUandV();
-            findNextUandV();
-            if (v > MAX_V) {
-                return null;
-            }
-
-            return get();
-        }
-
-        /**
-         * Finds the next U and V which are coprime and produce Triangles, taking into account our short-circuiting.
-         */
-        private void findNextUandV() {
-            while (v <= MAX_V && !areCoprime(u, v)) {
-                advanceUandV();
-            }
-
-            if (v > MAX_V) {
-                return;
-            }
-
-            setTrianglesWithUandV();
-            if (formulaATriangle == null && formulaBTriangle == null) {
-                rolloverV();
-                findNextUandV();
-            }
-        }
-
-        private void advanceUandV() {
-            u += 2; // Increment u by 2 to maintain our u + v is odd condition.
-            if (u > MAX_U) {
-                rolloverV();
-            }
-        }
-
-        private void rolloverV() {
-            v++;
-            u = v + 1; // Keeps u > v and u + v is odd conditions.
-        }
-
-        private boolean areCoprime(int a, int b) {
-            List<Long> aSortedPrimeDivisors = valToPrimeDivisorsMap.get(a);
-            List<Long> bSortedPrimeDivisors = valToPrimeDivisorsMap.get(b);
-            int aIndex = 0;
-            int bIndex = 0;
-            while (aIndex < aSortedPrimeDivisors.size() && bIndex < bSortedPrimeDivisors.size()) {
-                long aVal = aSortedPrimeDivisors.get(aIndex);
-                long bVal = bSortedPrimeDivisors.get(bIndex);
-
-                if (aVal == bVal) {
-                    return false;
-                } else if (aVal < bVal) {
-                    aIndex++;
-                } else {
-                    bIndex++;
-                }
-            }
-
-            // no matches found.
-            return true;
-        }
-
-        private List<List<Long>> getPrimeDivisorsMap() {
-            PrimeGenerator primeGenerator = new PrimeGenerator();
-            List<Long> primes = primeGenerator.generatePrimesList((long) Math.sqrt(MAX_U));
-            DivisorsUtil divisorsUtil = new DivisorsUtil();
-
-            List<List<Long>> result = new ArrayList<>();
-            result.add(Collections.emptyList()); // 0th element.
-
-            LongStream.rangeClosed(1, MAX_U)
-                    .mapToObj(u -> getSortedPrimeDivisors(u, divisorsUtil, primes))
-                    .forEach(result::add);
-            return result;
-        }
-
-        private List<Long> getSortedPrimeDivisors(long val, DivisorsUtil divisorsUtil, List<Long> primes) {
-            return divisorsUtil.getPrimeDivisors(val, primes).stream()
-                    .sorted()
-                    .collect(Collectors.toList());
-        }
-
-        private int[] getValToSquareMap() {
-            int[] result = new int[MAX_U + 1]; // offset 0 value.
-            for (int i = 0; i <= MAX_U; i++) {
-                result[i] = i * i;
-            }
-            return result;
-        }
-
-        /**
-         * Attempts to set up our triangles for the current u and v. There is short-circuiting here, were we don't set
-         * a triangle after we've passed certain thresholds. This lets us skip to higher v values more quickly. Full
-         * short-circuiting kicks in when neither triangle would be set.
-         */
-        private void setTrianglesWithUandV() {
-            int equalSides = valToSquareMap[u] + valToSquareMap[v];
-            if (equalSides > MAX_SIDE_LENGTH) {
-                // Both triangles use equalSides, so neither will be set.
-                return;
-            }
-
-            int unequalSideFormulaA = 2 * (valToSquareMap[u] - valToSquareMap[v]);
-            // The unequalSide grows faster than the equalSides here. After unequalSide > equalSides, the difference
-            // between the two will only grow larger, so we can skip setting the triangle as a signal to move to v + 1.
-            if (unequalSideFormulaA <= MAX_SIDE_LENGTH && unequalSideFormulaA <= equalSides + 1) {
-                formulaATriangle = new Triangle(equalSides, equalSides, unequalSideFormulaA);
-            }
-
-            int unequalSideFormulaB = 4 * u * v;
-            // The equalSides grow faster than the unequalSide here. After equalSides > unequalSide, the difference
-            // between the two will only grow larger, so we can skip setting the triangle as a signal to move to v + 1.
-            if (unequalSideFormulaB <= MAX_SIDE_LENGTH && equalSides <= unequalSideFormulaB + 1) {
-                formulaBTriangle = new Triangle(equalSides, equalSides, unequalSideFormulaB);
-            }
-        }
-    }
-
-    @Value
-    @RequiredArgsConstructor
-    private static final class Triangle {
-        private final int a;
-        private final int b;
-        private final int c;
-
-        private final int perimeter;
-
-        public Triangle(int a, int b, int c) {
-            this(a, b, c, a + b + c);
-        }
+        long k = (x + 2) / 3;
+        return 6 * k - 2;
     }
 }
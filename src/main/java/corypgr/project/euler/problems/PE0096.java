@@ -1,9 +1,8 @@
 package corypgr.project.euler.problems;
 
+import corypgr.project.euler.problems.util.BitmaskSudokuSolver;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
-import corypgr.project.euler.problems.util.SudokuSolver;
-import corypgr.project.euler.problems.util.SudokuSolver.Board;
 import lombok.SneakyThrows;
 
 import java.nio.file.Files;
@@ -24,16 +23,21 @@ import java.util.List;
  * See SudokuSolver for the solving algorithm. One interesting thing here is that we only really care about the upper
  * left 3 digits. Since that's the case, I thought our SudokuSolver should have a sort of incremental solving mechanism.
  * Basically, we solve the puzzle one number cell at a time, and we can stop once we've found the upper left 3 values.
+ * ---------------
+ * Came back to make the solver faster. BitmaskSudokuSolver uses the same logic, but keeps the board as an int[81] with
+ * bitmasks of the numbers used in each grouping. It's fast enough that solving every board fully is much quicker than
+ * stopping early with SudokuSolver was.
  */
 public class PE0096 implements Problem {
     private static final String FILE_PATH = "src/main/java/corypgr/project/euler/problems/resources/PE0096_sudoku";
 
     @Override
     public ProblemSolution solve() {
-        List<Board> boards = getSudokuBoards();
-        SudokuSolver solver = new SudokuSolver();
+        List<int[]> boards = getSudokuBoards();
+        BitmaskSudokuSolver solver = new BitmaskSudokuSolver();
         int sum = boards.stream()
-                .mapToInt(board -> getUpperLeftCornerNumber(board, solver))
+                .map(solver::solve)
+                .mapToInt(this::getUpperLeftCornerNumber)
                 .sum();
 
         return ProblemSolution.builder()
@@ -43,48 +47,30 @@ public class PE0096 implements Problem {
     }
 
     /**
-     * Returns the upper left 3 digits as if they were a 3 digit number. Solves the board up to the point where those
-     * 3 numbers are locked in.
+     * Returns the upper left 3 digits as if they were a 3 digit number.
      */
-    private int getUpperLeftCornerNumber(Board board, SudokuSolver solver) {
-        while (!upperLeftCornerSolved(board)) {
-            solver.solveNextCell(board);
-        }
-
-        int result = board.getGrid()[0][0].getSolution();
-        result *= 10;
-        result += board.getGrid()[0][1].getSolution();
-        result *= 10;
-        result += board.getGrid()[0][2].getSolution();
-        return result;
-    }
-
-    private boolean upperLeftCornerSolved(Board board) {
-        // If the board has guesses, we need to solve the entire board to make sure those guesses are correct.
-        return board.isSolved() || (!board.hasGuesses() &&
-                board.getGrid()[0][0].getSolution() != null &&
-                board.getGrid()[0][1].getSolution() != null &&
-                board.getGrid()[0][2].getSolution() != null);
+    private int getUpperLeftCornerNumber(int[] solvedBoard) {
+        return solvedBoard[0] * 100 + solvedBoard[1] * 10 + solvedBoard[2];
     }
 
     @SneakyThrows
-    private List<Board> getSudokuBoards() {
+    private List<int[]> getSudokuBoards() {
         List<String> lines = Files.readAllLines(Paths.get(FILE_PATH));
 
         int row = 0;
-        List<Board> boards = new LinkedList<>();
-        int[][] curGrid = new int[9][9];
+        List<int[]> boards = new LinkedList<>();
+        int[] curBoard = new int[BitmaskSudokuSolver.NUM_CELLS];
         for (String line : lines) {
             if (!line.contains("Grid") && row < 9) {
-                curGrid[row] = line.chars()
-                        .map(Character::getNumericValue)
-                        .toArray();
+                for (int col = 0; col < 9; col++) {
+                    curBoard[row * 9 + col] = Character.getNumericValue(line.charAt(col));
+                }
                 row++;
             }
 
             if (row == 9) {
-                Board newBoard = new Board(curGrid);
-                boards.add(newBoard);
+                boards.add(curBoard);
+                curBoard = new int[BitmaskSudokuSolver.NUM_CELLS];
                 row = 0;
             }
         }
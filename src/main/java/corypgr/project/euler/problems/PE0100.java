@@ -1,11 +1,12 @@
 package corypgr.project.euler.problems;
 
+import corypgr.project.euler.problems.util.PellSolver;
+import corypgr.project.euler.problems.util.PellSolver.PellSolution;
 import corypgr.project.euler.problems.util.Problem;
 import corypgr.project.euler.problems.util.ProblemSolution;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
 
 /**
  * Problem 100
@@ -50,21 +51,30 @@ import java.util.List;
  * There is a pattern for s!!! s(n) = 6 * s(n - 1) - s(n - 2) - 2. Calculating s until we find one over 10^12, we can
  * find b by using our formula above. b has the same recurrence relation as well. Since we care about the size of s, I
  * thought solving for b after finding s was more interesting and elegant than using the recurrence to calculate both.
+ *
+ * -------
+ * That recurrence looked a lot like the ones from Problem 66, and it turns out this is another Pell's equation.
+ * Starting from 2 * b * (b - 1) = s * (s - 1), multiply both sides by 4 and complete the squares:
+ * 2 * (2b - 1)^2 - 2 = (2s - 1)^2 - 1
+ * (2s - 1)^2 - 2 * (2b - 1)^2 = -1
+ *
+ * So with x = 2s - 1 and y = 2b - 1 we need the solutions to x^2 - 2y^2 = -1, which PellSolver generates directly.
+ * We take the first one with s over 10^12.
  */
 public class PE0100 implements Problem {
     private static final long TARGET_SIZE = 1_000_000_000_000L;
 
     @Override
     public ProblemSolution solve() {
-        List<Long> sizes = new ArrayList<>();
-        sizes.add(1L);
-        sizes.add(4L);
-        for (int i = 2; sizes.get(i - 1) < TARGET_SIZE; i++) {
-            long next = sizes.get(i - 1) * 6 - sizes.get(i - 2) - 2;
-            sizes.add(next);
+        PellSolver pellSolver = new PellSolver();
+        Iterator<PellSolution> solutions = pellSolver.getSolutions(2, -1);
+
+        // x = 2s - 1 and y = 2b - 1.
+        PellSolution solution = solutions.next();
+        while (getSize(solution) < TARGET_SIZE) {
+            solution = solutions.next();
         }
-        long lastSize = sizes.get(sizes.size() - 1);
-        long blueDiscCount = getBlueDiscCount(lastSize);
+        long blueDiscCount = solution.getY().add(BigInteger.ONE).divide(BigInteger.TWO).longValueExact();
 
         return ProblemSolution.builder()
                 .solution(blueDiscCount)
@@ -73,16 +83,7 @@ public class PE0100 implements Problem {
                 .build();
     }
 
-    private long getBlueDiscCount(long size) {
-        BigInteger bigSize = BigInteger.valueOf(size);
-        BigInteger valInsideRoot = BigInteger.ONE.add(BigInteger.TWO.multiply(bigSize.pow(2).subtract(bigSize)));
-        BigInteger[] quadraticRoot = valInsideRoot.sqrtAndRemainder();
-
-        // Check that we get an integer square root.
-        if (quadraticRoot[1].equals(BigInteger.ZERO)) {
-            return quadraticRoot[0].add(BigInteger.ONE).divide(BigInteger.TWO).longValueExact();
-        }
-
-        throw new IllegalArgumentException("Input size does not have an exact number of blue discs to get 50%.");
+    private long getSize(PellSolution solution) {
+        return solution.getX().add(BigInteger.ONE).divide(BigInteger.TWO).longValueExact();
     }
 }
@@ -0,0 +1,270 @@
+package corypgr.project.euler.problems;
+
+import corypgr.project.euler.problems.util.Problem;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Every solved Problem, by number.
+ *
+ * Problems are created the first time they are asked for, and the same instance is handed out after that. Each one is
+ * only referenced from its own case in createProblem, so its class isn't loaded or initialized until then. Running a
+ * single problem skips the static state of all of the others, like PE0093's expression lists. A map of
+ * PE0001::new style Suppliers would still load every class when the map is built, since linking each constructor
+ * reference resolves its class.
+ *
+ * New problems need a case in createProblem, and NUM_PROBLEMS bumped to match.
+ */
+public class ProblemRegistry {
+    private static final int NUM_PROBLEMS = 100;
+
+    private final Problem[] problems = new Problem[NUM_PROBLEMS + 1];
+
+    /**
+     * All known problem numbers, in order.
+     */
+    public List<Integer> getProblemNumbers() {
+        return IntStream.rangeClosed(1, NUM_PROBLEMS)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    public boolean hasProblem(int problemNumber) {
+        return problemNumber >= 1 && problemNumber <= NUM_PROBLEMS;
+    }
+
+    /**
+     * Throws IllegalArgumentException if there is no such problem.
+     */
+    public synchronized Problem getProblem(int problemNumber) {
+        if (!hasProblem(problemNumber)) {
+            throw new IllegalArgumentException("Problem " + problemNumber + " is not known or is not solved yet.");
+        }
+        if (problems[problemNumber] == null) {
+            problems[problemNumber] = createProblem(problemNumber);
+        }
+        return problems[problemNumber];
+    }
+
+    /**
+     * Every problem, creating any that haven't been yet. For running all of them.
+     */
+    public Map<Integer, Problem> getAllProblems() {
+        Map<Integer, Problem> numberToProblem = new TreeMap<>();
+        for (int problemNumber : getProblemNumbers()) {
+            numberToProblem.put(problemNumber, getProblem(problemNumber));
+        }
+        return numberToProblem;
+    }
+
+    private static Problem createProblem(int problemNumber) {
+        switch (problemNumber) {
+            case 1:
+                return new PE0001();
+            case 2:
+                return new PE0002();
+            case 3:
+                return new PE0003();
+            case 4:
+                return new PE0004();
+            case 5:
+                return new PE0005();
+            case 6:
+                return new PE0006();
+            case 7:
+                return new PE0007();
+            case 8:
+                return new PE0008();
+            case 9:
+                return new PE0009();
+            case 10:
+                return new PE0010();
+            case 11:
+                return new PE0011();
+            case 12:
+                return new PE0012();
+            case 13:
+                return new PE0013();
+            case 14:
+                return new PE0014();
+            case 15:
+                return new PE0015();
+            case 16:
+                return new PE0016();
+            case 17:
+                return new PE0017();
+            case 18:
+                return new PE0018();
+            case 19:
+                return new PE0019();
+            case 20:
+                return new PE0020();
+            case 21:
+                return new PE0021();
+            case 22:
+                return new PE0022();
+            case 23:
+                return new PE0023();
+            case 24:
+                return new PE0024();
+            case 25:
+                return new PE0025();
+            case 26:
+                return new PE0026();
+            case 27:
+                return new PE0027();
+            case 28:
+                return new PE0028();
+            case 29:
+                return new PE0029();
+            case 30:
+                return new PE0030();
+            case 31:
+                return new PE0031();
+            case 32:
+                return new PE0032();
+            case 33:
+                return new PE0033();
+            case 34:
+                return new PE0034();
+            case 35:
+                return new PE0035();
+            case 36:
+                return new PE0036();
+            case 37:
+                return new PE0037();
+            case 38:
+                return new PE0038();
+            case 39:
+                return new PE0039();
+            case 40:
+                return new PE0040();
+            case 41:
+                return new PE0041();
+            case 42:
+                return new PE0042();
+            case 43:
+                return new PE0043();
+            case 44:
+                return new PE0044();
+            case 45:
+                return new PE0045();
+            case 46:
+                return new PE0046();
+            case 47:
+                return new PE0047();
+            case 48:
+                return new PE0048();
+            case 49:
+                return new PE0049();
+            case 50:
+                return new PE0050();
+            case 51:
+                return new PE0051();
+            case 52:
+                return new PE0052();
+            case 53:
+                return new PE0053();
+            case 54:
+                return new PE0054();
+            case 55:
+                return new PE0055();
+            case 56:
+                return new PE0056();
+            case 57:
+                return new PE0057();
+            case 58:
+                return new PE0058();
+            case 59:
+                return new PE0059();
+            case 60:
+                return new PE0060();
+            case 61:
+                return new PE0061();
+            case 62:
+                return new PE0062();
+            case 63:
+                return new PE0063();
+            case 64:
+                return new PE0064();
+            case 65:
+                return new PE0065();
+            case 66:
+                return new PE0066();
+            case 67:
+                return new PE0067();
+            case 68:
+                return new PE0068();
+            case 69:
+                return new PE0069();
+            case 70:
+                return new PE0070();
+            case 71:
+                return new PE0071();
+            case 72:
+                return new PE0072();
+            case 73:
+                return new PE0073();
+            case 74:
+                return new PE0074();
+            case 75:
+                return new PE0075();
+            case 76:
+                return new PE0076();
+            case 77:
+                return new PE0077();
+            case 78:
+                return new PE0078();
+            case 79:
+                return new PE0079();
+            case 80:
+                return new PE0080();
+            case 81:
+                return new PE0081();
+            case 82:
+                return new PE0082();
+            case 83:
+                return new PE0083();
+            case 84:
+                return new PE0084();
+            case 85:
+                return new PE0085();
+            case 86:
+                return new PE0086();
+            case 87:
+                return new PE0087();
+            case 88:
+                return new PE0088();
+            case 89:
+                return new PE0089();
+            case 90:
+                return new PE0090();
+            case 91:
+                return new PE0091();
+            case 92:
+                return new PE0092();
+            case 93:
+                return new PE0093();
+            case 94:
+                return new PE0094();
+            case 95:
+                return new PE0095();
+            case 96:
+                return new PE0096();
+            case 97:
+                return new PE0097();
+            case 98:
+                return new PE0098();
+            case 99:
+                return new PE0099();
+            case 100:
+                return new PE0100();
+            default:
+                throw new IllegalStateException("No case for problem " + problemNumber);
+        }
+    }
+}
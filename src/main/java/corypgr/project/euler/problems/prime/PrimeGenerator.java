@@ -1,5 +1,6 @@
 package corypgr.project.euler.problems.prime;
 
+import corypgr.project.euler.problems.util.Cancellation;
 import corypgr.project.euler.problems.util.LinkedHashSetWithModifiableIteration;
 
 import java.util.ArrayList;
@@ -49,6 +50,7 @@ public class PrimeGenerator {
             if (prime > maxPrimeToMultiply) {
                 return primes;
             }
+            Cancellation.checkInterrupted();
 
             // The innerIterator here is determining what values to multiply our prime
             // against to produce the products we remove.
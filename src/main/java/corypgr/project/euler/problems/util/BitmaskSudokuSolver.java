@@ -0,0 +1,256 @@
+package corypgr.project.euler.problems.util;
+
+import java.util.Arrays;
+
+/**
+ * Solves 9x9 Sudoku puzzles using the same logic as SudokuSolver (single candidate cells, and numbers that only fit in
+ * one cell of a grouping), followed by guessing, but with the whole board held in a few int arrays.
+ *
+ * The board is an int[81] of cells in row-major order, with 0 for empty cells. Each row, column, and box has a 9 bit
+ * mask of the numbers already placed in it, with bit (n - 1) standing for the number n. The candidates for a cell are
+ * then just the bits missing from all 3 of its masks:
+ *  * A cell with Integer.bitCount(candidates) == 1 has a single possible number (naked single).
+ *  * Going through a grouping, OR-ing the candidates together while tracking which bits were already seen gives the
+ *    numbers that fit in exactly one cell of the grouping (hidden singles).
+ *  * Candidates are tried lowest bit first with candidates & -candidates.
+ *
+ * When we have to guess, we pick the cell with the fewest candidates and copy the board and masks into a slot
+ * preallocated for that depth before placing the guess. Undoing a bad guess is then a single array copy back, instead
+ * of replaying a stack of reverse actions.
+ *
+ * Instances keep those buffers between puzzles, so they aren't thread safe. Use one per thread.
+ */
+public class BitmaskSudokuSolver {
+    public static final int SIZE = 9;
+    public static final int NUM_CELLS = SIZE * SIZE;
+
+    private static final int ALL_CANDIDATES = (1 << SIZE) - 1;
+    private static final int NUM_GROUPINGS = 3 * SIZE;
+    private static final int STATE_LENGTH = NUM_CELLS + NUM_GROUPINGS;
+
+    // Cell -> index of its row, column, and box in groupingMasks.
+    private static final int[] CELL_ROW = new int[NUM_CELLS];
+    private static final int[] CELL_COL = new int[NUM_CELLS];
+    private static final int[] CELL_BOX = new int[NUM_CELLS];
+    // Grouping -> the cells in it. Rows, then columns, then boxes, matching groupingMasks.
+    private static final int[][] GROUPING_CELLS = new int[NUM_GROUPINGS][SIZE];
+
+    static {
+        for (int cell = 0; cell < NUM_CELLS; cell++) {
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            int box = (row / 3) * 3 + col / 3;
+            CELL_ROW[cell] = row;
+            CELL_COL[cell] = SIZE + col;
+            CELL_BOX[cell] = 2 * SIZE + box;
+
+            GROUPING_CELLS[row][col] = cell;
+            GROUPING_CELLS[SIZE + col][row] = cell;
+            GROUPING_CELLS[2 * SIZE + box][(row % 3) * 3 + col % 3] = cell;
+        }
+    }
+
+    private final int[] cells = new int[NUM_CELLS];
+    // Placed numbers per grouping. Rows are [0, 9), columns [9, 18), and boxes [18, 27).
+    private final int[] groupingMasks = new int[NUM_GROUPINGS];
+    // Saved cells and groupingMasks, one slot per guess depth. Every guess fills in at least 1 cell.
+    private final int[][] savedStates = new int[NUM_CELLS][STATE_LENGTH];
+
+    private long guessCount;
+    private long backtrackCount;
+
+    /**
+     * Returns the solved board as a new int[81]. See solve(int[], int[]).
+     */
+    public int[] solve(int[] board) {
+        int[] result = new int[NUM_CELLS];
+        solve(board, result);
+        return result;
+    }
+
+    /**
+     * Same as solve(int[]), for the 9x9 grids SudokuSolver.Board takes.
+     */
+    public int[][] solve(int[][] grid) {
+        if (grid == null || grid.length != SIZE) {
+            throw new IllegalArgumentException("Invalid input grid. Must be non-null and 9x9.");
+        }
+
+        int[] board = new int[NUM_CELLS];
+        for (int row = 0; row < SIZE; row++) {
+            if (grid[row] == null || grid[row].length != SIZE) {
+                throw new IllegalArgumentException("Invalid input grid. Must be non-null and 9x9.");
+            }
+            System.arraycopy(grid[row], 0, board, row * SIZE, SIZE);
+        }
+
+        int[] solved = solve(board);
+        int[][] result = new int[SIZE][SIZE];
+        for (int row = 0; row < SIZE; row++) {
+            System.arraycopy(solved, row * SIZE, result[row], 0, SIZE);
+        }
+        return result;
+    }
+
+    /**
+     * Solves the board, writing the solution into result, which may be the same array as board. If the puzzle has
+     * more than one solution, the first one found is used.
+     *
+     * Throws IllegalArgumentException if the board isn't 81 cells of 0 through 9, and IllegalStateException if there
+     * is no solution.
+     */
+    public void solve(int[] board, int[] result) {
+        if (board == null || board.length != NUM_CELLS || result == null || result.length != NUM_CELLS) {
+            throw new IllegalArgumentException("Boards must be non-null with 81 cells.");
+        }
+
+        guessCount = 0;
+        backtrackCount = 0;
+        Arrays.fill(cells, 0);
+        Arrays.fill(groupingMasks, 0);
+        for (int cell = 0; cell < NUM_CELLS; cell++) {
+            int val = board[cell];
+            if (val < 0 || val > SIZE) {
+                throw new IllegalArgumentException("Invalid cell contained: " + val);
+            }
+            if (val == 0) {
+                continue;
+            }
+
+            int bit = 1 << (val - 1);
+            if ((getCandidates(cell) & bit) == 0) {
+                throw new IllegalStateException("Initial board state was invalid. No solutions available.");
+            }
+            place(cell, bit);
+        }
+
+        if (!search(0)) {
+            throw new IllegalStateException("Initial board state was invalid. No solutions available.");
+        }
+        System.arraycopy(cells, 0, result, 0, NUM_CELLS);
+    }
+
+    /**
+     * Number of guesses made during the last solve, counting every candidate tried.
+     */
+    public long getGuessCount() {
+        return guessCount;
+    }
+
+    /**
+     * Number of guesses undone during the last solve because they led to a contradiction.
+     */
+    public long getBacktrackCount() {
+        return backtrackCount;
+    }
+
+    private boolean search(int depth) {
+        if (!propagate()) {
+            return false;
+        }
+
+        int guessCell = -1;
+        int fewestCandidates = SIZE + 1;
+        for (int cell = 0; cell < NUM_CELLS && fewestCandidates > 2; cell++) {
+            if (cells[cell] == 0) {
+                int count = Integer.bitCount(getCandidates(cell));
+                if (count < fewestCandidates) {
+                    fewestCandidates = count;
+                    guessCell = cell;
+                }
+            }
+        }
+        if (guessCell == -1) {
+            return true;
+        }
+
+        int[] saved = savedStates[depth];
+        System.arraycopy(cells, 0, saved, 0, NUM_CELLS);
+        System.arraycopy(groupingMasks, 0, saved, NUM_CELLS, NUM_GROUPINGS);
+
+        int candidates = getCandidates(guessCell);
+        while (candidates != 0) {
+            int bit = candidates & -candidates;
+            candidates ^= bit;
+
+            guessCount++;
+            place(guessCell, bit);
+            if (search(depth + 1)) {
+                return true;
+            }
+
+            backtrackCount++;
+            System.arraycopy(saved, 0, cells, 0, NUM_CELLS);
+            System.arraycopy(saved, NUM_CELLS, groupingMasks, 0, NUM_GROUPINGS);
+        }
+        return false;
+    }
+
+    /**
+     * Fills in naked and hidden singles until neither finds anything. Returns false if the board reaches a state with
+     * no solution, which is a cell without candidates, or a grouping where some number can't go anywhere.
+     */
+    private boolean propagate() {
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+
+            for (int cell = 0; cell < NUM_CELLS; cell++) {
+                if (cells[cell] != 0) {
+                    continue;
+                }
+
+                int candidates = getCandidates(cell);
+                if (candidates == 0) {
+                    return false;
+                }
+                if (Integer.bitCount(candidates) == 1) {
+                    place(cell, candidates);
+                    progress = true;
+                }
+            }
+
+            for (int grouping = 0; grouping < NUM_GROUPINGS; grouping++) {
+                int[] groupingCells = GROUPING_CELLS[grouping];
+                int seenOnce = 0;
+                int seenMoreThanOnce = 0;
+                for (int cell : groupingCells) {
+                    if (cells[cell] == 0) {
+                        int candidates = getCandidates(cell);
+                        seenMoreThanOnce |= seenOnce & candidates;
+                        seenOnce |= candidates;
+                    }
+                }
+                if ((seenOnce | groupingMasks[grouping]) != ALL_CANDIDATES) {
+                    return false;
+                }
+
+                int hiddenSingles = seenOnce & ~seenMoreThanOnce;
+                while (hiddenSingles != 0) {
+                    int bit = hiddenSingles & -hiddenSingles;
+                    hiddenSingles ^= bit;
+                    for (int cell : groupingCells) {
+                        if (cells[cell] == 0 && (getCandidates(cell) & bit) != 0) {
+                            place(cell, bit);
+                            progress = true;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private int getCandidates(int cell) {
+        int used = groupingMasks[CELL_ROW[cell]] | groupingMasks[CELL_COL[cell]] | groupingMasks[CELL_BOX[cell]];
+        return ~used & ALL_CANDIDATES;
+    }
+
+    private void place(int cell, int bit) {
+        cells[cell] = Integer.numberOfTrailingZeros(bit) + 1;
+        groupingMasks[CELL_ROW[cell]] |= bit;
+        groupingMasks[CELL_COL[cell]] |= bit;
+        groupingMasks[CELL_BOX[cell]] |= bit;
+    }
+}
@@ -0,0 +1,24 @@
+package corypgr.project.euler.problems.util;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Cooperative cancellation for long running solvers. ProblemRunner interrupts a problem's thread once it runs past its
+ * timeout, and solvers call checkInterrupted from their outer loops so they stop soon after instead of running on in
+ * the background.
+ *
+ * Checks are cheap, but not free, so they belong once per outer iteration rather than in the innermost loops.
+ */
+public final class Cancellation {
+    private Cancellation() {
+    }
+
+    /**
+     * Throws CancellationException if the current thread has been interrupted. The interrupt flag is left set.
+     */
+    public static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Interrupted");
+        }
+    }
+}
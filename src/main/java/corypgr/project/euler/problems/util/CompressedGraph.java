@@ -0,0 +1,142 @@
+package corypgr.project.euler.problems.util;
+
+import java.util.Arrays;
+
+/**
+ * Immutable directed graph with weighted edges, stored in compressed sparse row (CSR) form. See
+ * https://en.wikipedia.org/wiki/Sparse_matrix#Compressed_sparse_row_(CSR,_CRS_or_Yale_format)
+ *
+ * Nodes are the ints [0, numNodes). The edges leaving node n are the edge numbers [getEdgesStart(n), getEdgesEnd(n)),
+ * all stored next to each other in 3 flat int arrays. That's 12 bytes or so per edge, compared to a Node object and a
+ * HashSet entry per edge in ShortestPathSolver. Nothing about a search is stored on the graph, so one graph can be
+ * shared by any number of searches, including concurrent ones.
+ */
+public final class CompressedGraph {
+    // Node -> first edge number. Has numNodes + 1 entries, so the edges for node n end at offsets[n + 1].
+    private final int[] offsets;
+    // Edge number -> node the edge goes to.
+    private final int[] targets;
+    // Edge number -> weight of the edge.
+    private final int[] weights;
+    // Built the first time it is needed. Two threads may both build it, which is harmless since they build the same
+    // graph.
+    private volatile CompressedGraph reversed;
+
+    private CompressedGraph(int[] offsets, int[] targets, int[] weights) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public int getNumNodes() {
+        return offsets.length - 1;
+    }
+
+    public int getNumEdges() {
+        return targets.length;
+    }
+
+    public int getEdgesStart(int node) {
+        return offsets[node];
+    }
+
+    public int getEdgesEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    public int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    public int getWeight(int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * Returns the graph with every edge flipped around, for searching backwards from a node.
+     */
+    public CompressedGraph getReversed() {
+        CompressedGraph result = reversed;
+        if (result == null) {
+            Builder builder = new Builder(getNumNodes());
+            for (int node = 0; node < getNumNodes(); node++) {
+                for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                    builder.addEdge(targets[edge], node, weights[edge]);
+                }
+            }
+            result = builder.build();
+            result.reversed = this;
+            reversed = result;
+        }
+        return result;
+    }
+
+    /**
+     * Collects edges in any order, and sorts them by their source node when built.
+     */
+    public static final class Builder {
+        private final int numNodes;
+        private int[] sources;
+        private int[] targets;
+        private int[] weights;
+        private int numEdges;
+
+        public Builder(int numNodes) {
+            if (numNodes < 0) {
+                throw new IllegalArgumentException("numNodes must be non-negative.");
+            }
+
+            this.numNodes = numNodes;
+            this.sources = new int[16];
+            this.targets = new int[16];
+            this.weights = new int[16];
+        }
+
+        /**
+         * Throws IllegalArgumentException if either node is out of range or the weight is negative. Negative weights
+         * would break the shortest path searches.
+         */
+        public Builder addEdge(int source, int target, int weight) {
+            if (source < 0 || source >= numNodes || target < 0 || target >= numNodes) {
+                throw new IllegalArgumentException("Nodes must be in [0, " + numNodes + ").");
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Edge weights must be non-negative.");
+            }
+
+            if (numEdges == sources.length) {
+                sources = Arrays.copyOf(sources, numEdges * 2);
+                targets = Arrays.copyOf(targets, numEdges * 2);
+                weights = Arrays.copyOf(weights, numEdges * 2);
+            }
+            sources[numEdges] = source;
+            targets[numEdges] = target;
+            weights[numEdges] = weight;
+            numEdges++;
+            return this;
+        }
+
+        /**
+         * Counting sort of the edges by source node. Edges from the same source keep the order they were added in.
+         */
+        public CompressedGraph build() {
+            int[] offsets = new int[numNodes + 1];
+            for (int edge = 0; edge < numEdges; edge++) {
+                offsets[sources[edge] + 1]++;
+            }
+            for (int node = 0; node < numNodes; node++) {
+                offsets[node + 1] += offsets[node];
+            }
+
+            int[] nextSlot = Arrays.copyOf(offsets, numNodes);
+            int[] sortedTargets = new int[numEdges];
+            int[] sortedWeights = new int[numEdges];
+            for (int edge = 0; edge < numEdges; edge++) {
+                int slot = nextSlot[sources[edge]]++;
+                sortedTargets[slot] = targets[edge];
+                sortedWeights[slot] = weights[edge];
+            }
+            return new CompressedGraph(offsets, sortedTargets, sortedWeights);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package corypgr.project.euler.problems.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Djikstra's algorithm over a CompressedGraph. Works the same way as ShortestPathSolver, but all of the state for a
+ * search (distances, previous nodes, and the queue) lives in arrays created for that search instead of on the graph.
+ * The graph is never modified, so any number of searches can run against the same graph at once.
+ *
+ * Weights are on the edges, so the distance to the start node is 0. Callers modelling weighted cells, like the Project
+ * Euler grids, should put the cell weight on the edges going into it and add the start cell's weight themselves.
+ *
+ * Searches between a single start and end can use a different SearchStrategy, which usually means expanding far fewer
+ * nodes on large graphs:
+ *  * A_STAR orders the queue by distance + heuristic(node, end). See https://en.wikipedia.org/wiki/A*_search_algorithm
+ *    The heuristic must never overestimate the remaining distance, otherwise the result may not be the shortest path.
+ *    Nodes can be expanded more than once unless it is also consistent (it never drops by more than an edge's weight
+ *    along that edge). getManhattanHeuristic is both, for grids.
+ *  * BIDIRECTIONAL runs Djikstra forward from the start and backward from the end at the same time, stopping once the
+ *    two smallest queued distances add up to at least the best path seen where the searches met.
+ *
+ * Every strategy returns the same ShortestPaths, so distances and paths to the end node come out the same way.
+ */
+public class CompressedShortestPathSolver {
+    private static final int NO_PREVIOUS_NODE = -1;
+    private static final int NO_END_NODE = -1;
+    private static final IntBinaryOperator NO_HEURISTIC = (node, end) -> 0;
+
+    private final SearchStrategy strategy;
+    private final IntBinaryOperator heuristic;
+
+    public CompressedShortestPathSolver() {
+        this(SearchStrategy.DIJKSTRA);
+    }
+
+    /**
+     * A_STAR without a heuristic behaves exactly like DIJKSTRA.
+     */
+    public CompressedShortestPathSolver(SearchStrategy strategy) {
+        this(strategy, NO_HEURISTIC);
+    }
+
+    /**
+     * The heuristic is given (node, end), and is only used by A_STAR.
+     */
+    public CompressedShortestPathSolver(SearchStrategy strategy, IntBinaryOperator heuristic) {
+        this.strategy = strategy;
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * Returns the total weight of the shortest path from start to end.
+     *
+     * Throws IllegalStateException if there is not a valid path from the start to end nodes.
+     */
+    public int findShortestPathDistance(CompressedGraph graph, int start, int end) {
+        return getReachableSearch(graph, start, end).getDistance(end);
+    }
+
+    /**
+     * Returns the nodes in the shortest path from start to end, including both.
+     *
+     * Throws IllegalStateException if there is not a valid path from the start to end nodes.
+     */
+    public List<Integer> findShortestPath(CompressedGraph graph, int start, int end) {
+        return getReachableSearch(graph, start, end).getPath(end);
+    }
+
+    /**
+     * Runs the search to completion with Djikstra's algorithm, finding the shortest path from start to every reachable
+     * node. The SearchStrategy only applies to searches with an end node.
+     */
+    public ShortestPaths findShortestPaths(CompressedGraph graph, int start) {
+        validateNode(graph, start);
+        return search(graph, start, NO_END_NODE, NO_HEURISTIC);
+    }
+
+    /**
+     * Runs the search with this solver's SearchStrategy, stopping once the shortest path to end is known. Only the
+     * distance and path to end can be trusted in the result. Useful for looking at getExpandedNodeCount.
+     */
+    public ShortestPaths findShortestPaths(CompressedGraph graph, int start, int end) {
+        validateNode(graph, start);
+        validateNode(graph, end);
+
+        switch (strategy) {
+            case A_STAR:
+                return search(graph, start, end, heuristic);
+            case BIDIRECTIONAL:
+                return searchBidirectional(graph, start, end);
+            default:
+                return search(graph, start, end, NO_HEURISTIC);
+        }
+    }
+
+    /**
+     * Returns an A_STAR heuristic for a grid stored row-major with the given number of columns, moving between
+     * horizontal and vertical neighbours. Every step costs at least minWeight, so the Manhattan distance times minWeight
+     * never overestimates.
+     */
+    public static IntBinaryOperator getManhattanHeuristic(int cols, int minWeight) {
+        return (node, end) -> {
+            int rowDistance = Math.abs(node / cols - end / cols);
+            int colDistance = Math.abs(node % cols - end % cols);
+            return (rowDistance + colDistance) * minWeight;
+        };
+    }
+
+    private ShortestPaths getReachableSearch(CompressedGraph graph, int start, int end) {
+        ShortestPaths result = findShortestPaths(graph, start, end);
+        if (!result.isReachable(end)) {
+            throw new IllegalStateException("No path from start to end nodes.");
+        }
+        return result;
+    }
+
+    /**
+     * Stops as soon as the end node is removed from the queue, since its distance is final at that point. Pass
+     * NO_END_NODE as the end to search the whole graph. With a heuristic of 0 this is plain Djikstra, otherwise it is
+     * A*.
+     */
+    private ShortestPaths search(CompressedGraph graph, int start, int end, IntBinaryOperator heuristic) {
+        int[] distances = createDistances(graph);
+        int[] previousNodes = createPreviousNodes(graph);
+        int expandedNodes = 0;
+
+        distances[start] = 0;
+        IndexedMinHeap queue = new IndexedMinHeap(Math.max(1, graph.getNumNodes()));
+        queue.insert(start, heuristic.applyAsInt(start, end));
+        while (!queue.isEmpty()) {
+            int closest = queue.pollMin();
+            expandedNodes++;
+            if (closest == end) {
+                break;
+            }
+
+            int closestDistance = distances[closest];
+            for (int edge = graph.getEdgesStart(closest); edge < graph.getEdgesEnd(closest); edge++) {
+                int child = graph.getTarget(edge);
+                int newDistance = Math.addExact(closestDistance, graph.getWeight(edge));
+                if (newDistance < distances[child]) {
+                    distances[child] = newDistance;
+                    previousNodes[child] = closest;
+                    queue.insertOrDecreaseKey(child, Math.addExact(newDistance, heuristic.applyAsInt(child, end)));
+                }
+            }
+        }
+        return new ShortestPaths(distances, previousNodes, expandedNodes);
+    }
+
+    /**
+     * The backward search runs over the reversed graph, so its previous nodes point towards the end. Once the searches
+     * stop, the backward half of the best path is flipped into the forward previousNodes so that ShortestPaths can
+     * walk it like any other search.
+     */
+    private ShortestPaths searchBidirectional(CompressedGraph graph, int start, int end) {
+        int[] forwardDistances = createDistances(graph);
+        int[] forwardPrevious = createPreviousNodes(graph);
+        int[] backwardDistances = createDistances(graph);
+        int[] backwardNext = createPreviousNodes(graph);
+        forwardDistances[start] = 0;
+        backwardDistances[end] = 0;
+
+        if (start == end) {
+            return new ShortestPaths(forwardDistances, forwardPrevious, 1);
+        }
+
+        CompressedGraph reversed = graph.getReversed();
+        IndexedMinHeap forwardQueue = new IndexedMinHeap(Math.max(1, graph.getNumNodes()));
+        IndexedMinHeap backwardQueue = new IndexedMinHeap(Math.max(1, graph.getNumNodes()));
+        forwardQueue.insert(start, 0);
+        backwardQueue.insert(end, 0);
+
+        long bestDistance = Long.MAX_VALUE;
+        // The edge (meetingFrom -> meetingTo) joining the two halves of the best path seen so far.
+        int meetingFrom = NO_PREVIOUS_NODE;
+        int meetingTo = NO_PREVIOUS_NODE;
+        int expandedNodes = 0;
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            long smallestForward = forwardQueue.getPriority(forwardQueue.peekMin());
+            long smallestBackward = backwardQueue.getPriority(backwardQueue.peekMin());
+            if (smallestForward + smallestBackward >= bestDistance) {
+                break;
+            }
+
+            boolean forward = forwardQueue.size() <= backwardQueue.size();
+            CompressedGraph currentGraph = forward ? graph : reversed;
+            IndexedMinHeap queue = forward ? forwardQueue : backwardQueue;
+            int[] distances = forward ? forwardDistances : backwardDistances;
+            int[] previousNodes = forward ? forwardPrevious : backwardNext;
+            int[] otherDistances = forward ? backwardDistances : forwardDistances;
+
+            int closest = queue.pollMin();
+            expandedNodes++;
+            int closestDistance = distances[closest];
+            for (int edge = currentGraph.getEdgesStart(closest); edge < currentGraph.getEdgesEnd(closest); edge++) {
+                int child = currentGraph.getTarget(edge);
+                int newDistance = Math.addExact(closestDistance, currentGraph.getWeight(edge));
+                if (newDistance < distances[child]) {
+                    distances[child] = newDistance;
+                    previousNodes[child] = closest;
+                    queue.insertOrDecreaseKey(child, newDistance);
+                }
+
+                if (otherDistances[child] != Integer.MAX_VALUE &&
+                        (long) newDistance + otherDistances[child] < bestDistance) {
+                    bestDistance = (long) newDistance + otherDistances[child];
+                    meetingFrom = forward ? closest : child;
+                    meetingTo = forward ? child : closest;
+                }
+            }
+        }
+
+        if (meetingFrom == NO_PREVIOUS_NODE) {
+            return new ShortestPaths(forwardDistances, forwardPrevious, expandedNodes);
+        }
+
+        // Flip the backward half onto the forward arrays, from the meeting edge to the end. Zero weight edges can make
+        // the two halves share a node, in which case we can skip the loop between them and join at that node instead.
+        Set<Integer> forwardHalf = new HashSet<>();
+        for (int node = meetingFrom; node != NO_PREVIOUS_NODE; node = forwardPrevious[node]) {
+            forwardHalf.add(node);
+        }
+        int joinNode = meetingTo;
+        for (int node = meetingTo; node != NO_PREVIOUS_NODE; node = backwardNext[node]) {
+            if (forwardHalf.contains(node)) {
+                joinNode = node;
+            }
+        }
+
+        if (!forwardHalf.contains(joinNode)) {
+            forwardPrevious[joinNode] = meetingFrom;
+        }
+        forwardDistances[joinNode] = Math.toIntExact(bestDistance - backwardDistances[joinNode]);
+        for (int node = joinNode; node != end; node = backwardNext[node]) {
+            int next = backwardNext[node];
+            forwardPrevious[next] = node;
+            forwardDistances[next] = Math.toIntExact(bestDistance - backwardDistances[next]);
+        }
+        return new ShortestPaths(forwardDistances, forwardPrevious, expandedNodes);
+    }
+
+    private int[] createDistances(CompressedGraph graph) {
+        int[] distances = new int[graph.getNumNodes()];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        return distances;
+    }
+
+    private int[] createPreviousNodes(CompressedGraph graph) {
+        int[] previousNodes = new int[graph.getNumNodes()];
+        Arrays.fill(previousNodes, NO_PREVIOUS_NODE);
+        return previousNodes;
+    }
+
+    private void validateNode(CompressedGraph graph, int node) {
+        if (node < 0 || node >= graph.getNumNodes()) {
+            throw new IllegalArgumentException("Node must be in [0, " + graph.getNumNodes() + ").");
+        }
+    }
+
+    public enum SearchStrategy {
+        DIJKSTRA,
+        A_STAR,
+        BIDIRECTIONAL
+    }
+
+    /**
+     * Results of a single search. Only nodes that were settled before the search stopped have final distances, so
+     * results from findShortestPaths(graph, start) can be trusted for every node, while the others only hold for the
+     * end node.
+     */
+    public static final class ShortestPaths {
+        private final int[] distances;
+        private final int[] previousNodes;
+        private final int expandedNodeCount;
+
+        private ShortestPaths(int[] distances, int[] previousNodes, int expandedNodeCount) {
+            this.distances = distances;
+            this.previousNodes = previousNodes;
+            this.expandedNodeCount = expandedNodeCount;
+        }
+
+        public boolean isReachable(int node) {
+            return distances[node] != Integer.MAX_VALUE;
+        }
+
+        /**
+         * Throws IllegalStateException if the node can't be reached from the start.
+         */
+        public int getDistance(int node) {
+            validateReachable(node);
+            return distances[node];
+        }
+
+        /**
+         * Returns the nodes from the start to this node, including both.
+         *
+         * Throws IllegalStateException if the node can't be reached from the start.
+         */
+        public List<Integer> getPath(int node) {
+            validateReachable(node);
+
+            LinkedList<Integer> result = new LinkedList<>();
+            for (int current = node; current != NO_PREVIOUS_NODE; current = previousNodes[current]) {
+                result.addFirst(current);
+            }
+            return result;
+        }
+
+        /**
+         * Number of nodes removed from the queue(s) during the search.
+         */
+        public int getExpandedNodeCount() {
+            return expandedNodeCount;
+        }
+
+        private void validateReachable(int node) {
+            if (!isReachable(node)) {
+                throw new IllegalStateException("No path from start to node " + node + ".");
+            }
+        }
+    }
+}
@@ -4,16 +4,41 @@ import lombok.AllArgsConstructor;
 import lombok.Value;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 /**
  * Utility for generating the repeating continued fractions of squared roots, as well as getting the convergents of
  * a continued fraction.
  */
 public class ContinuedFractionUtil {
+    private static final int[] EMPTY_REPEATED_PART = new int[0];
+
+    /**
+     * Repeated continued parts of square roots keyed by n. Null unless caching was requested.
+     */
+    private final Map<Integer, int[]> repeatedPartCache;
+
+    public ContinuedFractionUtil() {
+        this(false);
+    }
+
+    /**
+     * When cacheExpansions is true, the int[] repeated continued parts of square roots are kept and reused by later
+     * calls on this instance. The cache is safe to share between threads.
+     */
+    public ContinuedFractionUtil(boolean cacheExpansions) {
+        this.repeatedPartCache = cacheExpansions ? new ConcurrentHashMap<>() : null;
+    }
+
     public ContinuedFraction getContinuedFractionOfSquareRoot(int n) {
         if (n < 0) {
             throw new IllegalArgumentException("Only works on positive square root values.");
@@ -40,18 +65,147 @@ public class ContinuedFractionUtil {
         return new ContinuedFraction(wholePart, continuedList);
     }
 
+    /**
+     * Returns the length of the repeated continued part of sqrt(n), or 0 if n is a square.
+     *
+     * Works directly on the integer (m, d, a) recurrence from
+     * https://en.wikipedia.org/wiki/Methods_of_computing_square_roots#Continued_fraction_expansion, which is the same
+     * math as CustomFraction without creating any objects or computing a square root at each step.
+     */
+    public int getPeriodOfSquareRoot(int n) {
+        int wholePart = integerSquareRoot(n);
+        if (wholePart * wholePart == n) {
+            return 0;
+        }
+
+        int period = 0;
+        // All of these stay below 2 * sqrt(n), and m * m <= n, so ints are enough.
+        int m = 0;
+        int d = 1;
+        int a = wholePart;
+        while (a != 2 * wholePart) {
+            m = d * a - m;
+            d = (n - m * m) / d;
+            a = (wholePart + m) / d;
+            period++;
+        }
+        return period;
+    }
+
+    /**
+     * Same as getContinuedFractionOfSquareRoot(n).getRepeatedContinuedPart(), but as an int[] built with the primitive
+     * recurrence from getPeriodOfSquareRoot. Returns an empty array if n is a square.
+     *
+     * If this instance caches expansions, the returned array is shared and must not be modified.
+     */
+    public int[] getRepeatedContinuedPartOfSquareRoot(int n) {
+        if (repeatedPartCache == null) {
+            return computeRepeatedContinuedPartOfSquareRoot(n);
+        }
+
+        int[] cached = repeatedPartCache.get(n);
+        if (cached == null) {
+            cached = computeRepeatedContinuedPartOfSquareRoot(n);
+            repeatedPartCache.put(n, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Returns the period of sqrt(n) for every n in [0, maxN], where result[n] is the period for n. Runs in parallel
+     * across n since each value is independent.
+     */
+    public int[] getPeriodsOfSquareRoots(int maxN) {
+        if (maxN < 0) {
+            throw new IllegalArgumentException("Only works on positive square root values.");
+        }
+
+        int[] result = new int[maxN + 1];
+        IntStream.rangeClosed(0, maxN)
+                .parallel()
+                .forEach(n -> result[n] = getPeriodOfSquareRoot(n));
+        return result;
+    }
+
+    /**
+     * Returns the repeated continued part of sqrt(n) for every n in [0, maxN], where result[n] is the part for n. Runs
+     * in parallel across n, and uses the cache if this instance has one.
+     */
+    public int[][] getRepeatedContinuedPartsOfSquareRoots(int maxN) {
+        if (maxN < 0) {
+            throw new IllegalArgumentException("Only works on positive square root values.");
+        }
+
+        int[][] result = new int[maxN + 1][];
+        IntStream.rangeClosed(0, maxN)
+                .parallel()
+                .forEach(n -> result[n] = getRepeatedContinuedPartOfSquareRoot(n));
+        return result;
+    }
+
+    private int[] computeRepeatedContinuedPartOfSquareRoot(int n) {
+        int wholePart = integerSquareRoot(n);
+        if (wholePart * wholePart == n) {
+            return EMPTY_REPEATED_PART;
+        }
+
+        int[] repeatedPart = new int[8];
+        int period = 0;
+        // All of these stay below 2 * sqrt(n), and m * m <= n, so ints are enough.
+        int m = 0;
+        int d = 1;
+        int a = wholePart;
+        while (a != 2 * wholePart) {
+            m = d * a - m;
+            d = (n - m * m) / d;
+            a = (wholePart + m) / d;
+
+            if (period == repeatedPart.length) {
+                repeatedPart = Arrays.copyOf(repeatedPart, period * 2);
+            }
+            repeatedPart[period] = a;
+            period++;
+        }
+        return Arrays.copyOf(repeatedPart, period);
+    }
+
+    private int integerSquareRoot(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Only works on positive square root values.");
+        }
+
+        // Math.sqrt is exact enough for any int, but double check the rounding anyway.
+        int root = (int) Math.sqrt(n);
+        while ((long) root * root > n) {
+            root--;
+        }
+        while ((long) (root + 1) * (root + 1) <= n) {
+            root++;
+        }
+        return root;
+    }
+
     /**
      * Returns an Iterator because the series of convergents is infinite. The Iterator will be infinite unless n is a
      * square.
      */
     public Iterator<RationalFraction> getConvergentsOfSquareRoot(int n) {
-        ContinuedFraction continuedFraction = getContinuedFractionOfSquareRoot(n);
-        if (continuedFraction.getRepeatedContinuedPart().isEmpty()) {
-            return getConvergentsUsingContinuedFractionVals(continuedFraction.getWholePart(), Collections.emptyIterator());
+        return toRationalFractionIterator(getConvergentSequenceOfSquareRoot(n));
+    }
+
+    /**
+     * Returns a ConvergentSequence because the series of convergents is infinite. The sequence will be infinite unless
+     * n is a square. See ConvergentSequence for the allocation-free way of stepping through the convergents.
+     */
+    public ConvergentSequence getConvergentSequenceOfSquareRoot(int n) {
+        int wholePart = integerSquareRoot(n);
+        int[] repeatedPart = getRepeatedContinuedPartOfSquareRoot(n);
+        if (repeatedPart.length == 0) {
+            return new ConvergentSequence(wholePart, Collections.<Integer>emptyIterator());
         }
 
-        Iterator<Integer> continuedFractionIterator = new Iterator<>() {
-            private Iterator<Integer> continuedFractionIterator = continuedFraction.getRepeatedContinuedPart().iterator();
+        PrimitiveIterator.OfInt continuedFractionIterator = new PrimitiveIterator.OfInt() {
+            private int index = 0;
 
             @Override
             public boolean hasNext() {
@@ -59,56 +213,44 @@ public class ContinuedFractionUtil {
             }
 
             @Override
-            public Integer next() {
-                if (!continuedFractionIterator.hasNext()) {
-                    continuedFractionIterator = continuedFraction.getRepeatedContinuedPart().iterator();
-                }
-
-                return continuedFractionIterator.next();
+            public int nextInt() {
+                int result = repeatedPart[index];
+                index = (index + 1) % repeatedPart.length;
+                return result;
             }
         };
-
-        return getConvergentsUsingContinuedFractionVals(continuedFraction.getWholePart(), continuedFractionIterator);
+        return new ConvergentSequence(wholePart, continuedFractionIterator);
     }
 
     /**
      * Returns an Iterator because the series of convergents could be infinite. The Iterator will be return so long as
      * the continuedFractionIterator returns.
+     *
+     * Backed by a ConvergentSequence, so the convergents are computed with longs until they overflow. Each call to
+     * next() still creates a new RationalFraction. Use ConvergentSequence directly to avoid that.
      */
     public Iterator<RationalFraction> getConvergentsUsingContinuedFractionVals(int wholePart,
             Iterator<Integer> continuedFractionIterator) {
+        return toRationalFractionIterator(new ConvergentSequence(wholePart, continuedFractionIterator));
+    }
 
+    private Iterator<RationalFraction> toRationalFractionIterator(ConvergentSequence sequence) {
         return new Iterator<>() {
-            private BigInteger prevNumerator = BigInteger.ONE; // Satisfies the equation.
-            private BigInteger prevDenominator = BigInteger.ZERO; // Satisfies the equation.
-            private BigInteger numerator = BigInteger.valueOf(wholePart);
-            private BigInteger denominator = BigInteger.ONE;
+            private boolean hasNext = true;
 
             @Override
             public boolean hasNext() {
-                return numerator != null;
+                return hasNext;
             }
 
             @Override
             public RationalFraction next() {
-                RationalFraction returnVal = new RationalFraction(numerator, denominator);
-
-                if (!continuedFractionIterator.hasNext()) {
-                    this.numerator = null;
-                    this.denominator = null;
-                    return returnVal;
+                if (!hasNext) {
+                    throw new NoSuchElementException();
                 }
 
-                BigInteger newPrevNumerator = numerator;
-                BigInteger newPrevDenominator = denominator;
-
-                BigInteger continuedFractionVal = BigInteger.valueOf(continuedFractionIterator.next());
-
-                this.numerator = continuedFractionVal.multiply(numerator).add(prevNumerator);
-                this.denominator = continuedFractionVal.multiply(denominator).add(prevDenominator);
-                this.prevNumerator = newPrevNumerator;
-                this.prevDenominator = newPrevDenominator;
-
+                RationalFraction returnVal = sequence.toRationalFraction();
+                hasNext = sequence.advance();
                 return returnVal;
             }
         };
@@ -126,6 +268,135 @@ public class ContinuedFractionUtil {
         private final List<Integer> repeatedContinuedPart;
     }
 
+    /**
+     * Mutable convergent state for a continued fraction. Starts at the first convergent (wholePart / 1), and each call
+     * to advance() moves to the next convergent using f(n) = c(n) * f(n - 1) + f(n - 2) for both the numerator and
+     * denominator.
+     *
+     * The numerators and denominators are held in longs until one of the multiplications or additions overflows,
+     * which Math.multiplyExact and Math.addExact detect for us. At that point the state is promoted to BigIntegers and
+     * stays there. Nothing is allocated per convergent while the values fit in a long.
+     */
+    public static final class ConvergentSequence {
+        private final PrimitiveIterator.OfInt continuedFractionIterator;
+
+        private long prevNumerator = 1; // Satisfies the equation.
+        private long prevDenominator = 0; // Satisfies the equation.
+        private long numerator;
+        private long denominator = 1;
+
+        // Only set after the long values overflow.
+        private BigInteger bigPrevNumerator;
+        private BigInteger bigPrevDenominator;
+        private BigInteger bigNumerator;
+        private BigInteger bigDenominator;
+
+        public ConvergentSequence(int wholePart, PrimitiveIterator.OfInt continuedFractionIterator) {
+            this.numerator = wholePart;
+            this.continuedFractionIterator = continuedFractionIterator;
+        }
+
+        public ConvergentSequence(int wholePart, Iterator<Integer> continuedFractionIterator) {
+            this(wholePart, toIntIterator(continuedFractionIterator));
+        }
+
+        /**
+         * Moves to the next convergent. Returns false, leaving the current convergent in place, if there are no more
+         * continued fraction values.
+         */
+        public boolean advance() {
+            if (!continuedFractionIterator.hasNext()) {
+                return false;
+            }
+
+            int continuedFractionVal = continuedFractionIterator.nextInt();
+            if (bigNumerator == null) {
+                try {
+                    long newNumerator = Math.addExact(Math.multiplyExact(continuedFractionVal, numerator), prevNumerator);
+                    long newDenominator =
+                            Math.addExact(Math.multiplyExact(continuedFractionVal, denominator), prevDenominator);
+                    prevNumerator = numerator;
+                    prevDenominator = denominator;
+                    numerator = newNumerator;
+                    denominator = newDenominator;
+                    return true;
+                } catch (ArithmeticException e) {
+                    // Overflowed the longs. Switch over to BigIntegers for this and every later convergent.
+                    bigPrevNumerator = BigInteger.valueOf(prevNumerator);
+                    bigPrevDenominator = BigInteger.valueOf(prevDenominator);
+                    bigNumerator = BigInteger.valueOf(numerator);
+                    bigDenominator = BigInteger.valueOf(denominator);
+                }
+            }
+
+            BigInteger bigContinuedFractionVal = BigInteger.valueOf(continuedFractionVal);
+            BigInteger newNumerator = bigContinuedFractionVal.multiply(bigNumerator).add(bigPrevNumerator);
+            BigInteger newDenominator = bigContinuedFractionVal.multiply(bigDenominator).add(bigPrevDenominator);
+            bigPrevNumerator = bigNumerator;
+            bigPrevDenominator = bigDenominator;
+            bigNumerator = newNumerator;
+            bigDenominator = newDenominator;
+            return true;
+        }
+
+        /**
+         * True while the current numerator and denominator fit in a long.
+         */
+        public boolean fitsInLong() {
+            return bigNumerator == null;
+        }
+
+        /**
+         * Throws ArithmeticException if the current numerator doesn't fit in a long.
+         */
+        public long getNumeratorAsLong() {
+            if (!fitsInLong()) {
+                throw new ArithmeticException("Numerator is out of long range.");
+            }
+            return numerator;
+        }
+
+        /**
+         * Throws ArithmeticException if the current denominator doesn't fit in a long.
+         */
+        public long getDenominatorAsLong() {
+            if (!fitsInLong()) {
+                throw new ArithmeticException("Denominator is out of long range.");
+            }
+            return denominator;
+        }
+
+        public BigInteger getNumerator() {
+            return fitsInLong() ? BigInteger.valueOf(numerator) : bigNumerator;
+        }
+
+        public BigInteger getDenominator() {
+            return fitsInLong() ? BigInteger.valueOf(denominator) : bigDenominator;
+        }
+
+        public RationalFraction toRationalFraction() {
+            return new RationalFraction(getNumerator(), getDenominator());
+        }
+
+        private static PrimitiveIterator.OfInt toIntIterator(Iterator<Integer> iterator) {
+            if (iterator instanceof PrimitiveIterator.OfInt) {
+                return (PrimitiveIterator.OfInt) iterator;
+            }
+
+            return new PrimitiveIterator.OfInt() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public int nextInt() {
+                    return iterator.next();
+                }
+            };
+        }
+    }
+
     /**
      * A CustomFraction when computed is (sqrt(numeratorSquareRoot) + numeratorAddNum) / denominatorNum;
      */
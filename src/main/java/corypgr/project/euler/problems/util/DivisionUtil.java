@@ -2,6 +2,7 @@ package corypgr.project.euler.problems.util;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 public class DivisionUtil {
     /**
@@ -46,4 +47,170 @@ public class DivisionUtil {
         }
         return sb.toString();
     }
+
+    /**
+     * Returns the number of decimal digits after the "." and before the repeating part of numerator / denominator. Ex:
+     *  * 1/3 = "0.(3)" has 0
+     *  * 1/4 = "0.25" has 2
+     *  * 1/6 = "0.1(6)" has 1
+     *
+     * The remainders only stop changing once all the 2s and 5s in the (reduced) denominator have been used up, so
+     * this is just the larger of the number of 2s and the number of 5s. Doesn't build the String or track remainders.
+     */
+    public int getNonRepeatingDecimalLength(int numerator, int denominator) {
+        int reducedDenominator = getReducedDenominator(numerator, denominator);
+
+        int twos = 0;
+        for (int remaining = reducedDenominator; remaining % 2 == 0; remaining /= 2) {
+            twos++;
+        }
+        int fives = 0;
+        for (int remaining = reducedDenominator; remaining % 5 == 0; remaining /= 5) {
+            fives++;
+        }
+        return Math.max(twos, fives);
+    }
+
+    /**
+     * Returns the length of the repeating part of numerator / denominator, or 0 if the decimal terminates. Ex:
+     *  * 1/3 = "0.(3)" has 1
+     *  * 1/4 = "0.25" has 0
+     *  * 1/7 = "0.(142857)" has 6
+     *
+     * With the 2s and 5s removed from the reduced denominator d, the repeating part is as long as the smallest k with
+     * 10^k = 1 (mod d). We step through the powers of 10 directly, so nothing is allocated.
+     */
+    public int getRepeatingDecimalLength(int numerator, int denominator) {
+        int coprimeDenominator = removeFactorsOf2And5(getReducedDenominator(numerator, denominator));
+        if (coprimeDenominator == 1) {
+            return 0;
+        }
+
+        int length = 1;
+        long remainder = 10 % coprimeDenominator;
+        while (remainder != 1) {
+            remainder = (remainder * 10) % coprimeDenominator;
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the length of the repeating part of 1 / d for every d in [1, maxDenominator], where result[d] is the
+     * length for d. result[0] is left as 0.
+     *
+     * Stepping through the powers of 10 takes up to d steps for each denominator, which is too slow for millions of
+     * them. Instead, this uses the multiplicative order of 10 mod d. The order always divides the Carmichael function
+     * lambda(d) (https://en.wikipedia.org/wiki/Carmichael_function), so we start with lambda(d) and divide out each of
+     * its prime factors while 10^(order / p) is still 1 (mod d). Both d and lambda(d) are factored with a smallest
+     * prime factor sieve, and the denominators are processed in parallel.
+     */
+    public int[] getRepeatingDecimalLengths(int maxDenominator) {
+        if (maxDenominator < 1) {
+            throw new IllegalArgumentException("maxDenominator must be positive.");
+        }
+
+        int[] smallestPrimeFactors = getSmallestPrimeFactors(maxDenominator);
+        int[] result = new int[maxDenominator + 1];
+        IntStream.rangeClosed(1, maxDenominator)
+                .parallel()
+                .forEach(d -> result[d] = getMultiplicativeOrderOf10(removeFactorsOf2And5(d), smallestPrimeFactors));
+        return result;
+    }
+
+    private int getReducedDenominator(int numerator, int denominator) {
+        if (denominator <= 0 || numerator < 0) {
+            throw new IllegalArgumentException("numerator must be non-negative and denominator must be positive.");
+        }
+
+        int remainder = numerator % denominator;
+        if (remainder == 0) {
+            return 1;
+        }
+        return denominator / gcd(remainder, denominator);
+    }
+
+    private int gcd(int a, int b) {
+        while (b != 0) {
+            int temp = a % b;
+            a = b;
+            b = temp;
+        }
+        return a;
+    }
+
+    private int removeFactorsOf2And5(int val) {
+        while (val % 2 == 0) {
+            val /= 2;
+        }
+        while (val % 5 == 0) {
+            val /= 5;
+        }
+        return val;
+    }
+
+    /**
+     * Expects d to be coprime to 10 and smallestPrimeFactors to cover d.
+     */
+    private int getMultiplicativeOrderOf10(int d, int[] smallestPrimeFactors) {
+        if (d == 1) {
+            return 0;
+        }
+
+        // Carmichael function. For odd prime powers lambda(p^k) = p^(k - 1) * (p - 1), and lambda of the whole number
+        // is the lcm of those.
+        int lambda = 1;
+        for (int remaining = d; remaining > 1; ) {
+            int prime = smallestPrimeFactors[remaining];
+            int primePower = 1;
+            while (remaining % prime == 0) {
+                remaining /= prime;
+                primePower *= prime;
+            }
+            int primePowerLambda = (primePower / prime) * (prime - 1);
+            lambda = lambda / gcd(lambda, primePowerLambda) * primePowerLambda;
+        }
+
+        int order = lambda;
+        for (int remaining = lambda; remaining > 1; ) {
+            int prime = smallestPrimeFactors[remaining];
+            while (remaining % prime == 0) {
+                remaining /= prime;
+            }
+            while (order % prime == 0 && modPow(10, order / prime, d) == 1) {
+                order /= prime;
+            }
+        }
+        return order;
+    }
+
+    private long modPow(long base, int exponent, int mod) {
+        long result = 1;
+        base %= mod;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = (result * base) % mod;
+            }
+            base = (base * base) % mod;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    private int[] getSmallestPrimeFactors(int max) {
+        int[] smallestPrimeFactors = new int[max + 1];
+        for (int i = 2; i <= max; i++) {
+            if (smallestPrimeFactors[i] != 0) {
+                continue;
+            }
+
+            smallestPrimeFactors[i] = i;
+            for (long multiple = (long) i * i; multiple <= max; multiple += i) {
+                if (smallestPrimeFactors[(int) multiple] == 0) {
+                    smallestPrimeFactors[(int) multiple] = i;
+                }
+            }
+        }
+        return smallestPrimeFactors;
+    }
 }
@@ -0,0 +1,239 @@
+package corypgr.project.euler.problems.util;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Knuth's Algorithm X with dancing links, for exact cover problems. See https://arxiv.org/abs/cs/0011047 and
+ * https://en.wikipedia.org/wiki/Dancing_Links
+ *
+ * The problem is a set of columns (constraints) and a set of rows, each row covering some of the columns. A solution is
+ * a set of rows covering every primary column exactly once. Secondary columns may be covered at most once, which is
+ * handy for things like the diagonals in the N queens problem. Sudoku, pentomino tilings, and similar placement puzzles
+ * all fit this shape.
+ *
+ * Rather than a Node object per 1 in the matrix, every node is an index into a handful of int arrays holding its
+ * left/right/up/down links, its column, and its row. Index 0 is the root, and indices [1, numColumns] are the column
+ * headers. Secondary column headers link to themselves instead of into the root's list, so they are never chosen to
+ * branch on.
+ *
+ * Searches unlink and then relink nodes, leaving the matrix as it was, so the same instance can be searched more than
+ * once and more rows can be added in between. It isn't thread safe.
+ */
+public class ExactCoverSolver {
+    private static final int ROOT = 0;
+
+    private final int numPrimaryColumns;
+    private final int numColumns;
+    private final int[] columnSizes;
+
+    private int[] left;
+    private int[] right;
+    private int[] up;
+    private int[] down;
+    private int[] nodeColumns;
+    private int[] nodeRows;
+    private int numNodes;
+    private int numRows;
+
+    // Rows picked so far in the current search.
+    private int[] partialSolution;
+    private int depth;
+
+    public ExactCoverSolver(int numColumns) {
+        this(numColumns, 0);
+    }
+
+    public ExactCoverSolver(int numPrimaryColumns, int numSecondaryColumns) {
+        if (numPrimaryColumns < 0 || numSecondaryColumns < 0) {
+            throw new IllegalArgumentException("Column counts must be non-negative.");
+        }
+
+        this.numPrimaryColumns = numPrimaryColumns;
+        this.numColumns = numPrimaryColumns + numSecondaryColumns;
+        this.columnSizes = new int[numColumns + 1];
+
+        int capacity = Math.max(16, 2 * (numColumns + 1));
+        this.left = new int[capacity];
+        this.right = new int[capacity];
+        this.up = new int[capacity];
+        this.down = new int[capacity];
+        this.nodeColumns = new int[capacity];
+        this.nodeRows = new int[capacity];
+        this.partialSolution = new int[16];
+
+        for (int node = 0; node <= numColumns; node++) {
+            up[node] = node;
+            down[node] = node;
+            nodeColumns[node] = node;
+            nodeRows[node] = -1;
+            if (node == ROOT || node <= numPrimaryColumns) {
+                // Primary headers form a circular list with the root.
+                int previous = (node == ROOT) ? numPrimaryColumns : node - 1;
+                left[node] = previous;
+                right[previous] = node;
+            } else {
+                left[node] = node;
+                right[node] = node;
+            }
+        }
+        this.numNodes = numColumns + 1;
+    }
+
+    /**
+     * Adds a row covering the given columns, numbered from 0. Primary columns come first, then secondary ones. Returns
+     * the row's number, which is what solutions are made of. Rows are numbered from 0 in the order they are added.
+     *
+     * Throws IllegalArgumentException if no columns are given, or a column is out of range or repeated.
+     */
+    public int addRow(int... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Rows must cover at least one column.");
+        }
+        int[] sortedColumns = columns.clone();
+        Arrays.sort(sortedColumns);
+        for (int i = 0; i < sortedColumns.length; i++) {
+            if (sortedColumns[i] < 0 || sortedColumns[i] >= numColumns) {
+                throw new IllegalArgumentException("Columns must be in [0, " + numColumns + ").");
+            }
+            if (i > 0 && sortedColumns[i] == sortedColumns[i - 1]) {
+                throw new IllegalArgumentException("Column " + sortedColumns[i] + " is repeated.");
+            }
+        }
+
+        ensureCapacity(numNodes + columns.length);
+        int row = numRows++;
+        int first = numNodes;
+        for (int column : columns) {
+            int header = column + 1;
+            int node = numNodes++;
+            nodeColumns[node] = header;
+            nodeRows[node] = row;
+
+            // Append to the bottom of the column.
+            up[node] = up[header];
+            down[node] = header;
+            down[up[header]] = node;
+            up[header] = node;
+            columnSizes[header]++;
+
+            // Append to the end of the row.
+            left[node] = (node == first) ? node : node - 1;
+            right[node] = first;
+            right[left[node]] = node;
+            left[first] = node;
+        }
+        return row;
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /**
+     * Returns the rows of the first solution found, in the order they were picked, or empty if there isn't one.
+     */
+    public Optional<int[]> findFirstSolution() {
+        depth = 0;
+        return search(1) > 0 ? Optional.of(Arrays.copyOf(partialSolution, depth)) : Optional.empty();
+    }
+
+    public long countSolutions() {
+        return countSolutions(Long.MAX_VALUE);
+    }
+
+    /**
+     * Counts solutions, stopping once limit have been found. A limit of 2 is a cheap way to check for a unique
+     * solution.
+     */
+    public long countSolutions(long limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive.");
+        }
+
+        depth = 0;
+        return search(limit);
+    }
+
+    /**
+     * Returns the number of solutions found below this point, up to limit. When a search stops at the limit, every
+     * cover is still undone on the way out, but partialSolution keeps the last solution's rows.
+     */
+    private long search(long limit) {
+        if (right[ROOT] == ROOT) {
+            return 1;
+        }
+
+        // Branch on the column with the fewest rows left.
+        int column = right[ROOT];
+        for (int header = right[column]; header != ROOT; header = right[header]) {
+            if (columnSizes[header] < columnSizes[column]) {
+                column = header;
+            }
+        }
+        if (columnSizes[column] == 0) {
+            return 0;
+        }
+
+        long found = 0;
+        cover(column);
+        for (int rowNode = down[column]; rowNode != column && found < limit; rowNode = down[rowNode]) {
+            if (depth == partialSolution.length) {
+                partialSolution = Arrays.copyOf(partialSolution, depth * 2);
+            }
+            partialSolution[depth++] = nodeRows[rowNode];
+            for (int node = right[rowNode]; node != rowNode; node = right[node]) {
+                cover(nodeColumns[node]);
+            }
+
+            found += search(limit - found);
+
+            for (int node = left[rowNode]; node != rowNode; node = left[node]) {
+                uncover(nodeColumns[node]);
+            }
+            if (found < limit) {
+                depth--;
+            }
+        }
+        uncover(column);
+        return found;
+    }
+
+    private void cover(int header) {
+        right[left[header]] = right[header];
+        left[right[header]] = left[header];
+        for (int rowNode = down[header]; rowNode != header; rowNode = down[rowNode]) {
+            for (int node = right[rowNode]; node != rowNode; node = right[node]) {
+                down[up[node]] = down[node];
+                up[down[node]] = up[node];
+                columnSizes[nodeColumns[node]]--;
+            }
+        }
+    }
+
+    private void uncover(int header) {
+        for (int rowNode = up[header]; rowNode != header; rowNode = up[rowNode]) {
+            for (int node = left[rowNode]; node != rowNode; node = left[node]) {
+                columnSizes[nodeColumns[node]]++;
+                down[up[node]] = node;
+                up[down[node]] = node;
+            }
+        }
+        right[left[header]] = header;
+        left[right[header]] = header;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= left.length) {
+            return;
+        }
+
+        int newLength = Math.max(capacity, left.length * 2);
+        left = Arrays.copyOf(left, newLength);
+        right = Arrays.copyOf(right, newLength);
+        up = Arrays.copyOf(up, newLength);
+        down = Arrays.copyOf(down, newLength);
+        nodeColumns = Arrays.copyOf(nodeColumns, newLength);
+        nodeRows = Arrays.copyOf(nodeRows, newLength);
+    }
+}
@@ -0,0 +1,285 @@
+package corypgr.project.euler.problems.util;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Finds minimal path sums through a grid of non-negative cell weights, like Problems 81, 82, and 83. The grid is a
+ * single row-major int[], so cell (row, col) is grid[row * cols + col]. Neighbours are worked out from the MoveSet as
+ * we go, so no graph or Node objects are ever built.
+ *
+ * A path's sum includes the weight of every cell on it, including the first and last cells. Any number of source and
+ * target cells can be given. Every source starts in the queue with its own weight, and the search stops at the first
+ * target removed from the queue, which works the same as the dummy start and end Nodes Problem 82 used to need.
+ *
+ * Two queues are supported. BINARY_HEAP is Djikstra's algorithm with an IndexedMinHeap, same as ShortestPathSolver.
+ * BUCKET is Dial's algorithm, https://en.wikipedia.org/wiki/Dijkstra%27s_algorithm#Specialized_variants, which keeps a
+ * circular array of maxWeight + 1 buckets of cells, one per pending distance. With small integer weights, like the
+ * [1, 9999] weights of the Project Euler grids, adding to and removing from the queue are both O(1).
+ */
+public class GridPathSolver {
+    private static final int NO_CELL = -1;
+    // Dial's algorithm needs a bucket per possible weight, so larger weights should use the BINARY_HEAP.
+    private static final int MAX_BUCKET_WEIGHT = 1 << 20;
+
+    private final MoveSet moveSet;
+    private final QueueType queueType;
+
+    public GridPathSolver(MoveSet moveSet) {
+        this(moveSet, QueueType.BINARY_HEAP);
+    }
+
+    public GridPathSolver(MoveSet moveSet, QueueType queueType) {
+        this.moveSet = moveSet;
+        this.queueType = queueType;
+    }
+
+    /**
+     * Returns the minimal sum of a path from any of the sources to any of the targets.
+     *
+     * Throws IllegalStateException if none of the targets can be reached.
+     */
+    public int findMinimalPathSum(int[] grid, int cols, int[] sources, int[] targets) {
+        SearchState state = search(grid, cols, sources, targets);
+        return state.distances[state.reachedTarget];
+    }
+
+    /**
+     * Returns the cells on a minimal path from any of the sources to any of the targets, in order.
+     *
+     * Throws IllegalStateException if none of the targets can be reached.
+     */
+    public List<Integer> findMinimalPath(int[] grid, int cols, int[] sources, int[] targets) {
+        SearchState state = search(grid, cols, sources, targets);
+
+        LinkedList<Integer> result = new LinkedList<>();
+        for (int cell = state.reachedTarget; cell != NO_CELL; cell = state.previousCells[cell]) {
+            result.addFirst(cell);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cells in a column, top to bottom. Handy for sources and targets like the ones in Problem 82.
+     */
+    public static int[] getColumnCells(int rows, int cols, int col) {
+        return IntStream.range(0, rows)
+                .map(row -> row * cols + col)
+                .toArray();
+    }
+
+    private SearchState search(int[] grid, int cols, int[] sources, int[] targets) {
+        validateGrid(grid, cols);
+        boolean[] isTarget = new boolean[grid.length];
+        for (int target : targets) {
+            validateCell(grid, target);
+            isTarget[target] = true;
+        }
+
+        SearchState state = new SearchState(grid.length);
+        CellQueue queue = createQueue(grid);
+        for (int source : sources) {
+            validateCell(grid, source);
+            if (grid[source] < state.distances[source]) {
+                state.distances[source] = grid[source];
+                queue.addOrUpdate(source, grid[source]);
+            }
+        }
+
+        int[] rowDeltas = moveSet.rowDeltas;
+        int[] colDeltas = moveSet.colDeltas;
+        int rows = grid.length / cols;
+        while (!queue.isEmpty()) {
+            int closest = queue.pollMin(state.distances);
+            if (closest == NO_CELL) {
+                break;
+            }
+            if (isTarget[closest]) {
+                state.reachedTarget = closest;
+                return state;
+            }
+
+            int row = closest / cols;
+            int col = closest % cols;
+            int closestDistance = state.distances[closest];
+            for (int move = 0; move < rowDeltas.length; move++) {
+                int nextRow = row + rowDeltas[move];
+                int nextCol = col + colDeltas[move];
+                if (nextRow < 0 || nextRow >= rows || nextCol < 0 || nextCol >= cols) {
+                    continue;
+                }
+
+                int next = nextRow * cols + nextCol;
+                int newDistance = Math.addExact(closestDistance, grid[next]);
+                if (newDistance < state.distances[next]) {
+                    state.distances[next] = newDistance;
+                    state.previousCells[next] = closest;
+                    queue.addOrUpdate(next, newDistance);
+                }
+            }
+        }
+
+        throw new IllegalStateException("No path from the sources to any of the targets.");
+    }
+
+    private CellQueue createQueue(int[] grid) {
+        if (queueType == QueueType.BINARY_HEAP) {
+            return new HeapCellQueue(grid.length);
+        }
+
+        int maxWeight = Arrays.stream(grid).max().orElse(0);
+        if (maxWeight > MAX_BUCKET_WEIGHT) {
+            throw new IllegalArgumentException("Weights must be at most " + MAX_BUCKET_WEIGHT +
+                    " for the BUCKET queue.");
+        }
+        return new BucketCellQueue(maxWeight);
+    }
+
+    private void validateGrid(int[] grid, int cols) {
+        if (cols <= 0 || grid.length % cols != 0) {
+            throw new IllegalArgumentException("Grid length must be a multiple of a positive number of columns.");
+        }
+        for (int weight : grid) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Grid weights must be non-negative.");
+            }
+        }
+    }
+
+    private void validateCell(int[] grid, int cell) {
+        if (cell < 0 || cell >= grid.length) {
+            throw new IllegalArgumentException("Cell must be in [0, " + grid.length + ").");
+        }
+    }
+
+    /**
+     * The directions a path is allowed to move in.
+     */
+    public enum MoveSet {
+        // Problem 81.
+        RIGHT_DOWN(new int[] {0, 1}, new int[] {1, 0}),
+        // Problem 82.
+        UP_DOWN_RIGHT(new int[] {-1, 1, 0}, new int[] {0, 0, 1}),
+        // Problem 83.
+        ALL_NEIGHBOURS(new int[] {-1, 1, 0, 0}, new int[] {0, 0, -1, 1});
+
+        private final int[] rowDeltas;
+        private final int[] colDeltas;
+
+        MoveSet(int[] rowDeltas, int[] colDeltas) {
+            this.rowDeltas = rowDeltas;
+            this.colDeltas = colDeltas;
+        }
+    }
+
+    public enum QueueType {
+        BINARY_HEAP,
+        BUCKET
+    }
+
+    private static final class SearchState {
+        private final int[] distances;
+        private final int[] previousCells;
+        private int reachedTarget;
+
+        private SearchState(int numCells) {
+            this.distances = new int[numCells];
+            this.previousCells = new int[numCells];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            Arrays.fill(previousCells, NO_CELL);
+        }
+    }
+
+    private interface CellQueue {
+        boolean isEmpty();
+
+        void addOrUpdate(int cell, int distance);
+
+        /**
+         * Removes and returns the cell with the smallest distance, or NO_CELL if only stale entries were left.
+         */
+        int pollMin(int[] distances);
+    }
+
+    private static final class HeapCellQueue implements CellQueue {
+        private final IndexedMinHeap heap;
+
+        private HeapCellQueue(int numCells) {
+            this.heap = new IndexedMinHeap(Math.max(1, numCells));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return heap.isEmpty();
+        }
+
+        @Override
+        public void addOrUpdate(int cell, int distance) {
+            heap.insertOrDecreaseKey(cell, distance);
+        }
+
+        @Override
+        public int pollMin(int[] distances) {
+            return heap.pollMin();
+        }
+    }
+
+    /**
+     * Every pending distance is within maxWeight of the current smallest one, so maxWeight + 1 buckets used in a
+     * circle are enough. Cells are never moved between buckets. Lowering a cell's distance just adds it again, and the
+     * stale entry is skipped when its bucket comes up because it no longer matches the cell's distance.
+     */
+    private static final class BucketCellQueue implements CellQueue {
+        private final int[][] buckets;
+        private final int[] bucketSizes;
+        private int currentDistance;
+        private int size;
+
+        private BucketCellQueue(int maxWeight) {
+            this.buckets = new int[maxWeight + 1][];
+            this.bucketSizes = new int[maxWeight + 1];
+            this.currentDistance = Integer.MAX_VALUE;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public void addOrUpdate(int cell, int distance) {
+            // Sources can start anywhere, so the first few adds decide where the search begins.
+            currentDistance = Math.min(currentDistance, distance);
+
+            int bucket = distance % buckets.length;
+            if (buckets[bucket] == null) {
+                buckets[bucket] = new int[16];
+            } else if (bucketSizes[bucket] == buckets[bucket].length) {
+                buckets[bucket] = Arrays.copyOf(buckets[bucket], bucketSizes[bucket] * 2);
+            }
+            buckets[bucket][bucketSizes[bucket]++] = cell;
+            size++;
+        }
+
+        @Override
+        public int pollMin(int[] distances) {
+            while (true) {
+                int bucket = currentDistance % buckets.length;
+                while (bucketSizes[bucket] > 0) {
+                    int cell = buckets[bucket][--bucketSizes[bucket]];
+                    size--;
+                    if (distances[cell] == currentDistance) {
+                        return cell;
+                    }
+                }
+
+                if (size == 0) {
+                    return NO_CELL;
+                }
+                currentDistance++;
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package corypgr.project.euler.problems.util;
+
+import lombok.Value;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * SlidingWindowProduct for 2D grids. Finds the best window of windowLength adjacent cells in a straight line: along a
+ * row, down a column, or along either diagonal.
+ *
+ * The grid is a flat row-major array, so every line is just a start cell and a stride (1 for rows, cols for columns,
+ * cols + 1 and 1 - cols for the diagonals). Lines are walked in place instead of being copied out into new arrays.
+ *
+ * Windows slide the same way SlidingWindowProduct does. Zeroes are counted rather than multiplied in, so the number
+ * falling off the back of the window can always be divided back out, and only windows without zeroes are scored. The
+ * products are exact longs, which will overflow for long enough windows. LOG_PRODUCT scoring slides a sum of logs
+ * instead, which can't overflow, at the cost of near ties (around 1e-12 relative) going either way.
+ *
+ * Each direction is scanned as its own task on the pool.
+ */
+public class GridSlidingWindow {
+    private final ForkJoinPool pool;
+
+    public GridSlidingWindow() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public GridSlidingWindow(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public enum Direction {
+        ROW(0, 1),
+        COLUMN(1, 0),
+        DOWN_DIAGONAL(1, 1),
+        UP_DIAGONAL(-1, 1);
+
+        private final int rowStep;
+        private final int colStep;
+
+        Direction(int rowStep, int colStep) {
+            this.rowStep = rowStep;
+            this.colStep = colStep;
+        }
+    }
+
+    public enum Scoring {
+        /**
+         * Exact long products. Throws ArithmeticException if a window's product overflows.
+         */
+        PRODUCT,
+        /**
+         * Products compared by the sum of their logs.
+         */
+        LOG_PRODUCT,
+        /**
+         * Exact long sums. Throws ArithmeticException if a window's sum overflows.
+         */
+        SUM
+    }
+
+    /**
+     * The best window found. value is its exact product or sum, depending on the Scoring used.
+     */
+    @Value
+    public static class Window {
+        private final Direction direction;
+        private final int startRow;
+        private final int startCol;
+        private final BigInteger value;
+    }
+
+    /**
+     * Returns the largest product of windowLength adjacent cells in any direction, or -1 if every window contains a
+     * zero. All cells must be non-negative.
+     */
+    public long findBestProduct(long[] grid, int cols, int windowLength) {
+        return findBestWindow(grid, cols, windowLength, Scoring.PRODUCT)
+                .map(window -> window.getValue().longValueExact())
+                .orElse(-1L);
+    }
+
+    /**
+     * Returns the best window in any direction, or empty if there isn't one. That happens if windowLength is longer
+     * than every line, or for products when every window contains a zero.
+     *
+     * Products need all cells to be non-negative. Ties go to the earlier direction, then the earlier window.
+     */
+    public Optional<Window> findBestWindow(long[] grid, int cols, int windowLength, Scoring scoring) {
+        if (grid == null || cols < 1 || grid.length == 0 || grid.length % cols != 0) {
+            throw new IllegalArgumentException("Grid must be non-empty, with a whole number of rows of cols cells.");
+        }
+        if (windowLength < 1) {
+            throw new IllegalArgumentException("windowLength must be positive.");
+        }
+
+        double[] logs = null;
+        if (scoring != Scoring.SUM) {
+            for (long val : grid) {
+                if (val < 0) {
+                    throw new IllegalArgumentException("Products need non-negative cells. Found: " + val);
+                }
+            }
+            if (scoring == Scoring.LOG_PRODUCT) {
+                logs = new double[grid.length];
+                for (int cell = 0; cell < grid.length; cell++) {
+                    logs[cell] = (grid[cell] == 0) ? 0 : Math.log(grid[cell]);
+                }
+            }
+        }
+
+        List<ForkJoinTask<DirectionScan>> tasks = new ArrayList<>();
+        for (Direction direction : Direction.values()) {
+            DirectionScan scan = new DirectionScan(grid, logs, cols, windowLength, scoring, direction);
+            tasks.add(pool.submit(ForkJoinTask.adapt(scan::scan, scan)));
+        }
+
+        DirectionScan best = null;
+        for (ForkJoinTask<DirectionScan> task : tasks) {
+            DirectionScan scan = task.join();
+            if (scan.hasWindow() && (best == null || scan.isBetterThan(best))) {
+                best = scan;
+            }
+        }
+        if (best == null) {
+            return Optional.empty();
+        }
+
+        int startCell = best.bestStartCell;
+        int stride = best.direction.rowStep * cols + best.direction.colStep;
+        BigInteger value = (scoring == Scoring.SUM) ? BigInteger.ZERO : BigInteger.ONE;
+        for (int i = 0; i < windowLength; i++) {
+            BigInteger cellVal = BigInteger.valueOf(grid[startCell + i * stride]);
+            value = (scoring == Scoring.SUM) ? value.add(cellVal) : value.multiply(cellVal);
+        }
+        return Optional.of(new Window(best.direction, startCell / cols, startCell % cols, value));
+    }
+
+    /**
+     * Scans every line in a single direction, remembering the best window's start cell and score.
+     */
+    private static final class DirectionScan {
+        private static final int NO_WINDOW = -1;
+
+        private final long[] grid;
+        private final double[] logs;
+        private final int rows;
+        private final int cols;
+        private final int windowLength;
+        private final Scoring scoring;
+        private final Direction direction;
+
+        private int bestStartCell = NO_WINDOW;
+        private long bestScore;
+        private double bestLogScore;
+
+        private DirectionScan(long[] grid, double[] logs, int cols, int windowLength, Scoring scoring,
+                              Direction direction) {
+            this.grid = grid;
+            this.logs = logs;
+            this.rows = grid.length / cols;
+            this.cols = cols;
+            this.windowLength = windowLength;
+            this.scoring = scoring;
+            this.direction = direction;
+        }
+
+        private boolean hasWindow() {
+            return bestStartCell != NO_WINDOW;
+        }
+
+        private boolean isBetterThan(DirectionScan other) {
+            return (scoring == Scoring.LOG_PRODUCT) ? bestLogScore > other.bestLogScore : bestScore > other.bestScore;
+        }
+
+        /**
+         * Lines start on the edges the direction walks in from: the left column for anything moving right, and the top
+         * or bottom row for anything moving down or up.
+         */
+        private void scan() {
+            if (direction.colStep == 1) {
+                for (int row = 0; row < rows; row++) {
+                    scanLine(row, 0);
+                }
+            }
+            if (direction.rowStep != 0) {
+                int edgeRow = (direction.rowStep == 1) ? 0 : rows - 1;
+                for (int col = direction.colStep; col < cols; col++) {
+                    scanLine(edgeRow, col);
+                }
+            }
+        }
+
+        private void scanLine(int startRow, int startCol) {
+            int rowsLeft = (direction.rowStep == 1) ? rows - startRow : (direction.rowStep == -1) ? startRow + 1 : rows;
+            int colsLeft = (direction.colStep == 1) ? cols - startCol : cols;
+            int length = (direction.rowStep == 0) ? colsLeft : (direction.colStep == 0) ? rowsLeft
+                    : Math.min(rowsLeft, colsLeft);
+            if (length < windowLength) {
+                return;
+            }
+
+            int start = startRow * cols + startCol;
+            int stride = direction.rowStep * cols + direction.colStep;
+            switch (scoring) {
+                case PRODUCT:
+                    scanProducts(start, stride, length);
+                    break;
+                case LOG_PRODUCT:
+                    scanLogProducts(start, stride, length);
+                    break;
+                case SUM:
+                    scanSums(start, stride, length);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected scoring: " + scoring);
+            }
+        }
+
+        private void scanProducts(int start, int stride, int length) {
+            int backOffset = windowLength * stride;
+            int numZeroes = 0;
+            long product = 1;
+            for (int i = 0, cell = start; i < length; i++, cell += stride) {
+                // Drop the number falling off the back first, so we only overflow if the new window does.
+                if (i >= windowLength) {
+                    long oldNum = grid[cell - backOffset];
+                    if (oldNum == 0) {
+                        numZeroes--;
+                    } else {
+                        product /= oldNum;
+                    }
+                }
+
+                long newNum = grid[cell];
+                if (newNum == 0) {
+                    numZeroes++;
+                } else {
+                    product = Math.multiplyExact(product, newNum);
+                }
+
+                if (i >= windowLength - 1 && numZeroes == 0 && (!hasWindow() || product > bestScore)) {
+                    bestScore = product;
+                    bestStartCell = cell - backOffset + stride;
+                }
+            }
+        }
+
+        private void scanLogProducts(int start, int stride, int length) {
+            int backOffset = windowLength * stride;
+            int numZeroes = 0;
+            double logProduct = 0;
+            for (int i = 0, cell = start; i < length; i++, cell += stride) {
+                if (i >= windowLength) {
+                    int oldCell = cell - backOffset;
+                    if (grid[oldCell] == 0) {
+                        numZeroes--;
+                    } else {
+                        logProduct -= logs[oldCell];
+                    }
+                }
+
+                if (grid[cell] == 0) {
+                    numZeroes++;
+                } else {
+                    logProduct += logs[cell];
+                }
+
+                if (i >= windowLength - 1 && numZeroes == 0 && (!hasWindow() || logProduct > bestLogScore)) {
+                    bestLogScore = logProduct;
+                    bestStartCell = cell - backOffset + stride;
+                }
+            }
+        }
+
+        private void scanSums(int start, int stride, int length) {
+            int backOffset = windowLength * stride;
+            long sum = 0;
+            for (int i = 0, cell = start; i < length; i++, cell += stride) {
+                if (i >= windowLength) {
+                    sum = Math.subtractExact(sum, grid[cell - backOffset]);
+                }
+                sum = Math.addExact(sum, grid[cell]);
+
+                if (i >= windowLength - 1 && (!hasWindow() || sum > bestScore)) {
+                    bestScore = sum;
+                    bestStartCell = cell - backOffset + stride;
+                }
+            }
+        }
+    }
+}
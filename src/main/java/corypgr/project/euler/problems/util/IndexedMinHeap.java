@@ -0,0 +1,197 @@
+package corypgr.project.euler.problems.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of int indices, ordered by an int priority per index. Unlike java.util.PriorityQueue, the heap tracks
+ * where every index currently sits, so lowering the priority of an index already in the heap (decreaseKey) is
+ * O(log n) instead of a linear remove followed by an add.
+ *
+ * Indices are expected to be small non-negative ints, like positions in an array of nodes. The backing arrays grow to
+ * fit the largest index seen.
+ */
+public class IndexedMinHeap {
+    private static final int NOT_IN_HEAP = -1;
+
+    // Heap position -> index.
+    private int[] heap;
+    // Index -> heap position, or NOT_IN_HEAP.
+    private int[] positions;
+    // Index -> priority. Only meaningful while the index is in the heap.
+    private int[] priorities;
+    private int size;
+
+    public IndexedMinHeap() {
+        this(16);
+    }
+
+    public IndexedMinHeap(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity must be positive.");
+        }
+
+        this.heap = new int[initialCapacity];
+        this.positions = new int[initialCapacity];
+        this.priorities = new int[initialCapacity];
+        Arrays.fill(positions, NOT_IN_HEAP);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int index) {
+        return index >= 0 && index < positions.length && positions[index] != NOT_IN_HEAP;
+    }
+
+    /**
+     * Throws NoSuchElementException if the index isn't in the heap.
+     */
+    public int getPriority(int index) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the heap: " + index);
+        }
+        return priorities[index];
+    }
+
+    /**
+     * Throws IllegalArgumentException if the index is negative or already in the heap.
+     */
+    public void insert(int index, int priority) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index must be non-negative.");
+        }
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index is already in the heap: " + index);
+        }
+
+        ensureCapacity(index);
+        heap[size] = index;
+        positions[index] = size;
+        priorities[index] = priority;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Throws IllegalArgumentException if the index isn't in the heap or the new priority is larger than the current
+     * one.
+     */
+    public void decreaseKey(int index, int priority) {
+        if (!contains(index)) {
+            throw new IllegalArgumentException("Index is not in the heap: " + index);
+        }
+        if (priority > priorities[index]) {
+            throw new IllegalArgumentException("New priority must not be larger than the current priority.");
+        }
+
+        priorities[index] = priority;
+        siftUp(positions[index]);
+    }
+
+    /**
+     * Inserts the index, or lowers its priority if it is already in the heap with a larger one. Does nothing if it is
+     * already in the heap with a smaller or equal priority.
+     */
+    public void insertOrDecreaseKey(int index, int priority) {
+        if (!contains(index)) {
+            insert(index, priority);
+        } else if (priority < priorities[index]) {
+            decreaseKey(index, priority);
+        }
+    }
+
+    /**
+     * Returns the index with the smallest priority without removing it.
+     */
+    public int peekMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty.");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the index with the smallest priority.
+     */
+    public int pollMin() {
+        int min = peekMin();
+
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        positions[min] = NOT_IN_HEAP;
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = NOT_IN_HEAP;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+        int priority = priorities[index];
+        while (position > 0) {
+            int parentPosition = (position - 1) / 2;
+            int parentIndex = heap[parentPosition];
+            if (priorities[parentIndex] <= priority) {
+                break;
+            }
+
+            heap[position] = parentIndex;
+            positions[parentIndex] = position;
+            position = parentPosition;
+        }
+        heap[position] = index;
+        positions[index] = position;
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        int priority = priorities[index];
+        while (true) {
+            int childPosition = 2 * position + 1;
+            if (childPosition >= size) {
+                break;
+            }
+            if (childPosition + 1 < size && priorities[heap[childPosition + 1]] < priorities[heap[childPosition]]) {
+                childPosition++;
+            }
+
+            int childIndex = heap[childPosition];
+            if (priorities[childIndex] >= priority) {
+                break;
+            }
+
+            heap[position] = childIndex;
+            positions[childIndex] = position;
+            position = childPosition;
+        }
+        heap[position] = index;
+        positions[index] = position;
+    }
+
+    private void ensureCapacity(int index) {
+        if (index >= positions.length) {
+            int newLength = Math.max(index + 1, positions.length * 2);
+            int oldLength = positions.length;
+            positions = Arrays.copyOf(positions, newLength);
+            Arrays.fill(positions, oldLength, newLength, NOT_IN_HEAP);
+            priorities = Arrays.copyOf(priorities, newLength);
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package corypgr.project.euler.problems.util;
+
+import corypgr.project.euler.problems.util.ContinuedFractionUtil.ConvergentSequence;
+import lombok.Value;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Solves Pell's equation x^2 - d * y^2 = 1, and the generalized x^2 - d * y^2 = n, for non-square d > 0. See
+ * https://en.wikipedia.org/wiki/Pell%27s_equation
+ *
+ * The fundamental solution of x^2 - d * y^2 = 1 is one of the convergents of sqrt(d). Which one depends on the period
+ * r of the continued fraction of sqrt(d). It is convergent r - 1 when r is even, and convergent 2r - 1 when r is odd
+ * (counting from 0). Every other solution comes from multiplying by the fundamental solution again:
+ * (x + y * sqrt(d)) * (x1 + y1 * sqrt(d)).
+ *
+ * The solutions of the generalized equation fall into classes, each one a single solution multiplied by every power
+ * of (x1 + y1 * sqrt(d)). One solution per class is found with the LMM algorithm (Lagrange, Matthews, Mollin). It
+ * runs the PQa continued fraction algorithm on (z + sqrt(d)) / |m| for every m = n / f^2 and every z with
+ * z^2 = d (mod |m|). Those runs take about as long as the period of sqrt(d), however large the fundamental solution
+ * is. The rest of each class comes from the same recurrence. See
+ * http://www.jpr2718.org/pell.pdf and http://www.numbertheory.org/PDFS/patz5.pdf
+ */
+public class PellSolver {
+    private static final long MAX_EXACT_SQUARE_ROOT = 3_037_000_499L;
+
+    private final ContinuedFractionUtil continuedFractionUtil;
+
+    public PellSolver() {
+        this(new ContinuedFractionUtil());
+    }
+
+    public PellSolver(ContinuedFractionUtil continuedFractionUtil) {
+        this.continuedFractionUtil = continuedFractionUtil;
+    }
+
+    /**
+     * Returns the smallest positive solution of x^2 - d * y^2 = 1.
+     */
+    public PellSolution getFundamentalSolution(int d) {
+        validateD(d);
+
+        int period = continuedFractionUtil.getPeriodOfSquareRoot(d);
+        return getConvergent(d, (period % 2 == 0) ? period - 1 : 2 * period - 1);
+    }
+
+    /**
+     * Returns the smallest positive solution of x^2 - d * y^2 = -1, or null if there isn't one. There is one exactly
+     * when the period of sqrt(d) is odd, and then it is convergent r - 1.
+     */
+    private PellSolution getNegativeFundamentalSolution(int d) {
+        int period = continuedFractionUtil.getPeriodOfSquareRoot(d);
+        return (period % 2 == 0) ? null : getConvergent(d, period - 1);
+    }
+
+    private PellSolution getConvergent(int d, int convergentIndex) {
+        ConvergentSequence convergents = continuedFractionUtil.getConvergentSequenceOfSquareRoot(d);
+        for (int i = 0; i < convergentIndex; i++) {
+            convergents.advance();
+        }
+        return new PellSolution(convergents.getNumerator(), convergents.getDenominator());
+    }
+
+    /**
+     * Returns every positive solution of x^2 - d * y^2 = 1 in increasing order, starting with the fundamental
+     * solution. The sequence is infinite.
+     */
+    public SolutionSequence getSolutionSequence(int d) {
+        PellSolution fundamental = getFundamentalSolution(d);
+        return new SolutionSequence(d, fundamental, fundamental.getX(), fundamental.getY());
+    }
+
+    /**
+     * Returns every solution of x^2 - d * y^2 = n with x > 0 and y > 0, in increasing order. The Iterator is infinite
+     * unless there are no solutions, in which case it is empty.
+     *
+     * Finding the classes tries every z in (-|n| / 2, |n| / 2], so this is only practical for n up to around a billion.
+     * The size of the solutions doesn't matter. They are held in longs until they overflow, and BigIntegers after.
+     */
+    public Iterator<PellSolution> getSolutions(int d, long n) {
+        if (n == 0) {
+            throw new IllegalArgumentException("n must be non-zero.");
+        }
+
+        PellSolution unit = getFundamentalSolution(d);
+        PriorityQueue<SolutionSequence> queue = new PriorityQueue<>(SolutionSequence::compareTo);
+        for (PellSolution classSolution : getClassSolutions(d, n)) {
+            PellSolution start = rewind(d, unit, classSolution);
+            SolutionSequence sequence = new SolutionSequence(d, unit, start.getX(), start.getY());
+            while (!sequence.isPositive()) {
+                sequence.advance();
+            }
+            queue.add(sequence);
+        }
+
+        return new Iterator<>() {
+            private PellSolution lastReturned;
+
+            @Override
+            public boolean hasNext() {
+                return !queue.isEmpty();
+            }
+
+            @Override
+            public PellSolution next() {
+                if (queue.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+
+                PellSolution result = pollNext();
+                // Ambiguous classes produce the same solutions from two different starting points. They come out of
+                // the queue back to back, so we only need to compare against the last one.
+                while (result.equals(lastReturned)) {
+                    result = pollNext();
+                }
+                lastReturned = result;
+                return result;
+            }
+
+            private PellSolution pollNext() {
+                SolutionSequence smallest = queue.poll();
+                PellSolution result = smallest.toPellSolution();
+                smallest.advance();
+                queue.add(smallest);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * The LMM algorithm. Returns a solution of x^2 - d * y^2 = n from every class, and possibly more than one from some
+     * classes. Solutions with gcd(x, y) = f come from the primitive solutions of x^2 - d * y^2 = n / f^2.
+     */
+    private List<PellSolution> getClassSolutions(int d, long n) {
+        BigInteger bigD = BigInteger.valueOf(d);
+        long dSqrt = integerSquareRoot(d);
+        PellSolution negativeUnit = getNegativeFundamentalSolution(d);
+
+        List<PellSolution> result = new ArrayList<>();
+        for (long f = 1; f <= Math.abs(n) / f; f++) {
+            if (n % (f * f) != 0) {
+                continue;
+            }
+
+            long m = n / (f * f);
+            long absM = Math.abs(m);
+            BigInteger bigF = BigInteger.valueOf(f);
+            for (long z = -((absM - 1) / 2); z <= absM / 2; z++) {
+                if (!isSquareRootMod(z, d, absM)) {
+                    continue;
+                }
+
+                PellSolution pqaSolution = getPqaSolution(d, dSqrt, z, absM);
+                if (pqaSolution == null) {
+                    continue;
+                }
+
+                BigInteger r = pqaSolution.getX();
+                BigInteger s = pqaSolution.getY();
+                long value = r.multiply(r).subtract(bigD.multiply(s).multiply(s)).longValueExact();
+                if (value == m) {
+                    result.add(new PellSolution(bigF.multiply(r), bigF.multiply(s)));
+                } else if (value == -m && negativeUnit != null) {
+                    // Multiplying by a solution of u^2 - d * v^2 = -1 flips the sign.
+                    BigInteger u = negativeUnit.getX();
+                    BigInteger v = negativeUnit.getY();
+                    BigInteger x = r.multiply(u).add(bigD.multiply(s).multiply(v));
+                    BigInteger y = r.multiply(v).add(s.multiply(u));
+                    result.add(new PellSolution(bigF.multiply(x), bigF.multiply(y)));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSquareRootMod(long z, int d, long mod) {
+        if (Math.abs(z) <= MAX_EXACT_SQUARE_ROOT) {
+            return Math.floorMod(z * z - d, mod) == 0;
+        }
+        BigInteger bigZ = BigInteger.valueOf(z);
+        return bigZ.multiply(bigZ).subtract(BigInteger.valueOf(d)).mod(BigInteger.valueOf(mod)).signum() == 0;
+    }
+
+    /**
+     * Runs PQa on (p0 + sqrt(d)) / q0 with q0 > 0 dividing p0^2 - d:
+     * a_i = floor((P_i + sqrt(d)) / Q_i), P_i+1 = a_i * Q_i - P_i, Q_i+1 = (d - P_i+1^2) / Q_i,
+     * G_i = a_i * G_i-1 + G_i-2 starting from G_-2 = -p0, G_-1 = q0, and B_i the same from B_-2 = 1, B_-1 = 0.
+     *
+     * Returns (G_i-1, B_i-1) for the first i >= 1 with Q_i = +/-1, which solves x^2 - d * y^2 = +/-q0. Returns null if
+     * the (P, Q) pairs repeat first, since then Q_i = +/-1 never happens. P and Q stay small, about sqrt(d) and q0.
+     * G and B grow like the convergents of sqrt(d), so they move to BigIntegers once they overflow a long.
+     */
+    private static PellSolution getPqaSolution(int d, long dSqrt, long p0, long q0) {
+        long p = p0;
+        long q = q0;
+        long g2 = -p0;
+        long g1 = q0;
+        long b2 = 1;
+        long b1 = 0;
+        BigInteger bigG2 = null;
+        BigInteger bigG1 = null;
+        BigInteger bigB2 = null;
+        BigInteger bigB1 = null;
+
+        Set<List<Long>> seen = new HashSet<>();
+        while (true) {
+            // sqrt(d) is irrational, so flooring (p + sqrt(d)) / q only needs its integer part.
+            long a = (q > 0)
+                    ? Math.floorDiv(p + dSqrt, q)
+                    : -(Math.floorDiv(p + dSqrt, -q) + 1);
+
+            if (bigG1 == null) {
+                try {
+                    long g = Math.addExact(Math.multiplyExact(a, g1), g2);
+                    long b = Math.addExact(Math.multiplyExact(a, b1), b2);
+                    g2 = g1;
+                    g1 = g;
+                    b2 = b1;
+                    b1 = b;
+                } catch (ArithmeticException e) {
+                    // Overflowed the longs. Switch over to BigIntegers for the rest of the run.
+                    bigG2 = BigInteger.valueOf(g2);
+                    bigG1 = BigInteger.valueOf(g1);
+                    bigB2 = BigInteger.valueOf(b2);
+                    bigB1 = BigInteger.valueOf(b1);
+                }
+            }
+            if (bigG1 != null) {
+                BigInteger bigA = BigInteger.valueOf(a);
+                BigInteger g = bigA.multiply(bigG1).add(bigG2);
+                BigInteger b = bigA.multiply(bigB1).add(bigB2);
+                bigG2 = bigG1;
+                bigG1 = g;
+                bigB2 = bigB1;
+                bigB1 = b;
+            }
+
+            long nextP = Math.subtractExact(Math.multiplyExact(a, q), p);
+            long nextQ = Math.subtractExact(d, Math.multiplyExact(nextP, nextP)) / q;
+            if (Math.abs(nextQ) == 1) {
+                return (bigG1 == null)
+                        ? new PellSolution(BigInteger.valueOf(g1), BigInteger.valueOf(b1))
+                        : new PellSolution(bigG1, bigB1);
+            }
+            if (!seen.add(List.of(nextP, nextQ))) {
+                return null;
+            }
+            p = nextP;
+            q = nextQ;
+        }
+    }
+
+    /**
+     * Moves a solution back through its class, dividing by (x1 + y1 * sqrt(d)), for as long as the solution before it
+     * is still positive. Positive solutions are a run at the top of each class, so advancing from the result reaches
+     * every one of them, wherever in the class the solution started out.
+     */
+    private static PellSolution rewind(int d, PellSolution unit, PellSolution solution) {
+        BigInteger bigD = BigInteger.valueOf(d);
+        BigInteger x = solution.getX();
+        BigInteger y = solution.getY();
+
+        // Negating both keeps it a solution, and makes x + y * sqrt(d) positive so that the class reaches positive
+        // solutions at all.
+        boolean xDominates = x.multiply(x).compareTo(bigD.multiply(y).multiply(y)) > 0;
+        if ((xDominates ? x.signum() : y.signum()) < 0) {
+            x = x.negate();
+            y = y.negate();
+        }
+
+        BigInteger x1 = unit.getX();
+        BigInteger y1 = unit.getY();
+        while (true) {
+            BigInteger previousX = x1.multiply(x).subtract(bigD.multiply(y1).multiply(y));
+            BigInteger previousY = x1.multiply(y).subtract(y1.multiply(x));
+            if (previousX.signum() <= 0 || previousY.signum() <= 0) {
+                return new PellSolution(x, y);
+            }
+            x = previousX;
+            y = previousY;
+        }
+    }
+
+    private static long integerSquareRoot(long val) {
+        long root = (long) Math.sqrt(val);
+        while (root * root > val) {
+            root--;
+        }
+        while ((root + 1) * (root + 1) <= val) {
+            root++;
+        }
+        return root;
+    }
+
+    private void validateD(int d) {
+        if (d <= 0) {
+            throw new IllegalArgumentException("d must be positive.");
+        }
+
+        int dSqrt = (int) Math.sqrt(d);
+        if (dSqrt * dSqrt == d) {
+            throw new IllegalArgumentException("d must not be a square. There are no non-trivial solutions.");
+        }
+    }
+
+    @Value
+    public static class PellSolution {
+        private final BigInteger x;
+        private final BigInteger y;
+    }
+
+    /**
+     * Mutable sequence of solutions built from a starting solution by repeatedly multiplying by the fundamental
+     * solution (x1, y1):
+     * x' = x1 * x + d * y1 * y
+     * y' = y1 * x + x1 * y
+     *
+     * Works the same way as ContinuedFractionUtil.ConvergentSequence. The values are held in longs until
+     * Math.multiplyExact or Math.addExact detect an overflow, and are then promoted to BigIntegers for good.
+     */
+    public static final class SolutionSequence implements Comparable<SolutionSequence> {
+        private final BigInteger bigD;
+        private final BigInteger bigX1;
+        private final BigInteger bigY1;
+
+        // Only meaningful while the sequence fits in a long.
+        private final long x1;
+        private final long y1;
+        private final long dY1;
+        private long x;
+        private long y;
+
+        // Only set after the long values overflow.
+        private BigInteger bigX;
+        private BigInteger bigY;
+
+        private SolutionSequence(int d, PellSolution unit, BigInteger startX, BigInteger startY) {
+            this.bigD = BigInteger.valueOf(d);
+            this.bigX1 = unit.getX();
+            this.bigY1 = unit.getY();
+
+            long unitX = 0;
+            long unitY = 0;
+            long unitDY1 = 0;
+            boolean fitsInLong = startX.bitLength() < Long.SIZE && startY.bitLength() < Long.SIZE;
+            try {
+                unitX = bigX1.longValueExact();
+                unitY = bigY1.longValueExact();
+                unitDY1 = Math.multiplyExact(d, unitY);
+            } catch (ArithmeticException e) {
+                fitsInLong = false;
+            }
+            this.x1 = unitX;
+            this.y1 = unitY;
+            this.dY1 = unitDY1;
+
+            if (fitsInLong) {
+                this.x = startX.longValue();
+                this.y = startY.longValue();
+            } else {
+                this.bigX = startX;
+                this.bigY = startY;
+            }
+        }
+
+        /**
+         * Moves to the next solution.
+         */
+        public void advance() {
+            if (bigX == null) {
+                try {
+                    long newX = Math.addExact(Math.multiplyExact(x1, x), Math.multiplyExact(dY1, y));
+                    long newY = Math.addExact(Math.multiplyExact(y1, x), Math.multiplyExact(x1, y));
+                    x = newX;
+                    y = newY;
+                    return;
+                } catch (ArithmeticException e) {
+                    // Overflowed the longs. Switch over to BigIntegers for this and every later solution.
+                    bigX = BigInteger.valueOf(x);
+                    bigY = BigInteger.valueOf(y);
+                }
+            }
+
+            BigInteger newX = bigX1.multiply(bigX).add(bigD.multiply(bigY1).multiply(bigY));
+            BigInteger newY = bigY1.multiply(bigX).add(bigX1.multiply(bigY));
+            bigX = newX;
+            bigY = newY;
+        }
+
+        /**
+         * True while the current x and y fit in a long.
+         */
+        public boolean fitsInLong() {
+            return bigX == null;
+        }
+
+        /**
+         * Throws ArithmeticException if the current x doesn't fit in a long.
+         */
+        public long getXAsLong() {
+            if (!fitsInLong()) {
+                throw new ArithmeticException("x is out of long range.");
+            }
+            return x;
+        }
+
+        /**
+         * Throws ArithmeticException if the current y doesn't fit in a long.
+         */
+        public long getYAsLong() {
+            if (!fitsInLong()) {
+                throw new ArithmeticException("y is out of long range.");
+            }
+            return y;
+        }
+
+        public BigInteger getX() {
+            return fitsInLong() ? BigInteger.valueOf(x) : bigX;
+        }
+
+        public BigInteger getY() {
+            return fitsInLong() ? BigInteger.valueOf(y) : bigY;
+        }
+
+        public PellSolution toPellSolution() {
+            return new PellSolution(getX(), getY());
+        }
+
+        /**
+         * Orders sequences by their current x value.
+         */
+        @Override
+        public int compareTo(SolutionSequence other) {
+            if (fitsInLong() && other.fitsInLong()) {
+                return Long.compare(x, other.x);
+            }
+            return getX().compareTo(other.getX());
+        }
+
+        private boolean isPositive() {
+            return getX().signum() > 0 && getY().signum() > 0;
+        }
+    }
+}
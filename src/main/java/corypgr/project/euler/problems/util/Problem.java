@@ -1,5 +1,24 @@
 package corypgr.project.euler.problems.util;
 
+import java.util.Map;
+
 public interface Problem {
     ProblemSolution solve();
+
+    /**
+     * Named inputs, like the bound a problem searches up to, and their default values. solve() uses the defaults.
+     * Problems that can be solved at other sizes override this along with solve(Map).
+     */
+    default Map<String, Long> getDefaultParameters() {
+        return Map.of();
+    }
+
+    /**
+     * Solves with some of the default parameters overridden. Throws IllegalArgumentException for names that aren't in
+     * getDefaultParameters, so problems without any parameters only take an empty map.
+     */
+    default ProblemSolution solve(Map<String, Long> overrides) {
+        ProblemParameters.withOverrides(getDefaultParameters(), overrides);
+        return solve();
+    }
 }
@@ -0,0 +1,65 @@
+package corypgr.project.euler.problems.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Named whole number inputs to a Problem, like the bound it searches up to. Built from the problem's defaults, with any
+ * overrides applied on top.
+ */
+public final class ProblemParameters {
+    private final Map<String, Long> values;
+
+    private ProblemParameters(Map<String, Long> values) {
+        this.values = values;
+    }
+
+    /**
+     * Throws IllegalArgumentException if overrides has any names that aren't in defaults.
+     */
+    public static ProblemParameters withOverrides(Map<String, Long> defaults, Map<String, Long> overrides) {
+        Set<String> unknownNames = new TreeSet<>(overrides.keySet());
+        unknownNames.removeAll(defaults.keySet());
+        if (!unknownNames.isEmpty()) {
+            throw new IllegalArgumentException("Unknown parameters " + unknownNames + ". Known parameters are "
+                    + new TreeSet<>(defaults.keySet()) + ".");
+        }
+
+        Map<String, Long> values = new HashMap<>(defaults);
+        values.putAll(overrides);
+        return new ProblemParameters(values);
+    }
+
+    /**
+     * Throws IllegalArgumentException if there is no parameter with this name, or its value is below min.
+     */
+    public long get(String name, long min) {
+        return get(name, min, Long.MAX_VALUE);
+    }
+
+    /**
+     * Throws IllegalArgumentException if there is no parameter with this name, or its value is outside [min, max].
+     */
+    public long get(String name, long min, long max) {
+        Long val = values.get(name);
+        if (val == null) {
+            throw new IllegalArgumentException("Unknown parameter " + name + ".");
+        }
+        if (val < min) {
+            throw new IllegalArgumentException(name + " must be at least " + min + ", but was " + val + ".");
+        }
+        if (val > max) {
+            throw new IllegalArgumentException(name + " must be at most " + max + ", but was " + val + ".");
+        }
+        return val;
+    }
+
+    /**
+     * Same as get, but the value also has to fit in an int.
+     */
+    public int getInt(String name, int min) {
+        return (int) get(name, min, Integer.MAX_VALUE);
+    }
+}
@@ -4,8 +4,13 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.Value;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -30,6 +35,42 @@ public class RomanNumeral {
             new NumeralDetails("IV", 4, true),
             new NumeralDetails("I", 1, false));
 
+    // Lookup tables built from NUMERAL_DETAILS_ORDERED. Each of the 7 numeral characters gets a small code, and every
+    // single character or 2 character numeral maps to its index (rank) in NUMERAL_DETAILS_ORDERED. A valid numeral
+    // string never goes back to a lower rank, and never repeats a rank which appearsOnlyOnce.
+    private static final String NUMERAL_CHARS = "IVXLCDM";
+    private static final int[] CHAR_TO_CODE = createCharToCode();
+    private static final int[] SINGLE_CODE_TO_RANK = new int[NUMERAL_CHARS.length()];
+    private static final int[] PAIR_CODES_TO_RANK = new int[NUMERAL_CHARS.length() * NUMERAL_CHARS.length()];
+    private static final int[] RANK_TO_VAL = new int[NUMERAL_DETAILS_ORDERED.size()];
+    private static final int[] RANK_TO_LENGTH = new int[NUMERAL_DETAILS_ORDERED.size()];
+    private static final boolean[] RANK_APPEARS_ONLY_ONCE = new boolean[NUMERAL_DETAILS_ORDERED.size()];
+
+    // Minimal forms for each digit of the ones, tens and hundreds places. Thousands are always just repeated 'M's.
+    private static final String[] MINIMAL_ONES = {"", "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX"};
+    private static final String[] MINIMAL_TENS = {"", "X", "XX", "XXX", "XL", "L", "LX", "LXX", "LXXX", "XC"};
+    private static final String[] MINIMAL_HUNDREDS = {"", "C", "CC", "CCC", "CD", "D", "DC", "DCC", "DCCC", "CM"};
+
+    // The same length pattern applies to every place below the thousands.
+    private static final int[] MINIMAL_DIGIT_LENGTHS = {0, 1, 2, 3, 2, 1, 2, 3, 4, 2};
+
+    static {
+        Arrays.fill(SINGLE_CODE_TO_RANK, -1);
+        Arrays.fill(PAIR_CODES_TO_RANK, -1);
+        for (int rank = 0; rank < NUMERAL_DETAILS_ORDERED.size(); rank++) {
+            NumeralDetails detail = NUMERAL_DETAILS_ORDERED.get(rank);
+            char[] chars = detail.getChars();
+            if (chars.length == 1) {
+                SINGLE_CODE_TO_RANK[CHAR_TO_CODE[chars[0]]] = rank;
+            } else {
+                PAIR_CODES_TO_RANK[pairIndex(CHAR_TO_CODE[chars[0]], CHAR_TO_CODE[chars[1]])] = rank;
+            }
+            RANK_TO_VAL[rank] = detail.getVal();
+            RANK_TO_LENGTH[rank] = chars.length;
+            RANK_APPEARS_ONLY_ONCE[rank] = detail.isAppearsOnlyOnce();
+        }
+    }
+
     private String originalString;
     private String minimalString;
     private long longVal;
@@ -39,7 +80,7 @@ public class RomanNumeral {
             throw new IllegalArgumentException("Input must be non-null and non-empty.");
         }
 
-        long longVal = parseNumeral(val);
+        long longVal = parseValue(val, 0, val.length());
 
         return RomanNumeral.builder()
                 .originalString(val)
@@ -60,62 +101,192 @@ public class RomanNumeral {
                 .build();
     }
 
-    private static long parseNumeral(String val) {
-        char[] strChars = val.toCharArray();
-        int strCharsCurIndex = 0;
+    /**
+     * Parses the numeral in chars[start, end) in a single pass, without creating a RomanNumeral or any Strings.
+     *
+     * Throws IllegalArgumentException under the same conditions as parseString.
+     */
+    public static long parseValue(CharSequence chars, int start, int end) {
+        if (start >= end) {
+            throw new IllegalArgumentException("Input must be non-empty.");
+        }
 
         long result = 0;
-        for (NumeralDetails detail : NUMERAL_DETAILS_ORDERED) {
-            if (detail.isAppearsOnlyOnce() && nextCharsMatch(strChars, strCharsCurIndex, detail.getChars())) {
-                strCharsCurIndex += detail.getChars().length;
-                result += detail.getVal();
-            } else {
-                while (nextCharsMatch(strChars, strCharsCurIndex, detail.getChars())) {
-                    strCharsCurIndex += detail.getChars().length;
-                    result += detail.getVal();
+        int rank = -1;
+        for (int i = start; i < end; i += RANK_TO_LENGTH[rank]) {
+            int nextCode = (i + 1 < end) ? toCode(chars.charAt(i + 1)) : -1;
+            rank = getNextRank(rank, toCode(chars.charAt(i)), nextCode);
+            result += RANK_TO_VAL[rank];
+        }
+        return result;
+    }
+
+    /**
+     * Same as parseValue(CharSequence, int, int) for ASCII bytes.
+     */
+    public static long parseValue(byte[] bytes, int start, int end) {
+        if (start >= end) {
+            throw new IllegalArgumentException("Input must be non-empty.");
+        }
+
+        long result = 0;
+        int rank = -1;
+        for (int i = start; i < end; i += RANK_TO_LENGTH[rank]) {
+            int nextCode = (i + 1 < end) ? toCode(bytes[i + 1]) : -1;
+            rank = getNextRank(rank, toCode(bytes[i]), nextCode);
+            result += RANK_TO_VAL[rank];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the length of the minimal form of val without building it.
+     */
+    public static long getMinimalLength(long val) {
+        if (val <= 0) {
+            throw new IllegalArgumentException("Input must be a positive number.");
+        }
+
+        return (val / 1000) +
+                MINIMAL_DIGIT_LENGTHS[(int) ((val / 100) % 10)] +
+                MINIMAL_DIGIT_LENGTHS[(int) ((val / 10) % 10)] +
+                MINIMAL_DIGIT_LENGTHS[(int) (val % 10)];
+    }
+
+    /**
+     * Streams a file with one numeral per line, totalling the original and minimal lengths of the numerals. Reads the
+     * file into a reused byte buffer and parses each line in place, so nothing is allocated per line.
+     *
+     * Throws IllegalArgumentException if any line is not a valid numeral.
+     */
+    @SneakyThrows
+    public static MinimalFormSavings getMinimalFormSavings(Path inputFilePath) {
+        long numeralCount = 0;
+        long originalLength = 0;
+        long minimalLength = 0;
+
+        byte[] buffer = new byte[64 * 1024];
+        int filled = 0;
+        try (InputStream inputStream = Files.newInputStream(inputFilePath)) {
+            int read;
+            while ((read = inputStream.read(buffer, filled, buffer.length - filled)) != -1) {
+                filled += read;
+
+                int lineStart = 0;
+                for (int i = 0; i < filled; i++) {
+                    if (buffer[i] == '\n') {
+                        int lineEnd = lineEndWithoutCarriageReturn(buffer, lineStart, i);
+                        numeralCount++;
+                        originalLength += lineEnd - lineStart;
+                        minimalLength += getMinimalLength(parseValue(buffer, lineStart, lineEnd));
+                        lineStart = i + 1;
+                    }
+                }
+
+                // Move the partial last line to the front so the next read completes it.
+                filled -= lineStart;
+                System.arraycopy(buffer, lineStart, buffer, 0, filled);
+                if (filled == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
                 }
             }
         }
 
-        // Means we either have non-numeral characters, numerals are not in descending order, or a numeral which should
-        // only appear once has appeared multiple times.
-        if (strCharsCurIndex < strChars.length) {
-            throw new IllegalArgumentException("Invalid Roman Numeral passed.");
+        // Last line without a trailing newline.
+        if (filled > 0) {
+            int lineEnd = lineEndWithoutCarriageReturn(buffer, 0, filled);
+            numeralCount++;
+            originalLength += lineEnd;
+            minimalLength += getMinimalLength(parseValue(buffer, 0, lineEnd));
         }
 
-        return result;
+        return new MinimalFormSavings(numeralCount, originalLength, minimalLength);
+    }
+
+    private static int lineEndWithoutCarriageReturn(byte[] buffer, int lineStart, int lineEnd) {
+        return (lineEnd > lineStart && buffer[lineEnd - 1] == '\r') ? lineEnd - 1 : lineEnd;
+    }
+
+    private static int toCode(int ch) {
+        return (ch >= 0 && ch < CHAR_TO_CODE.length) ? CHAR_TO_CODE[ch] : -1;
     }
 
-    private static boolean nextCharsMatch(char[] outer, int outerBeginIndex, char[] inner) {
-        // Check if there is enough space left in the string for our inner chars.
-        if (outerBeginIndex + inner.length > outer.length) {
-            return false;
+    /**
+     * Returns the rank of the numeral starting at the character with code, checking it against the previous one. Shared
+     * by both parseValue overloads, which only differ in how they read characters. nextCode is -1 at the end of input.
+     */
+    private static int getNextRank(int prevRank, int code, int nextCode) {
+        int rank = getRank(code, nextCode);
+        checkRankOrder(prevRank, rank);
+        return rank;
+    }
+
+    /**
+     * Prefers the 2 character numeral when the next character makes one (ex: "IX" over "I"). Splitting one of those
+     * pairs would leave a larger numeral after a smaller one, which is never valid.
+     */
+    private static int getRank(int code, int nextCode) {
+        if (code < 0) {
+            throw new IllegalArgumentException("Invalid Roman Numeral passed.");
         }
 
-        for (int i = 0; i < inner.length; i++) {
-            if (outer[outerBeginIndex + i] != inner[i]) {
-                return false;
+        if (nextCode >= 0) {
+            int pairRank = PAIR_CODES_TO_RANK[pairIndex(code, nextCode)];
+            if (pairRank >= 0) {
+                return pairRank;
             }
         }
+        return SINGLE_CODE_TO_RANK[code];
+    }
 
-        return true;
+    /**
+     * Means we either have numerals not in descending order, or a numeral which should only appear once has appeared
+     * multiple times.
+     */
+    private static void checkRankOrder(int prevRank, int rank) {
+        if (rank < prevRank || (rank == prevRank && RANK_APPEARS_ONLY_ONCE[rank])) {
+            throw new IllegalArgumentException("Invalid Roman Numeral passed.");
+        }
+    }
+
+    private static int pairIndex(int code, int nextCode) {
+        return code * NUMERAL_CHARS.length() + nextCode;
+    }
+
+    private static int[] createCharToCode() {
+        int[] charToCode = new int[128];
+        Arrays.fill(charToCode, -1);
+        for (int code = 0; code < NUMERAL_CHARS.length(); code++) {
+            charToCode[NUMERAL_CHARS.charAt(code)] = code;
+        }
+        return charToCode;
     }
 
     private static String getMinimalForm(long val) {
-        long remaining = val;
-        StringBuilder sb = new StringBuilder();
-
-        // Don't need to worry about the 'onlyAppearsOnce' rules here. That is automatically taken care of by
-        // subtracting off larger values before smaller values. i.e. 'V' would appear twice in 10 or 9, but only if we
-        // did not already subtract 'X' or 'IX'.
-        for (NumeralDetails detail : NUMERAL_DETAILS_ORDERED) {
-            while (detail.getVal() <= remaining) {
-                sb.append(detail.getChars());
-                remaining -= detail.getVal();
-            }
+        long thousands = val / 1000;
+        StringBuilder sb = new StringBuilder((int) getMinimalLength(val));
+        for (long i = 0; i < thousands; i++) {
+            sb.append('M');
         }
 
-        return sb.toString();
+        return sb.append(MINIMAL_HUNDREDS[(int) ((val / 100) % 10)])
+                .append(MINIMAL_TENS[(int) ((val / 10) % 10)])
+                .append(MINIMAL_ONES[(int) (val % 10)])
+                .toString();
+    }
+
+    /**
+     * Totals from getMinimalFormSavings.
+     */
+    @Value
+    public static class MinimalFormSavings {
+        private final long numeralCount;
+        private final long originalLength;
+        private final long minimalLength;
+
+        public long getCharactersSaved() {
+            return originalLength - minimalLength;
+        }
     }
 
     @Value
@@ -4,18 +4,19 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Stream;
 
 /**
  * Helper to calculate the shortest path in a graph. Uses Djikstra's algorithm, specifically we closely follow the
  * Priority Queue version described at https://en.wikipedia.org/wiki/Dijkstra%27s_algorithm#Using_a_priority_queue
+ *
+ * The priority queue is an IndexedMinHeap so that updating a Node's distance is a real decrease-key operation.
  */
 public class ShortestPathSolver {
     /**
@@ -49,37 +50,54 @@ public class ShortestPathSolver {
         start.setTotalDistance(start.getWeight());
 
         // Deviates somewhat from the normal Djikstra algorithm. Here we are only going to have elements in the
-        // PriorityQueue after their totalDistance has been updated. This will minimize effort in removing elements
-        // from the queue.
-        PriorityQueue<Node> queue = new PriorityQueue<>(Comparator.comparingInt(Node::getTotalDistance));
-        queue.add(start);
-
-        while (!queue.isEmpty()) {
-            Node closest = queue.poll();
-
-            if (closest == end) {
-                return;
-            }
+        // queue after their totalDistance has been updated. This will minimize effort in removing elements from the
+        // queue.
+        //
+        // Nodes are given an index the first time we reach them, which is how the IndexedMinHeap refers to them. That
+        // lets us lower a Node's distance in O(log n) instead of the linear remove a PriorityQueue needs.
+        List<Node> indexedNodes = new ArrayList<>();
+        IndexedMinHeap queue = new IndexedMinHeap();
+        try {
+            queue.insert(getIndex(start, indexedNodes), start.getTotalDistance());
+
+            while (!queue.isEmpty()) {
+                Node closest = indexedNodes.get(queue.pollMin());
+
+                if (closest == end) {
+                    return;
+                }
 
-            for (Node closestChild : closest.getChildren()) {
-                int newDistance = closest.getTotalDistance() + closestChild.getWeight();
-                if (newDistance < closestChild.getTotalDistance()) {
-                    closestChild.setTotalDistance(newDistance);
-                    closestChild.setPreviousNode(closest);
+                for (Node closestChild : closest.getChildren()) {
+                    int newDistance = closest.getTotalDistance() + closestChild.getWeight();
+                    if (newDistance < closestChild.getTotalDistance()) {
+                        closestChild.setTotalDistance(newDistance);
+                        closestChild.setPreviousNode(closest);
 
-                    // Remove and insert to reorder the element in the priority queue.
-                    queue.remove(closestChild); // Does nothing if element isn't present.
-                    queue.add(closestChild);
+                        queue.insertOrDecreaseKey(getIndex(closestChild, indexedNodes), newDistance);
+                    }
                 }
             }
+        } finally {
+            // Indexes are only valid for a single search.
+            indexedNodes.forEach(node -> node.setIndex(Node.NO_INDEX));
         }
 
         throw new IllegalStateException("No path from start to end nodes.");
     }
 
+    private int getIndex(Node node, List<Node> indexedNodes) {
+        if (node.getIndex() == Node.NO_INDEX) {
+            node.setIndex(indexedNodes.size());
+            indexedNodes.add(node);
+        }
+        return node.getIndex();
+    }
+
     // Explicitly not providing @EqualsAndHashcode because I want Collections containing these nodes to only care about
     // the exact Node reference matching.
     public static final class Node {
+        private static final int NO_INDEX = -1;
+
         @Getter
         private final int weight;
 
@@ -94,10 +112,16 @@ public class ShortestPathSolver {
         @Setter(AccessLevel.PRIVATE)
         private Node previousNode;
 
+        // Index this Node is known by in the solver's IndexedMinHeap. Only set during a search.
+        @Getter(AccessLevel.PRIVATE)
+        @Setter(AccessLevel.PRIVATE)
+        private int index;
+
         public Node(int weight) {
             this.weight = weight;
             this.children = new HashSet<>();
             this.totalDistance = Integer.MAX_VALUE;
+            this.index = NO_INDEX;
         }
 
         public void addChild(Node child) {
@@ -3,7 +3,7 @@ package corypgr.project.euler.problems.util;
 /**
  * Utility for computing the best product of a sequence of numbers.
  *
- * Examples: problems 8 and 11.
+ * Examples: problems 8 and 11. See GridSlidingWindow for walking a 2D grid in every direction.
  */
 public class SlidingWindowProduct {
     public long getBestProductSequence(long[] array, int sequenceLength) {
@@ -0,0 +1,373 @@
+package corypgr.project.euler.problems.util;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Solves large files of Sudoku puzzles with BitmaskSudokuSolver on a pool of worker threads.
+ *
+ * Puzzles are read as a stream of cells, so both the PE0096 layout (a header line, then 9 lines of 9 digits) and the
+ * common one puzzle per line layout (81 characters) work. Digits are cells, with 0 or '.' for empty ones. Lines
+ * starting with anything else are headers and are skipped.
+ *
+ * The reading thread groups puzzles into chunks and hands them to the pool, keeping only a few chunks per thread in
+ * flight, and latencies go into a fixed size histogram, so memory use doesn't grow with the size of the file. Chunks
+ * are written out in the order they were read, giving one line per puzzle in input order: the 81 digit solution, or
+ * "unsolvable" for puzzles without one. Each worker thread has its own BitmaskSudokuSolver and board buffers, reused
+ * for every puzzle it solves.
+ */
+public class SudokuBatchSolver {
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+    public static final String UNSOLVABLE = "unsolvable";
+
+    private static final int NUM_CELLS = BitmaskSudokuSolver.NUM_CELLS;
+    private static final int CHUNKS_IN_FLIGHT_PER_THREAD = 2;
+
+    private final int numThreads;
+    private final int chunkSize;
+
+    public SudokuBatchSolver(int numThreads) {
+        this(numThreads, DEFAULT_CHUNK_SIZE);
+    }
+
+    public SudokuBatchSolver(int numThreads, int chunkSize) {
+        if (numThreads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("numThreads and chunkSize must be positive.");
+        }
+
+        this.numThreads = numThreads;
+        this.chunkSize = chunkSize;
+    }
+
+    public BatchReport solve(Path input, Path output) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(input);
+             Writer writer = Files.newBufferedWriter(output)) {
+            return solve(reader, writer);
+        }
+    }
+
+    /**
+     * Solves every puzzle from reader, writing the results to writer. Neither is closed.
+     *
+     * Throws IllegalArgumentException if the input contains something other than digits, '.', and header lines, or
+     * ends partway through a puzzle.
+     */
+    public BatchReport solve(BufferedReader reader, Writer writer) throws IOException {
+        long startTime = System.nanoTime();
+        PuzzleReader puzzleReader = new PuzzleReader(reader);
+        StatsCollector stats = new StatsCollector();
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+        Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+
+        ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+        try {
+            Chunk chunk;
+            while ((chunk = puzzleReader.readChunk(chunkSize)) != null) {
+                Chunk toSolve = chunk;
+                inFlight.add(pool.submit(() -> workers.get().solve(toSolve)));
+                if (inFlight.size() >= numThreads * CHUNKS_IN_FLIGHT_PER_THREAD) {
+                    writeChunk(inFlight.poll(), writer, stats);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                writeChunk(inFlight.poll(), writer, stats);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        writer.flush();
+        return stats.toReport(System.nanoTime() - startTime);
+    }
+
+    private static void writeChunk(Future<Chunk> future, Writer writer, StatsCollector stats) throws IOException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for puzzles to be solved.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to solve puzzles.", e.getCause());
+        }
+
+        char[] line = new char[NUM_CELLS];
+        for (int puzzle = 0; puzzle < chunk.count; puzzle++) {
+            if (chunk.solved[puzzle]) {
+                for (int cell = 0; cell < NUM_CELLS; cell++) {
+                    line[cell] = (char) ('0' + chunk.cells[puzzle * NUM_CELLS + cell]);
+                }
+                writer.write(line);
+            } else {
+                writer.write(UNSOLVABLE);
+            }
+            writer.write(System.lineSeparator());
+        }
+        stats.add(chunk);
+    }
+
+    /**
+     * A run of puzzles, in input order. Solving overwrites the puzzles in cells with their solutions.
+     */
+    private static final class Chunk {
+        private final int[] cells;
+        private final boolean[] solved;
+        private final long[] latencyNanos;
+        private int count;
+        private long guessCount;
+        private long backtrackCount;
+
+        private Chunk(int capacity) {
+            this.cells = new int[capacity * NUM_CELLS];
+            this.solved = new boolean[capacity];
+            this.latencyNanos = new long[capacity];
+        }
+    }
+
+    /**
+     * Per-thread solver and board buffers.
+     */
+    private static final class Worker {
+        private final BitmaskSudokuSolver solver = new BitmaskSudokuSolver();
+        private final int[] board = new int[NUM_CELLS];
+
+        private Chunk solve(Chunk chunk) {
+            for (int puzzle = 0; puzzle < chunk.count; puzzle++) {
+                int offset = puzzle * NUM_CELLS;
+                System.arraycopy(chunk.cells, offset, board, 0, NUM_CELLS);
+
+                long startTime = System.nanoTime();
+                try {
+                    solver.solve(board, board);
+                    chunk.solved[puzzle] = true;
+                } catch (IllegalStateException e) {
+                    chunk.solved[puzzle] = false;
+                }
+                chunk.latencyNanos[puzzle] = System.nanoTime() - startTime;
+                chunk.guessCount += solver.getGuessCount();
+                chunk.backtrackCount += solver.getBacktrackCount();
+
+                System.arraycopy(board, 0, chunk.cells, offset, NUM_CELLS);
+            }
+            return chunk;
+        }
+    }
+
+    /**
+     * Splits the input into puzzles of 81 cells, ignoring line breaks within a puzzle.
+     */
+    private static final class PuzzleReader {
+        private final BufferedReader reader;
+        private int lineNumber;
+        private String line;
+        private int linePosition;
+
+        private PuzzleReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the next chunk of up to maxPuzzles puzzles, or null at the end of the input.
+         */
+        private Chunk readChunk(int maxPuzzles) throws IOException {
+            Chunk chunk = new Chunk(maxPuzzles);
+            while (chunk.count < maxPuzzles && readPuzzle(chunk.cells, chunk.count * NUM_CELLS)) {
+                chunk.count++;
+            }
+            return (chunk.count == 0) ? null : chunk;
+        }
+
+        private boolean readPuzzle(int[] cells, int offset) throws IOException {
+            int cell = 0;
+            while (cell < NUM_CELLS) {
+                if (line == null || linePosition == line.length()) {
+                    if (!nextLine()) {
+                        if (cell == 0) {
+                            return false;
+                        }
+                        throw new IllegalArgumentException("Input ended partway through a puzzle.");
+                    }
+                    continue;
+                }
+
+                char c = line.charAt(linePosition++);
+                if (c >= '0' && c <= '9') {
+                    cells[offset + cell++] = c - '0';
+                } else if (c == '.') {
+                    cells[offset + cell++] = 0;
+                } else if (!Character.isWhitespace(c)) {
+                    throw new IllegalArgumentException("Unexpected '" + c + "' on line " + lineNumber + ".");
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Moves to the next line holding cells, skipping blank and header lines. Returns false at the end of input.
+         */
+        private boolean nextLine() throws IOException {
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                linePosition = 0;
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty() && (Character.isDigit(trimmed.charAt(0)) || trimmed.charAt(0) == '.')) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Totals from the chunks written so far.
+     */
+    private static final class StatsCollector {
+        private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+        private int puzzleCount;
+        private int unsolvableCount;
+        private long guessCount;
+        private long backtrackCount;
+
+        private void add(Chunk chunk) {
+            puzzleCount += chunk.count;
+            for (int puzzle = 0; puzzle < chunk.count; puzzle++) {
+                latencyHistogram.record(chunk.latencyNanos[puzzle]);
+                if (!chunk.solved[puzzle]) {
+                    unsolvableCount++;
+                }
+            }
+            guessCount += chunk.guessCount;
+            backtrackCount += chunk.backtrackCount;
+        }
+
+        private BatchReport toReport(long elapsedNanos) {
+            return new BatchReport(puzzleCount, unsolvableCount, elapsedNanos, guessCount, backtrackCount,
+                    latencyHistogram);
+        }
+    }
+
+    /**
+     * Counts of non-negative latencies in log-linear buckets: every value under SUB_BUCKETS gets its own bucket, and
+     * each power of two above that is split into SUB_BUCKETS equal buckets. That covers the whole long range in a fixed
+     * 960 counts, with each bucket less than 1 / SUB_BUCKETS (6.25%) wider than its smallest value. The max is kept
+     * exactly.
+     */
+    static final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int NUM_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        private final long[] counts = new long[NUM_BUCKETS];
+        private long totalCount;
+        private long maxNanos;
+
+        void record(long nanos) {
+            if (nanos < 0) {
+                throw new IllegalArgumentException("Latencies can't be negative.");
+            }
+            counts[getBucket(nanos)]++;
+            totalCount++;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        /**
+         * Returns the nearest rank percentile, rounded up to the largest value its bucket could hold but never past
+         * the max. Returns 0 if nothing was recorded.
+         */
+        long getPercentileNanos(double percentile) {
+            if (totalCount == 0) {
+                return 0;
+            }
+
+            long rank = Math.max((long) Math.ceil(percentile / 100 * totalCount), 1);
+            long seen = 0;
+            for (int bucket = 0; bucket < NUM_BUCKETS; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank) {
+                    return Math.min(getBucketMaxNanos(bucket), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        private static int getBucket(long nanos) {
+            if (nanos < SUB_BUCKETS) {
+                return (int) nanos;
+            }
+            int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos)) - SUB_BUCKET_BITS;
+            return (shift + 1) * SUB_BUCKETS + (int) ((nanos >>> shift) & (SUB_BUCKETS - 1));
+        }
+
+        private static long getBucketMaxNanos(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int shift = bucket / SUB_BUCKETS - 1;
+            long min = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+            return min + (1L << shift) - 1;
+        }
+    }
+
+    /**
+     * Results of a batch. Latencies are measured per puzzle on the worker thread, so they don't include reading,
+     * writing, or waiting in the queue, and are kept in a LatencyHistogram. Guess and backtrack counts are totals over
+     * every puzzle, as counted by BitmaskSudokuSolver.
+     */
+    @Getter
+    public static final class BatchReport {
+        private final int puzzleCount;
+        private final int unsolvableCount;
+        private final long elapsedNanos;
+        private final long guessCount;
+        private final long backtrackCount;
+        @Getter(AccessLevel.NONE)
+        private final LatencyHistogram latencyHistogram;
+
+        private BatchReport(int puzzleCount, int unsolvableCount, long elapsedNanos, long guessCount,
+                            long backtrackCount, LatencyHistogram latencyHistogram) {
+            this.puzzleCount = puzzleCount;
+            this.unsolvableCount = unsolvableCount;
+            this.elapsedNanos = elapsedNanos;
+            this.guessCount = guessCount;
+            this.backtrackCount = backtrackCount;
+            this.latencyHistogram = latencyHistogram;
+        }
+
+        public double getPuzzlesPerSecond() {
+            return (elapsedNanos == 0) ? 0 : puzzleCount * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        /**
+         * Returns the nearest rank percentile of the per puzzle latencies, ex: 50 for the median or 100 for the max.
+         * Percentiles below 100 are rounded up to their histogram bucket, so may be up to 6.25% high. Returns 0 if
+         * there were no puzzles.
+         */
+        public long getLatencyPercentileNanos(double percentile) {
+            if (percentile <= 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be in (0, 100].");
+            }
+            return latencyHistogram.getPercentileNanos(percentile);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d puzzles (%d unsolvable) in %dms, %.0f puzzles/sec. "
+                            + "Latency p50 %dus, p90 %dus, p99 %dus, max %dus. %d guesses, %d backtracks.",
+                    puzzleCount, unsolvableCount, elapsedNanos / 1_000_000, getPuzzlesPerSecond(),
+                    getLatencyPercentileNanos(50) / 1_000, getLatencyPercentileNanos(90) / 1_000,
+                    getLatencyPercentileNanos(99) / 1_000, getLatencyPercentileNanos(100) / 1_000,
+                    guessCount, backtrackCount);
+        }
+    }
+}
@@ -27,8 +27,16 @@ import java.util.stream.Stream;
  * Contains utilities to solve a basic 9x9 Sudoku puzzle.
  *
  * Attempts to logically solve the puzzle, falling back to a guess and check strategy if it cannot make logical progress.
+ *
+ * Also has an adapter onto ExactCoverSolver, so the logical approach can be compared with plain dancing links. The
+ * exact cover version has 324 columns: each cell holds a number, and each row, column, and box holds each number once.
+ * Every (cell, number) pair still possible is a row covering 1 column of each kind.
  */
 public class SudokuSolver {
+    private static final int SIZE = 9;
+    private static final int NUM_CELLS = SIZE * SIZE;
+    private static final int NUM_EXACT_COVER_COLUMNS = 4 * NUM_CELLS;
+    private static final String NO_SOLUTIONS_MESSAGE = "Initial board state was invalid. No solutions available.";
 
     public Board solveBoard(Board board) {
         while (!board.isSolved()) {
@@ -73,11 +81,101 @@ public class SudokuSolver {
             }
 
             // Can only reach this point if we reach an invalid state without any outstanding guesses.
-            throw new IllegalStateException("Initial board state was invalid. No solutions available.");
+            throw new IllegalStateException(NO_SOLUTIONS_MESSAGE);
         }
         return board;
     }
 
+    /**
+     * Solves the board in one go with ExactCoverSolver rather than cell by cell. The Board is left solved, with no
+     * guesses or reverse actions, just like solveBoard leaves it.
+     */
+    public Board solveBoardWithExactCover(Board board) {
+        if (board == null) {
+            throw new IllegalArgumentException("Board must not be null.");
+        }
+
+        ExactCoverSolver exactCoverSolver = new ExactCoverSolver(NUM_EXACT_COVER_COLUMNS);
+        int[] rowCells = new int[NUM_CELLS * SIZE];
+        int[] rowNumbers = new int[NUM_CELLS * SIZE];
+        for (int cell = 0; cell < NUM_CELLS; cell++) {
+            Cell boardCell = board.getGrid()[cell / SIZE][cell % SIZE];
+            List<Integer> numbers = (boardCell.getSolution() != null)
+                    ? List.of(boardCell.getSolution())
+                    : boardCell.getPossibleSolutions();
+            for (int number : numbers) {
+                int row = exactCoverSolver.addRow(getExactCoverColumns(cell, number));
+                rowCells[row] = cell;
+                rowNumbers[row] = number;
+            }
+        }
+
+        int[] rows = exactCoverSolver.findFirstSolution()
+                .orElseThrow(() -> new IllegalStateException(NO_SOLUTIONS_MESSAGE));
+        for (int row : rows) {
+            Cell boardCell = board.getGrid()[rowCells[row] / SIZE][rowCells[row] % SIZE];
+            boardCell.setSolution(rowNumbers[row]);
+            boardCell.setGuess(false);
+            boardCell.setPossibleSolutions(Collections.emptyList());
+        }
+        board.getUnsolvedCells().clear();
+        board.getReverseActions().clear();
+        return board;
+    }
+
+    /**
+     * Solves an int[81] board in row-major order, with 0 for empty cells, using ExactCoverSolver. This skips building a
+     * Board at all, and takes the same input as BitmaskSudokuSolver.
+     *
+     * Throws IllegalArgumentException if the board isn't 81 cells of 0 through 9, and IllegalStateException if there is
+     * no solution.
+     */
+    public int[] solveWithExactCover(int[] board) {
+        if (board == null || board.length != NUM_CELLS) {
+            throw new IllegalArgumentException("Boards must be non-null with 81 cells.");
+        }
+
+        ExactCoverSolver exactCoverSolver = new ExactCoverSolver(NUM_EXACT_COVER_COLUMNS);
+        int[] rowCells = new int[NUM_CELLS * SIZE];
+        int[] rowNumbers = new int[NUM_CELLS * SIZE];
+        for (int cell = 0; cell < NUM_CELLS; cell++) {
+            int val = board[cell];
+            if (val < 0 || val > SIZE) {
+                throw new IllegalArgumentException("Invalid cell contained: " + val);
+            }
+
+            // Givens only get their own row. Conflicts between them are left for the search to find.
+            int first = (val == 0) ? 1 : val;
+            int last = (val == 0) ? SIZE : val;
+            for (int number = first; number <= last; number++) {
+                int row = exactCoverSolver.addRow(getExactCoverColumns(cell, number));
+                rowCells[row] = cell;
+                rowNumbers[row] = number;
+            }
+        }
+
+        int[] rows = exactCoverSolver.findFirstSolution()
+                .orElseThrow(() -> new IllegalStateException(NO_SOLUTIONS_MESSAGE));
+        int[] result = new int[NUM_CELLS];
+        for (int row : rows) {
+            result[rowCells[row]] = rowNumbers[row];
+        }
+        return result;
+    }
+
+    private static int[] getExactCoverColumns(int cell, int number) {
+        int row = cell / SIZE;
+        int col = cell % SIZE;
+        int box = (row / 3) * 3 + col / 3;
+        int numberIndex = number - 1;
+        return new int[] {
+                cell,
+                NUM_CELLS + row * SIZE + numberIndex,
+                2 * NUM_CELLS + col * SIZE + numberIndex,
+                3 * NUM_CELLS + box * SIZE + numberIndex
+        };
+    }
+
     /**
      * Tries various logical solving techniques before guessing a solution.
      *
@@ -2,8 +2,11 @@ package corypgr.project.euler.problems.util;
 
 import lombok.SneakyThrows;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 
 /**
@@ -26,8 +29,17 @@ import java.util.Arrays;
  *   11  10
  * 02  04  06
  * where the top element is the max sum path.
+ *
+ * findMaxSumRouteStreaming goes top down instead, so it never needs more than the row it is on. Each cell holds the
+ * best sum of a route from the top down to it, which is its own value plus the larger of the two cells above it.
+ * The answer is the largest cell in the last row. Same triangle as above:
+ *     03
+ *   10  07
+ * 12  14  13
  */
 public class TriangleMaxSumRoute {
+    private static final int BUFFER_SIZE = 1 << 16;
+
     /**
      * Parse the input file and calculate the longest path.
      */
@@ -48,6 +60,36 @@ public class TriangleMaxSumRoute {
         return triangleGrid[0][0];
     }
 
+    /**
+     * Same result as findMaxSumRoute, but each row of the bottom up pass is split into blocks that are summed in
+     * parallel. Only worth it for very wide triangles. See WavefrontDp.
+     */
+    public long findMaxSumRouteParallel(Path inputFilePath) {
+        return new WavefrontDp().findMaxTriangleRouteSum(parseFile(inputFilePath));
+    }
+
+    /**
+     * Same result as findMaxSumRoute, but reads the file a row at a time, keeping a single long[] as wide as the
+     * current row. Bytes are parsed straight out of the FileChannel without creating Strings, so this works for
+     * triangles far too large to fit in memory.
+     *
+     * Rows hold whitespace separated ints, ending with \n or \r\n. Blank lines are skipped. Throws
+     * IllegalArgumentException if a row doesn't have exactly one more value than the row before it, or if a value isn't
+     * a valid int.
+     */
+    @SneakyThrows
+    public long findMaxSumRouteStreaming(Path inputFilePath) {
+        StreamingRoute route = new StreamingRoute();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(inputFilePath, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                route.accept(buffer.array(), buffer.position());
+                buffer.clear();
+            }
+        }
+        return route.finish();
+    }
+
     @SneakyThrows
     private int[][] parseFile(Path inputFilePath) {
         return Files.lines(inputFilePath)
@@ -60,4 +102,114 @@ public class TriangleMaxSumRoute {
                 .mapToInt(Integer::parseInt)
                 .toArray();
     }
+
+    /**
+     * Parser and top down route state for findMaxSumRouteStreaming. Each value is folded into the row buffer as soon as
+     * it is parsed. Going left to right, cell col needs the old values of cells col - 1 and col from the row above, so
+     * we hold on to the old value of the cell to the left before it gets overwritten.
+     */
+    private static final class StreamingRoute {
+        private long[] bestSums = new long[16];
+        // Rows finished so far, which is also the index of the row being read.
+        private int row;
+        private int col;
+        private long oldLeftSum;
+
+        private long value;
+        private boolean negative;
+        private boolean inValue;
+
+        private void accept(byte[] bytes, int length) {
+            for (int i = 0; i < length; i++) {
+                byte b = bytes[i];
+                if (b >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    if (value > (long) Integer.MAX_VALUE + 1) {
+                        throw new NumberFormatException("Value is out of int range in row " + row + ".");
+                    }
+                    inValue = true;
+                } else if (b == ' ' || b == '\t' || b == '\r') {
+                    finishValue();
+                } else if (b == '\n') {
+                    finishValue();
+                    finishRow();
+                } else if (b == '-' && !inValue && !negative) {
+                    negative = true;
+                } else {
+                    throw new NumberFormatException("Unexpected character '" + (char) b + "' in row " + row + ".");
+                }
+            }
+        }
+
+        private long finish() {
+            finishValue();
+            finishRow();
+            if (row == 0) {
+                throw new IllegalArgumentException("The triangle is empty.");
+            }
+
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < row; i++) {
+                max = Math.max(max, bestSums[i]);
+            }
+            return max;
+        }
+
+        private void finishValue() {
+            if (!inValue) {
+                if (negative) {
+                    throw new NumberFormatException("Found '-' without a value in row " + row + ".");
+                }
+                return;
+            }
+
+            long finishedValue = negative ? -value : value;
+            if (finishedValue > Integer.MAX_VALUE) {
+                throw new NumberFormatException("Value is out of int range in row " + row + ".");
+            }
+            addValue(finishedValue);
+            value = 0;
+            negative = false;
+            inValue = false;
+        }
+
+        private void addValue(long cellValue) {
+            if (col > row) {
+                throw new IllegalArgumentException("Row " + row + " has more than " + (row + 1) + " values.");
+            }
+            if (col == 0 && bestSums.length <= row) {
+                bestSums = Arrays.copyOf(bestSums, bestSums.length * 2);
+            }
+
+            if (row == 0) {
+                bestSums[0] = cellValue;
+            } else {
+                long oldSum = bestSums[col];
+                long bestAbove;
+                if (col == 0) {
+                    bestAbove = oldSum;
+                } else if (col == row) {
+                    bestAbove = oldLeftSum;
+                } else {
+                    bestAbove = Math.max(oldLeftSum, oldSum);
+                }
+                bestSums[col] = cellValue + bestAbove;
+                oldLeftSum = oldSum;
+            }
+            col++;
+        }
+
+        private void finishRow() {
+            if (col == 0) {
+                // Blank line.
+                return;
+            }
+            if (col != row + 1) {
+                throw new IllegalArgumentException("Row " + row + " has " + col + " values instead of " + (row + 1) +
+                        ".");
+            }
+            row++;
+            col = 0;
+        }
+    }
 }
@@ -0,0 +1,265 @@
+package corypgr.project.euler.problems.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Blocked parallel versions of two of the dynamic programming passes used by the path problems, plus the serial
+ * versions they are checked and benchmarked against.
+ *
+ * Triangle max route (Problems 18 and 67): the same bottom up pass as TriangleMaxSumRoute. Every cell in a row only
+ * depends on the row below it, so each row is split into blocks which are summed in parallel. Two row buffers are
+ * swapped between rows so blocks never read a cell another block is writing.
+ *
+ * Grid min path moving right and down (Problem 81): each cell depends on the cell above and the cell to the left, so
+ * cells on the same anti-diagonal are independent. Working cell by cell along anti-diagonals would jump all over
+ * memory, so the grid is cut into blockSize x blockSize blocks instead, and every block on the same anti-diagonal of
+ * blocks runs in parallel. See https://en.wikipedia.org/wiki/Wavefront_parallelism
+ *
+ * The inner loops are kept to plain int array arithmetic with Math.max and Math.min, which the JIT can auto vectorize.
+ * That's also why the sums are ints, with the overflow check done once up front instead of with Math.addExact on every
+ * cell. The left to right part of the grid recurrence can't be vectorized, so that pass is split into a vectorizable
+ * "from above" loop followed by a short serial "from the left" loop.
+ */
+public class WavefrontDp {
+    private static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int blockSize;
+
+    public WavefrontDp() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE);
+    }
+
+    public WavefrontDp(ForkJoinPool pool, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive.");
+        }
+
+        this.pool = pool;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns the largest sum of a route from the top of the triangle to the bottom, moving to one of the two adjacent
+     * cells in the row below at each step. Row i of the triangle must have i + 1 values. The triangle isn't modified.
+     *
+     * Throws ArithmeticException if a route sum could overflow an int.
+     */
+    public long findMaxTriangleRouteSum(int[][] triangle) {
+        validateTriangle(triangle);
+
+        int[] below = triangle[triangle.length - 1].clone();
+        int[] current = new int[below.length];
+        for (int row = triangle.length - 2; row >= 0; row--) {
+            int[] rowVals = triangle[row];
+            if (rowVals.length >= 2 * blockSize) {
+                pool.invoke(new TriangleRowTask(rowVals, below, current, 0, rowVals.length));
+            } else {
+                sumTriangleRow(rowVals, below, current, 0, rowVals.length);
+            }
+
+            int[] swap = below;
+            below = current;
+            current = swap;
+        }
+        return below[0];
+    }
+
+    /**
+     * Single threaded version of findMaxTriangleRouteSum.
+     */
+    public long findMaxTriangleRouteSumSerial(int[][] triangle) {
+        validateTriangle(triangle);
+
+        int[] below = triangle[triangle.length - 1].clone();
+        for (int row = triangle.length - 2; row >= 0; row--) {
+            // In place is fine here, cell col is done reading below[col] by the time we write it.
+            sumTriangleRow(triangle[row], below, below, 0, triangle[row].length);
+        }
+        return below[0];
+    }
+
+    /**
+     * Returns the smallest sum of a path from the top left cell to the bottom right cell of a row-major grid, moving
+     * only right and down. Both the first and last cells count towards the sum. The grid isn't modified.
+     *
+     * Throws ArithmeticException if a path sum could overflow an int.
+     */
+    public int findMinRightDownPathSum(int[] grid, int cols) {
+        validateGrid(grid, cols);
+
+        int rows = grid.length / cols;
+        int[] sums = new int[grid.length];
+        int blockRows = (rows + blockSize - 1) / blockSize;
+        int blockCols = (cols + blockSize - 1) / blockSize;
+        for (int diagonal = 0; diagonal < blockRows + blockCols - 1; diagonal++) {
+            int firstBlockRow = Math.max(0, diagonal - blockCols + 1);
+            int lastBlockRow = Math.min(blockRows - 1, diagonal);
+
+            if (firstBlockRow == lastBlockRow) {
+                sumGridBlock(grid, sums, cols, firstBlockRow, diagonal - firstBlockRow);
+                continue;
+            }
+
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int blockRow = firstBlockRow; blockRow <= lastBlockRow; blockRow++) {
+                int finalBlockRow = blockRow;
+                int blockCol = diagonal - blockRow;
+                tasks.add(ForkJoinTask.adapt(() -> sumGridBlock(grid, sums, cols, finalBlockRow, blockCol)));
+            }
+            pool.invoke(new InvokeAllTask(tasks));
+        }
+        return sums[sums.length - 1];
+    }
+
+    /**
+     * Single threaded version of findMinRightDownPathSum, one row at a time.
+     */
+    public int findMinRightDownPathSumSerial(int[] grid, int cols) {
+        validateGrid(grid, cols);
+
+        int rows = grid.length / cols;
+        int[] sums = new int[grid.length];
+        for (int row = 0; row < rows; row++) {
+            sumGridRowSegment(grid, sums, cols, row, 0, cols);
+        }
+        return sums[sums.length - 1];
+    }
+
+    private static void sumTriangleRow(int[] rowVals, int[] below, int[] result, int fromCol, int toCol) {
+        for (int col = fromCol; col < toCol; col++) {
+            result[col] = rowVals[col] + Math.max(below[col], below[col + 1]);
+        }
+    }
+
+    private void sumGridBlock(int[] grid, int[] sums, int cols, int blockRow, int blockCol) {
+        int rows = grid.length / cols;
+        int fromRow = blockRow * blockSize;
+        int toRow = Math.min(rows, fromRow + blockSize);
+        int fromCol = blockCol * blockSize;
+        int toCol = Math.min(cols, fromCol + blockSize);
+        for (int row = fromRow; row < toRow; row++) {
+            sumGridRowSegment(grid, sums, cols, row, fromCol, toCol);
+        }
+    }
+
+    /**
+     * Fills in sums for [fromCol, toCol) of a row. The row above, and the cell to the left of fromCol, must already be
+     * done.
+     */
+    private static void sumGridRowSegment(int[] grid, int[] sums, int cols, int row, int fromCol, int toCol) {
+        int rowStart = row * cols;
+        int from = rowStart + fromCol;
+        int to = rowStart + toCol;
+
+        if (row == 0) {
+            int previous = (fromCol == 0) ? 0 : sums[from - 1];
+            for (int i = from; i < to; i++) {
+                previous += grid[i];
+                sums[i] = previous;
+            }
+            return;
+        }
+
+        // From above. No dependencies between cells, so this one vectorizes.
+        for (int i = from; i < to; i++) {
+            sums[i] = grid[i] + sums[i - cols];
+        }
+        // From the left.
+        int start = (fromCol == 0) ? from + 1 : from;
+        for (int i = start; i < to; i++) {
+            sums[i] = Math.min(sums[i], sums[i - 1] + grid[i]);
+        }
+    }
+
+    private void validateTriangle(int[][] triangle) {
+        if (triangle.length == 0) {
+            throw new IllegalArgumentException("The triangle is empty.");
+        }
+
+        long maxAbsVal = 0;
+        for (int row = 0; row < triangle.length; row++) {
+            if (triangle[row].length != row + 1) {
+                throw new IllegalArgumentException("Row " + row + " must have " + (row + 1) + " values.");
+            }
+            for (int val : triangle[row]) {
+                maxAbsVal = Math.max(maxAbsVal, Math.abs((long) val));
+            }
+        }
+        validateFitsInInt(maxAbsVal, triangle.length);
+    }
+
+    private void validateGrid(int[] grid, int cols) {
+        if (cols <= 0 || grid.length == 0 || grid.length % cols != 0) {
+            throw new IllegalArgumentException(
+                    "Grid length must be a non-zero multiple of a positive number of columns.");
+        }
+
+        long maxAbsVal = 0;
+        for (int val : grid) {
+            maxAbsVal = Math.max(maxAbsVal, Math.abs((long) val));
+        }
+        validateFitsInInt(maxAbsVal, grid.length / cols + cols - 1);
+    }
+
+    /**
+     * Every route or path is pathLength cells long, so this bounds every partial sum the passes can produce.
+     */
+    private void validateFitsInInt(long maxAbsVal, long pathLength) {
+        if (maxAbsVal * pathLength > Integer.MAX_VALUE) {
+            throw new ArithmeticException("Sums could overflow an int.");
+        }
+    }
+
+    private final class TriangleRowTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] rowVals;
+        private final int[] below;
+        private final int[] result;
+        private final int fromCol;
+        private final int toCol;
+
+        private TriangleRowTask(int[] rowVals, int[] below, int[] result, int fromCol, int toCol) {
+            this.rowVals = rowVals;
+            this.below = below;
+            this.result = result;
+            this.fromCol = fromCol;
+            this.toCol = toCol;
+        }
+
+        @Override
+        protected void compute() {
+            if (toCol - fromCol < 2 * blockSize) {
+                sumTriangleRow(rowVals, below, result, fromCol, toCol);
+                return;
+            }
+
+            int middle = (fromCol + toCol) >>> 1;
+            invokeAll(new TriangleRowTask(rowVals, below, result, fromCol, middle),
+                    new TriangleRowTask(rowVals, below, result, middle, toCol));
+        }
+    }
+
+    /**
+     * Runs the tasks from inside the pool, so the calling thread waits on the whole diagonal at once.
+     */
+    private static final class InvokeAllTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<ForkJoinTask<?>> tasks;
+
+        private InvokeAllTask(List<ForkJoinTask<?>> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(tasks);
+        }
+    }
+}
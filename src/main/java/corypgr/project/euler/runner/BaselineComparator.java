@@ -0,0 +1,78 @@
+package corypgr.project.euler.runner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compares benchmark results against a PerformanceBaseline, flagging problems whose median time or allocated bytes grew
+ * by more than a percentage of their baseline.
+ *
+ * Problems that only take a few microseconds can easily double in time from noise alone, so a regression also has to
+ * grow by at least MIN_TIME_INCREASE_NANOS or MIN_ALLOCATION_INCREASE_BYTES. Problems missing from the baseline are
+ * reported, but never count as regressions.
+ */
+public class BaselineComparator {
+    public static final double DEFAULT_MAX_TIME_INCREASE_PERCENT = 20;
+    public static final double DEFAULT_MAX_ALLOCATION_INCREASE_PERCENT = 50;
+    public static final long MIN_TIME_INCREASE_NANOS = 1_000_000;
+    public static final long MIN_ALLOCATION_INCREASE_BYTES = 1 << 20;
+
+    private final double maxTimeIncreasePercent;
+    private final double maxAllocationIncreasePercent;
+
+    public BaselineComparator() {
+        this(DEFAULT_MAX_TIME_INCREASE_PERCENT, DEFAULT_MAX_ALLOCATION_INCREASE_PERCENT);
+    }
+
+    public BaselineComparator(double maxTimeIncreasePercent, double maxAllocationIncreasePercent) {
+        if (!(maxTimeIncreasePercent >= 0) || !(maxAllocationIncreasePercent >= 0)) {
+            throw new IllegalArgumentException("Thresholds must be non-negative percentages.");
+        }
+
+        this.maxTimeIncreasePercent = maxTimeIncreasePercent;
+        this.maxAllocationIncreasePercent = maxAllocationIncreasePercent;
+    }
+
+    /**
+     * Returns a comparison per result, worst first: regressions, then everything else in the baseline, then new
+     * problems. Within each group, the largest time increase comes first.
+     */
+    public List<ProblemComparison> compare(PerformanceBaseline baseline, List<BenchmarkResult> results) {
+        List<ProblemComparison> comparisons = new ArrayList<>();
+        for (BenchmarkResult result : results) {
+            comparisons.add(compare(baseline, result));
+        }
+
+        comparisons.sort(Comparator.comparing(ProblemComparison::isRegression).reversed()
+                .thenComparing(ProblemComparison::isInBaseline, Comparator.reverseOrder())
+                .thenComparing(ProblemComparison::getTimeChangePercent, Comparator.reverseOrder())
+                .thenComparingInt(ProblemComparison::getProblemNumber));
+        return comparisons;
+    }
+
+    private ProblemComparison compare(PerformanceBaseline baseline, BenchmarkResult result) {
+        ProblemComparison.ProblemComparisonBuilder builder = ProblemComparison.builder()
+                .problemNumber(result.getProblemNumber())
+                .medianNanos(result.getMedianNanos())
+                .allocatedBytes(result.getAllocatedBytesPerIteration());
+
+        PerformanceBaseline.Entry entry = baseline.getEntry(result.getProblemNumber()).orElse(null);
+        if (entry == null) {
+            return builder.inBaseline(false).build();
+        }
+
+        builder.inBaseline(true)
+                .baselineMedianNanos(entry.getMedianNanos())
+                .baselineAllocatedBytes(entry.getAllocatedBytes());
+        ProblemComparison unflagged = builder.build();
+        boolean timeRegression = result.getMedianNanos() - entry.getMedianNanos() >= MIN_TIME_INCREASE_NANOS
+                && unflagged.getTimeChangePercent() > maxTimeIncreasePercent;
+        boolean allocationRegression = unflagged.isAllocationComparable()
+                && result.getAllocatedBytesPerIteration() - entry.getAllocatedBytes() >= MIN_ALLOCATION_INCREASE_BYTES
+                && unflagged.getAllocationChangePercent() > maxAllocationIncreasePercent;
+        return builder.timeRegression(timeRegression)
+                .allocationRegression(allocationRegression)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package corypgr.project.euler.runner;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Totals for a run of many problems. With more than 1 thread, wallNanos should come in under the per-problem sums.
+ */
+@Value
+@Builder
+public class BatchSummary {
+    private final int problemCount;
+    private final int numThreads;
+    private final long wallNanos;
+    private final long totalExecutionNanos;
+    private final long totalCpuNanos;
+    private final List<Integer> timedOutProblemNumbers;
+}
@@ -0,0 +1,91 @@
+package corypgr.project.euler.runner;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes benchmark results as JSON or CSV, so runs can be saved and compared over time. Times are in nanoseconds,
+ * except for gcMillis, and memory is in bytes.
+ *
+ * JSON is an object with the run settings and a "results" array with an object per problem. CSV has a header row and
+ * then a row per problem, with the same field names.
+ */
+public class BenchmarkReportWriter {
+    static final String[] FIELDS = {
+            "problemNumber", "warmupIterations", "iterations", "minNanos", "medianNanos", "p90Nanos", "p99Nanos",
+            "maxNanos", "meanNanos", "stdDevNanos", "allocatedBytesPerIteration", "gcCount", "gcMillis",
+            "peakHeapBytes", "solution"
+    };
+
+    public enum Format {
+        JSON,
+        CSV;
+
+        /**
+         * Picks the format from a file name's extension, defaulting to JSON.
+         */
+        public static Format fromFileName(String fileName) {
+            return fileName.toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : JSON;
+        }
+    }
+
+    public void write(List<BenchmarkResult> results, Format format, Writer writer) throws IOException {
+        if (format == Format.CSV) {
+            writeCsv(results, writer);
+        } else {
+            writeJson(results, writer);
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(List<BenchmarkResult> results, Writer writer) throws IOException {
+        writer.write(String.join(",", FIELDS));
+        writer.write(System.lineSeparator());
+        for (BenchmarkResult result : results) {
+            writer.write(String.join(",", getValues(result)));
+            writer.write(System.lineSeparator());
+        }
+    }
+
+    private void writeJson(List<BenchmarkResult> results, Writer writer) throws IOException {
+        String newLine = System.lineSeparator();
+        writer.write("{" + newLine);
+        writer.write("  \"javaVersion\": \"" + System.getProperty("java.version") + "\"," + newLine);
+        writer.write("  \"availableProcessors\": " + Runtime.getRuntime().availableProcessors() + "," + newLine);
+        writer.write("  \"results\": [");
+        for (int i = 0; i < results.size(); i++) {
+            String[] values = getValues(results.get(i));
+            writer.write((i == 0 ? "" : ",") + newLine + "    {");
+            for (int field = 0; field < FIELDS.length; field++) {
+                writer.write((field == 0 ? "" : ", ") + "\"" + FIELDS[field] + "\": " + values[field]);
+            }
+            writer.write("}");
+        }
+        writer.write(newLine + "  ]" + newLine + "}" + newLine);
+    }
+
+    /**
+     * Values in FIELDS order. All numbers, so they need no quoting or escaping in either format.
+     */
+    private static String[] getValues(BenchmarkResult result) {
+        return new String[] {
+                Integer.toString(result.getProblemNumber()),
+                Integer.toString(result.getWarmupIterations()),
+                Integer.toString(result.getIterations()),
+                Long.toString(result.getMinNanos()),
+                Long.toString(result.getMedianNanos()),
+                Long.toString(result.getP90Nanos()),
+                Long.toString(result.getP99Nanos()),
+                Long.toString(result.getMaxNanos()),
+                String.format(Locale.ROOT, "%.1f", result.getMeanNanos()),
+                String.format(Locale.ROOT, "%.1f", result.getStdDevNanos()),
+                Long.toString(result.getAllocatedBytesPerIteration()),
+                Long.toString(result.getGcCount()),
+                Long.toString(result.getGcMillis()),
+                Long.toString(result.getPeakHeapBytes()),
+                result.getSolution().toString()
+        };
+    }
+}
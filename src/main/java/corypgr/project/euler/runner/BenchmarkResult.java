@@ -0,0 +1,41 @@
+package corypgr.project.euler.runner;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Timing stats for the measured iterations of one problem. Percentiles use the nearest rank method, so they are always
+ * one of the measured times.
+ */
+@Value
+@Builder
+public class BenchmarkResult {
+    private final int problemNumber;
+    private final int warmupIterations;
+    private final int iterations;
+    private final long minNanos;
+    private final long medianNanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final double meanNanos;
+
+    /**
+     * Sample standard deviation, or 0 with a single iteration.
+     */
+    private final double stdDevNanos;
+
+    /**
+     * Mean bytes allocated by a measured iteration, or MemoryProbe.UNSUPPORTED. The GC and peak heap stats are over all
+     * of the measured iterations. See MemoryStats.
+     */
+    private final long allocatedBytesPerIteration;
+    private final long gcCount;
+    private final long gcMillis;
+    private final long peakHeapBytes;
+
+    /**
+     * The solution from the last iteration, so the work can't be optimized away, and to show what was timed.
+     */
+    private final Number solution;
+}
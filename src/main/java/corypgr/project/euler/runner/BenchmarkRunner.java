@@ -0,0 +1,87 @@
+package corypgr.project.euler.runner;
+
+import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemSolution;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Times a problem over many iterations, after a few warmup iterations to get class loading and JIT compilation out of
+ * the way. Every iteration is a full solve call on the same Problem instance, timed with System.nanoTime.
+ *
+ * A MemoryProbe runs across all of the measured iterations, outside of the timed calls.
+ */
+public class BenchmarkRunner {
+    private final int warmupIterations;
+    private final int iterations;
+    private final MemoryProbe memoryProbe = new MemoryProbe();
+
+    public BenchmarkRunner(int warmupIterations, int iterations) {
+        if (warmupIterations < 0 || iterations < 1) {
+            throw new IllegalArgumentException("Need 0 or more warmup iterations and at least 1 measured iteration.");
+        }
+
+        this.warmupIterations = warmupIterations;
+        this.iterations = iterations;
+    }
+
+    public BenchmarkResult run(int problemNumber, Problem problem) {
+        return run(problemNumber, problem, Map.of());
+    }
+
+    /**
+     * Benchmarks with some of the problem's default parameters overridden. See Problem.solve(Map).
+     */
+    public BenchmarkResult run(int problemNumber, Problem problem, Map<String, Long> parameters) {
+        for (int i = 0; i < warmupIterations; i++) {
+            problem.solve(parameters);
+        }
+
+        long[] nanos = new long[iterations];
+        ProblemSolution solution = null;
+        MemoryProbe.Start memoryStart = memoryProbe.start();
+        for (int i = 0; i < iterations; i++) {
+            long startNanos = System.nanoTime();
+            solution = problem.solve(parameters);
+            nanos[i] = System.nanoTime() - startNanos;
+        }
+        MemoryStats memoryStats = memoryProbe.stop(memoryStart);
+        long allocatedBytes = memoryStats.getAllocatedBytes();
+        long allocatedBytesPerIteration =
+                (allocatedBytes == MemoryProbe.UNSUPPORTED) ? MemoryProbe.UNSUPPORTED : allocatedBytes / iterations;
+
+        Arrays.sort(nanos);
+        double mean = Arrays.stream(nanos).average().getAsDouble();
+        double sumOfSquares = Arrays.stream(nanos)
+                .mapToDouble(sample -> (sample - mean) * (sample - mean))
+                .sum();
+        double stdDev = (iterations == 1) ? 0 : Math.sqrt(sumOfSquares / (iterations - 1));
+
+        return BenchmarkResult.builder()
+                .problemNumber(problemNumber)
+                .warmupIterations(warmupIterations)
+                .iterations(iterations)
+                .minNanos(nanos[0])
+                .medianNanos(getPercentile(nanos, 50))
+                .p90Nanos(getPercentile(nanos, 90))
+                .p99Nanos(getPercentile(nanos, 99))
+                .maxNanos(nanos[iterations - 1])
+                .meanNanos(mean)
+                .stdDevNanos(stdDev)
+                .allocatedBytesPerIteration(allocatedBytesPerIteration)
+                .gcCount(memoryStats.getGcCount())
+                .gcMillis(memoryStats.getGcMillis())
+                .peakHeapBytes(memoryStats.getPeakHeapBytes())
+                .solution(solution.getSolution())
+                .build();
+    }
+
+    /**
+     * Nearest rank percentile of sorted samples.
+     */
+    static long getPercentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
@@ -0,0 +1,60 @@
+package corypgr.project.euler.runner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Roughly how long each problem takes to run, used to start the slowest problems first when running in parallel.
+ *
+ * Read from a file with a "problemNumber millis" line per problem. Blank lines and lines starting with # are skipped.
+ * Problems missing from the file are expected to take 0ms.
+ */
+public class ExpectedProblemTimes {
+    public static final Path DEFAULT_PATH = Path.of("src/main/java/corypgr/project/euler/runner/expected_problem_times");
+
+    private final Map<Integer, Long> problemNumberToMillis;
+
+    public ExpectedProblemTimes(Map<Integer, Long> problemNumberToMillis) {
+        this.problemNumberToMillis = Map.copyOf(problemNumberToMillis);
+    }
+
+    /**
+     * Loads the times from path. A missing file gives no expected times, so problems just run in number order.
+     */
+    public static ExpectedProblemTimes load(Path path) {
+        if (!Files.exists(path)) {
+            return new ExpectedProblemTimes(Map.of());
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read expected problem times from " + path, e);
+        }
+
+        Map<Integer, Long> problemNumberToMillis = new HashMap<>();
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+
+            String[] parts = trimmed.split("\\s+");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected \"problemNumber millis\" but found: " + line);
+            }
+            problemNumberToMillis.put(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+        }
+        return new ExpectedProblemTimes(problemNumberToMillis);
+    }
+
+    public long getExpectedMillis(int problemNumber) {
+        return problemNumberToMillis.getOrDefault(problemNumber, 0L);
+    }
+}
@@ -0,0 +1,70 @@
+package corypgr.project.euler.runner;
+
+import lombok.Value;
+
+/**
+ * A power law, time = coefficient * size^exponent, fitted to measured times by least squares on log(time) against
+ * log(size). An exponent around 1 is linear, and 2 quadratic. n log n growth comes out a little above 1, and creeps up
+ * slowly over larger ranges of sizes.
+ *
+ * rSquared is how much of the variation in log(time) the line explains. Values well under 1 mean the growth isn't a
+ * single power law over the whole range, like a problem that is dominated by fixed costs at small sizes.
+ */
+@Value
+public class GrowthCurve {
+    private final double coefficient;
+    private final double exponent;
+    private final double rSquared;
+
+    /**
+     * Throws IllegalArgumentException with fewer than 2 distinct sizes, or any non-positive size or time.
+     */
+    public static GrowthCurve fit(long[] sizes, long[] nanos) {
+        if (sizes.length != nanos.length) {
+            throw new IllegalArgumentException("Need a time for every size.");
+        }
+
+        int n = sizes.length;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; i++) {
+            if (sizes[i] <= 0 || nanos[i] <= 0) {
+                throw new IllegalArgumentException("Sizes and times must be positive.");
+            }
+            x[i] = Math.log(sizes[i]);
+            y[i] = Math.log(nanos[i]);
+            meanX += x[i] / n;
+            meanY += y[i] / n;
+        }
+
+        double covariance = 0;
+        double varianceX = 0;
+        double varianceY = 0;
+        for (int i = 0; i < n; i++) {
+            covariance += (x[i] - meanX) * (y[i] - meanY);
+            varianceX += (x[i] - meanX) * (x[i] - meanX);
+            varianceY += (y[i] - meanY) * (y[i] - meanY);
+        }
+        if (varianceX == 0) {
+            throw new IllegalArgumentException("Need at least 2 distinct sizes.");
+        }
+
+        double exponent = covariance / varianceX;
+        double intercept = meanY - exponent * meanX;
+        double rSquared = (varianceY == 0) ? 1 : covariance * covariance / (varianceX * varianceY);
+        return new GrowthCurve(Math.exp(intercept), exponent, rSquared);
+    }
+
+    /**
+     * The exponent between just two measurements, for spotting where growth speeds up within a sweep.
+     */
+    public static double getLocalExponent(long size1, long nanos1, long size2, long nanos2) {
+        return Math.log((double) nanos2 / nanos1) / Math.log((double) size2 / size1);
+    }
+
+    public double predictNanos(long size) {
+        return coefficient * Math.pow(size, exponent);
+    }
+}
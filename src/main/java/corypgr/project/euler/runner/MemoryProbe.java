@@ -0,0 +1,97 @@
+package corypgr.project.euler.runner;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Measures allocations, garbage collection, and peak heap between a call to start and a call to stop on the same
+ * thread.
+ *
+ * Allocated bytes come from com.sun.management.ThreadMXBean, so they are exact for the calling thread, but only
+ * available on JVMs that have it (HotSpot and OpenJ9 both do). GC counts and times come from the
+ * GarbageCollectorMXBeans, and the peak heap from resetting and then reading the peaks of the heap MemoryPoolMXBeans.
+ * Both of those are JVM wide, so they also pick up anything else running at the same time, and starting a probe resets
+ * the peaks any other running probe would see.
+ */
+public class MemoryProbe {
+    public static final long UNSUPPORTED = -1;
+
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+    private final List<GarbageCollectorMXBean> garbageCollectorMXBeans =
+            ManagementFactory.getGarbageCollectorMXBeans();
+    private final List<MemoryPoolMXBean> heapPoolMXBeans = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .collect(Collectors.toList());
+
+    public MemoryProbe() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            allocationMXBean = null;
+        }
+    }
+
+    /**
+     * Snapshot of the counters when measuring started, to be passed to stop.
+     */
+    public static final class Start {
+        private final long allocatedBytes;
+        private final long gcCount;
+        private final long gcMillis;
+
+        private Start(long allocatedBytes, long gcCount, long gcMillis) {
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+    }
+
+    public Start start() {
+        heapPoolMXBeans.forEach(MemoryPoolMXBean::resetPeakUsage);
+        return new Start(getAllocatedBytes(), getGcCount(), getGcMillis());
+    }
+
+    public MemoryStats stop(Start start) {
+        long allocatedBytes = getAllocatedBytes();
+        return MemoryStats.builder()
+                .allocatedBytes((allocatedBytes == UNSUPPORTED) ? UNSUPPORTED : allocatedBytes - start.allocatedBytes)
+                .gcCount(getGcCount() - start.gcCount)
+                .gcMillis(getGcMillis() - start.gcMillis)
+                .peakHeapBytes(heapPoolMXBeans.stream()
+                        .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                        .sum())
+                .build();
+    }
+
+    private long getAllocatedBytes() {
+        if (allocationMXBean == null) {
+            return UNSUPPORTED;
+        }
+        return allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Collectors return -1 for counts they don't track, so those are skipped.
+     */
+    private long getGcCount() {
+        return garbageCollectorMXBeans.stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    private long getGcMillis() {
+        return garbageCollectorMXBeans.stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(millis -> millis > 0)
+                .sum();
+    }
+}
@@ -0,0 +1,29 @@
+package corypgr.project.euler.runner;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Memory use while running a problem, as measured by MemoryProbe.
+ */
+@Value
+@Builder
+public class MemoryStats {
+    /**
+     * Bytes allocated by the thread that ran the problem, or MemoryProbe.UNSUPPORTED if the JVM can't measure it.
+     * Allocations on other threads, like the common ForkJoinPool, aren't included.
+     */
+    private final long allocatedBytes;
+
+    /**
+     * Garbage collections across the whole JVM, summed over every collector.
+     */
+    private final long gcCount;
+    private final long gcMillis;
+
+    /**
+     * Sum of the peak usage of every heap memory pool. The pools can peak at different times, so this is an upper
+     * bound on the real peak, and it includes whatever was already on the heap when the problem started.
+     */
+    private final long peakHeapBytes;
+}
@@ -0,0 +1,106 @@
+package corypgr.project.euler.runner;
+
+import corypgr.project.euler.problems.util.Problem;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Runs many problems on a fixed size thread pool.
+ *
+ * Problems are submitted slowest first according to ExpectedProblemTimes, so a long problem doesn't start last and
+ * leave the other threads idle at the end (longest processing time first scheduling). Results are still handed back
+ * in problem number order, each one as soon as it and every problem before it have finished.
+ */
+public class ParallelProblemRunner {
+    private final int numThreads;
+    private final ExpectedProblemTimes expectedProblemTimes;
+    private final ProblemRunner problemRunner;
+
+    public ParallelProblemRunner(int numThreads, ExpectedProblemTimes expectedProblemTimes) {
+        this(numThreads, expectedProblemTimes, new ProblemRunner());
+    }
+
+    /**
+     * Every problem is run with problemRunner. Memory recorded while problems run side by side is only exact for
+     * allocated bytes. See MemoryProbe.
+     */
+    public ParallelProblemRunner(int numThreads, ExpectedProblemTimes expectedProblemTimes,
+                                 ProblemRunner problemRunner) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("numThreads must be positive.");
+        }
+
+        this.numThreads = numThreads;
+        this.expectedProblemTimes = expectedProblemTimes;
+        this.problemRunner = problemRunner;
+    }
+
+    /**
+     * Runs every problem, passing each result to resultConsumer in problem number order on the calling thread. Problems
+     * that time out, if problemRunner has a timeout, are passed on like any other result.
+     *
+     * If a problem throws, the remaining problems are cancelled and an IllegalStateException is thrown once the
+     * results before it have been passed on.
+     */
+    public BatchSummary runAll(Map<Integer, Problem> numberToProblem, Consumer<ProblemResult> resultConsumer) {
+        List<Integer> submitOrder = new ArrayList<>(numberToProblem.keySet());
+        submitOrder.sort(Comparator.comparingLong(expectedProblemTimes::getExpectedMillis).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        long startNanos = System.nanoTime();
+        long totalExecutionNanos = 0;
+        long totalCpuNanos = 0;
+        List<Integer> timedOutProblemNumbers = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+        try {
+            Map<Integer, Future<ProblemResult>> numberToFuture = new HashMap<>();
+            for (int problemNumber : submitOrder) {
+                Problem problem = numberToProblem.get(problemNumber);
+                numberToFuture.put(problemNumber, pool.submit(() -> problemRunner.run(problemNumber, problem)));
+            }
+
+            List<Integer> problemNumbers = new ArrayList<>(numberToProblem.keySet());
+            problemNumbers.sort(Comparator.naturalOrder());
+            for (int problemNumber : problemNumbers) {
+                ProblemResult result = getResult(problemNumber, numberToFuture.get(problemNumber));
+                totalExecutionNanos += result.getExecutionNanos();
+                totalCpuNanos += result.getCpuNanos();
+                if (result.isTimedOut()) {
+                    timedOutProblemNumbers.add(problemNumber);
+                }
+                resultConsumer.accept(result);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return BatchSummary.builder()
+                .problemCount(numberToProblem.size())
+                .numThreads(numThreads)
+                .wallNanos(System.nanoTime() - startNanos)
+                .totalExecutionNanos(totalExecutionNanos)
+                .totalCpuNanos(totalCpuNanos)
+                .timedOutProblemNumbers(timedOutProblemNumbers)
+                .build();
+    }
+
+    private static ProblemResult getResult(int problemNumber, Future<ProblemResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for problem " + problemNumber, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Problem " + problemNumber + " failed.", e.getCause());
+        }
+    }
+}
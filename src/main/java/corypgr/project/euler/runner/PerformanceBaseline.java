@@ -0,0 +1,112 @@
+package corypgr.project.euler.runner;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Median time and allocated bytes per problem from an earlier benchmark, for BaselineComparator to check new runs
+ * against.
+ *
+ * Stored in a file with a "problemNumber medianNanos allocatedBytes" line per problem. Blank lines and lines starting
+ * with # are skipped. allocatedBytes is MemoryProbe.UNSUPPORTED if the JVM that recorded the baseline couldn't measure
+ * allocations. Times only mean something on the machine they were recorded on, so baselines aren't checked in. Each
+ * machine records its own with --write-baseline, to DEFAULT_PATH unless told otherwise, which git ignores.
+ */
+public class PerformanceBaseline {
+    public static final Path DEFAULT_PATH = Path.of(".performance_baseline");
+
+    @Value
+    public static class Entry {
+        private final long medianNanos;
+        private final long allocatedBytes;
+    }
+
+    private final Map<Integer, Entry> problemNumberToEntry;
+
+    public PerformanceBaseline(Map<Integer, Entry> problemNumberToEntry) {
+        this.problemNumberToEntry = Map.copyOf(problemNumberToEntry);
+    }
+
+    public static PerformanceBaseline fromResults(List<BenchmarkResult> results) {
+        Map<Integer, Entry> problemNumberToEntry = new HashMap<>();
+        for (BenchmarkResult result : results) {
+            problemNumberToEntry.put(result.getProblemNumber(),
+                    new Entry(result.getMedianNanos(), result.getAllocatedBytesPerIteration()));
+        }
+        return new PerformanceBaseline(problemNumberToEntry);
+    }
+
+    /**
+     * Unlike ExpectedProblemTimes, a missing file is an error, since there would be nothing to compare against.
+     */
+    public static PerformanceBaseline load(Path path) {
+        if (!Files.exists(path)) {
+            throw new IllegalStateException("No performance baseline at " + path
+                    + ". Record one on this machine with --write-baseline first.");
+        }
+        try {
+            return parse(Files.readAllLines(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read performance baseline from " + path, e);
+        }
+    }
+
+    static PerformanceBaseline parse(List<String> lines) {
+        Map<Integer, Entry> problemNumberToEntry = new HashMap<>();
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+
+            String[] parts = trimmed.split("\\s+");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(
+                        "Expected \"problemNumber medianNanos allocatedBytes\" but found: " + line);
+            }
+            problemNumberToEntry.put(Integer.parseInt(parts[0]),
+                    new Entry(Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+        }
+        return new PerformanceBaseline(problemNumberToEntry);
+    }
+
+    public void save(Path path) {
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write performance baseline to " + path, e);
+        }
+    }
+
+    /**
+     * Writes the baseline in problem number order, in the format parse reads.
+     */
+    public void write(Writer writer) throws IOException {
+        String newLine = System.lineSeparator();
+        writer.write("# Median execution time and allocated bytes per iteration of each problem, checked by "
+                + "--compare-baseline." + newLine);
+        writer.write("# Recorded with Java " + System.getProperty("java.version") + " on "
+                + System.getProperty("os.name") + " " + System.getProperty("os.arch") + " with "
+                + Runtime.getRuntime().availableProcessors() + " processors. "
+                + "Format: problemNumber medianNanos allocatedBytes" + newLine);
+        for (Map.Entry<Integer, Entry> entry : new TreeMap<>(problemNumberToEntry).entrySet()) {
+            writer.write(entry.getKey() + " " + entry.getValue().getMedianNanos() + " "
+                    + entry.getValue().getAllocatedBytes() + newLine);
+        }
+        writer.flush();
+    }
+
+    public Optional<Entry> getEntry(int problemNumber) {
+        return Optional.ofNullable(problemNumberToEntry.get(problemNumber));
+    }
+}
@@ -0,0 +1,51 @@
+package corypgr.project.euler.runner;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A problem's new benchmark result next to its baseline. The baseline fields are only meaningful when inBaseline is
+ * true. Allocations are only compared when both runs could measure them.
+ */
+@Value
+@Builder
+public class ProblemComparison {
+    private final int problemNumber;
+    private final boolean inBaseline;
+    private final long baselineMedianNanos;
+    private final long medianNanos;
+    private final long baselineAllocatedBytes;
+    private final long allocatedBytes;
+    private final boolean timeRegression;
+    private final boolean allocationRegression;
+
+    public boolean isRegression() {
+        return timeRegression || allocationRegression;
+    }
+
+    public boolean isAllocationComparable() {
+        return inBaseline && baselineAllocatedBytes != MemoryProbe.UNSUPPORTED
+                && allocatedBytes != MemoryProbe.UNSUPPORTED;
+    }
+
+    /**
+     * Percent change in median time from the baseline. NaN if the problem isn't in the baseline.
+     */
+    public double getTimeChangePercent() {
+        return inBaseline ? getChangePercent(baselineMedianNanos, medianNanos) : Double.NaN;
+    }
+
+    /**
+     * Percent change in allocated bytes from the baseline. NaN if they can't be compared.
+     */
+    public double getAllocationChangePercent() {
+        return isAllocationComparable() ? getChangePercent(baselineAllocatedBytes, allocatedBytes) : Double.NaN;
+    }
+
+    private static double getChangePercent(long baseline, long current) {
+        if (baseline == 0) {
+            return (current == 0) ? 0 : Double.POSITIVE_INFINITY;
+        }
+        return (current - baseline) * 100.0 / baseline;
+    }
+}
@@ -0,0 +1,42 @@
+package corypgr.project.euler.runner;
+
+import corypgr.project.euler.problems.util.ProblemSolution;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * The solution to a single problem run, how long it took, and optionally how much memory it used. Problems that ran
+ * past the ProblemRunner's timeout are marked timedOut and have no solution or memory stats. Solutions taken from a
+ * SolutionCache are marked cached, and have no times or memory stats since nothing was run.
+ */
+@Value
+@Builder
+public class ProblemResult {
+    private final int problemNumber;
+
+    /**
+     * The default parameters that were overridden, if any.
+     */
+    private final Map<String, Long> parameters;
+    private final ProblemSolution solution;
+    private final boolean timedOut;
+    private final boolean cached;
+
+    /**
+     * Wall-clock time of the solve call, or until it timed out.
+     */
+    private final long executionNanos;
+
+    /**
+     * CPU time of the thread that ran the solve call. Work a problem hands off to other threads, like the common
+     * ForkJoinPool, isn't included.
+     */
+    private final long cpuNanos;
+
+    /**
+     * Null unless the ProblemRunner was asked to record memory.
+     */
+    private final MemoryStats memoryStats;
+}
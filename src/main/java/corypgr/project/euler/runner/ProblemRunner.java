@@ -0,0 +1,178 @@
+package corypgr.project.euler.runner;
+
+import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemSolution;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs a single problem, timing it with System.nanoTime and the current thread's CPU time. Optionally also records
+ * MemoryStats with a MemoryProbe.
+ *
+ * With a timeout, each problem is solved on a new daemon thread, which is interrupted if the problem doesn't finish in
+ * time. The result is then marked as timed out. Problems that check for interrupts, see Cancellation, stop soon after.
+ * Ones that don't keep running in the background until they finish, taking CPU time from whatever runs next, but they
+ * don't hold up the caller or keep the JVM from exiting. getRunawayThreadCount says how many of those are still going,
+ * so long running callers can stop handing out more work.
+ *
+ * With a SolutionCache, problems with a cached solution from their current code aren't run at all. New solutions are
+ * added to the cache, but saving it is up to the caller.
+ */
+public class ProblemRunner {
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final MemoryProbe memoryProbe;
+    private final Duration timeout;
+    private final SolutionCache solutionCache;
+    private final Set<Thread> timedOutThreads = ConcurrentHashMap.newKeySet();
+
+    public ProblemRunner() {
+        this(false);
+    }
+
+    public ProblemRunner(boolean recordMemory) {
+        this(recordMemory, null);
+    }
+
+    /**
+     * A null timeout lets problems run as long as they need, on the calling thread.
+     */
+    public ProblemRunner(boolean recordMemory, Duration timeout) {
+        this(recordMemory, timeout, null);
+    }
+
+    /**
+     * A null solutionCache solves every problem.
+     */
+    public ProblemRunner(boolean recordMemory, Duration timeout, SolutionCache solutionCache) {
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("timeout must be positive.");
+        }
+
+        this.memoryProbe = recordMemory ? new MemoryProbe() : null;
+        this.timeout = timeout;
+        this.solutionCache = solutionCache;
+    }
+
+    public ProblemResult run(int problemNumber, Problem problem) {
+        return run(problemNumber, problem, Map.of());
+    }
+
+    /**
+     * Solves with some of the problem's default parameters overridden. See Problem.solve(Map).
+     */
+    public ProblemResult run(int problemNumber, Problem problem, Map<String, Long> parameters) {
+        if (solutionCache == null) {
+            return solveWithTimeout(problemNumber, problem, parameters);
+        }
+
+        Optional<ProblemSolution> cachedSolution = solutionCache.get(problemNumber, problem, parameters);
+        if (cachedSolution.isPresent()) {
+            return ProblemResult.builder()
+                    .problemNumber(problemNumber)
+                    .parameters(parameters)
+                    .solution(cachedSolution.get())
+                    .cached(true)
+                    .build();
+        }
+
+        ProblemResult result = solveWithTimeout(problemNumber, problem, parameters);
+        if (!result.isTimedOut()) {
+            solutionCache.put(problemNumber, problem, parameters, result.getSolution());
+        }
+        return result;
+    }
+
+    private ProblemResult solveWithTimeout(int problemNumber, Problem problem, Map<String, Long> parameters) {
+        if (timeout == null) {
+            return solve(problemNumber, problem, parameters);
+        }
+
+        FutureTask<ProblemResult> task = new FutureTask<>(() -> solve(problemNumber, problem, parameters));
+        Thread thread = new Thread(task, "problem-" + problemNumber);
+        thread.setDaemon(true);
+        long startNanos = System.nanoTime();
+        thread.start();
+        try {
+            return task.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            long cpuNanos = getThreadCpuNanos(thread, startNanos);
+            task.cancel(true);
+            timedOutThreads.add(thread);
+            return ProblemResult.builder()
+                    .problemNumber(problemNumber)
+                    .parameters(parameters)
+                    .timedOut(true)
+                    .executionNanos(System.nanoTime() - startNanos)
+                    .cpuNanos(cpuNanos)
+                    .build();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running problem " + problemNumber, e);
+        } catch (ExecutionException e) {
+            // Rethrow as if the problem had been solved on this thread.
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException("Problem " + problemNumber + " failed.", e.getCause());
+        }
+    }
+
+    /**
+     * The number of threads that timed out but are still running, because their problems don't check for interrupts.
+     */
+    public int getRunawayThreadCount() {
+        timedOutThreads.removeIf(thread -> !thread.isAlive());
+        return timedOutThreads.size();
+    }
+
+    private ProblemResult solve(int problemNumber, Problem problem, Map<String, Long> parameters) {
+        MemoryProbe.Start memoryStart = (memoryProbe == null) ? null : memoryProbe.start();
+        long startCpuNanos = getCurrentThreadCpuNanos();
+        long startNanos = System.nanoTime();
+        ProblemSolution solution = parameters.isEmpty() ? problem.solve() : problem.solve(parameters);
+        long executionNanos = System.nanoTime() - startNanos;
+        long cpuNanos = getCurrentThreadCpuNanos() - startCpuNanos;
+
+        return ProblemResult.builder()
+                .problemNumber(problemNumber)
+                .parameters(parameters)
+                .solution(solution)
+                .executionNanos(executionNanos)
+                .cpuNanos(cpuNanos)
+                .memoryStats((memoryProbe == null) ? null : memoryProbe.stop(memoryStart))
+                .build();
+    }
+
+    /**
+     * CPU time of a thread started for a single problem, so all of it was spent on the problem. Falls back to
+     * wall-clock time since startNanos if the JVM can't measure it.
+     */
+    private long getThreadCpuNanos(Thread thread, long startNanos) {
+        long cpuNanos = threadMXBean.isThreadCpuTimeSupported() ? threadMXBean.getThreadCpuTime(thread.getId()) : -1;
+        return (cpuNanos < 0) ? System.nanoTime() - startNanos : cpuNanos;
+    }
+
+    /**
+     * Falls back to wall-clock time if the JVM can't measure thread CPU time.
+     */
+    private long getCurrentThreadCpuNanos() {
+        if (threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            return threadMXBean.getCurrentThreadCpuTime();
+        }
+        return System.nanoTime();
+    }
+}
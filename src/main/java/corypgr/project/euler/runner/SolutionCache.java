@@ -0,0 +1,190 @@
+package corypgr.project.euler.runner;
+
+import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemSolution;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Solutions from earlier runs, so problems whose code hasn't changed don't have to be solved again. Each solution is
+ * stored under its problem number and parameters, along with the SolverHasher hash of the solver it came from. A
+ * solution is only reused while that hash still matches, so changing a solver, or any util or prime class it uses,
+ * means it gets solved again.
+ *
+ * Saved as a tab separated line per solution. Solutions that can't be written back exactly, like unusual Number types
+ * or descriptions with tabs or line breaks, are never cached. Thread safe, and counts its hits and misses.
+ */
+public class SolutionCache {
+    public static final Path DEFAULT_PATH = Path.of(".solution_cache");
+    private static final String NO_PARAMETERS = "-";
+    private static final Map<String, Function<String, Number>> TYPE_TO_PARSER = Map.of(
+            Integer.class.getSimpleName(), Integer::valueOf,
+            Long.class.getSimpleName(), Long::valueOf,
+            BigInteger.class.getSimpleName(), BigInteger::new,
+            Double.class.getSimpleName(), Double::valueOf,
+            BigDecimal.class.getSimpleName(), BigDecimal::new);
+
+    @Value
+    static class Entry {
+        private final String solverHash;
+        private final ProblemSolution solution;
+    }
+
+    private final SolverHasher solverHasher;
+    private final Map<String, Entry> keyToEntry = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public SolutionCache(SolverHasher solverHasher) {
+        this.solverHasher = solverHasher;
+    }
+
+    /**
+     * Unlike PerformanceBaseline, a missing file is just an empty cache, as is any line that can't be parsed.
+     */
+    public static SolutionCache load(Path path, SolverHasher solverHasher) {
+        try {
+            return parse(Files.readAllLines(path), solverHasher);
+        } catch (NoSuchFileException e) {
+            return new SolutionCache(solverHasher);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read solution cache from " + path, e);
+        }
+    }
+
+    static SolutionCache parse(List<String> lines, SolverHasher solverHasher) {
+        SolutionCache cache = new SolutionCache(solverHasher);
+        for (String line : lines) {
+            String[] parts = line.split("\t", -1);
+            if (line.startsWith("#") || parts.length != 6 || !TYPE_TO_PARSER.containsKey(parts[3])) {
+                continue;
+            }
+
+            try {
+                ProblemSolution solution = ProblemSolution.builder()
+                        .solution(TYPE_TO_PARSER.get(parts[3]).apply(parts[4]))
+                        .descriptiveSolution(parts[5])
+                        .build();
+                cache.keyToEntry.put(parts[0] + "\t" + parts[1], new Entry(parts[2], solution));
+            } catch (NumberFormatException e) {
+                // Skip it. It will be solved and cached again.
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * The cached solution, if there is one from the solver's current code. Problems outside the problems package are
+     * never cached. See SolverHasher.canHash.
+     */
+    public Optional<ProblemSolution> get(int problemNumber, Problem problem, Map<String, Long> parameters) {
+        Entry entry = keyToEntry.get(getKey(problemNumber, problem, parameters));
+        if (entry != null && SolverHasher.canHash(problem.getClass())
+                && entry.getSolverHash().equals(solverHasher.hash(problem.getClass()))) {
+            hits.incrementAndGet();
+            return Optional.of(entry.getSolution());
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(int problemNumber, Problem problem, Map<String, Long> parameters, ProblemSolution solution) {
+        if (!SolverHasher.canHash(problem.getClass()) || !canWrite(solution)) {
+            return;
+        }
+        keyToEntry.put(getKey(problemNumber, problem, parameters),
+                new Entry(solverHasher.hash(problem.getClass()), solution));
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Writes to a temporary file first and then moves it into place, so an interrupted save can't corrupt the cache.
+     */
+    public void save(Path path) {
+        Path absolutePath = path.toAbsolutePath();
+        try {
+            Path tempPath =
+                    Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempPath)) {
+                write(writer);
+            }
+            Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write solution cache to " + path, e);
+        }
+    }
+
+    /**
+     * Writes the cache in problem number order, in the format parse reads.
+     */
+    void write(Writer writer) throws IOException {
+        String newLine = System.lineSeparator();
+        writer.write("# Cached solutions, reused while their solver's bytecode hash matches. Safe to delete."
+                + newLine);
+        writer.write("# Tab separated. Format: problemNumber parameters solverHash solutionType solution "
+                + "descriptiveSolution" + newLine);
+
+        List<String> keys = new ArrayList<>(keyToEntry.keySet());
+        keys.sort(Comparator.comparingInt((String key) -> Integer.parseInt(key.substring(0, key.indexOf('\t'))))
+                .thenComparing(Comparator.naturalOrder()));
+        for (String key : keys) {
+            writer.write(key + "\t" + toLine(keyToEntry.get(key)) + newLine);
+        }
+        writer.flush();
+    }
+
+    private static String toLine(Entry entry) {
+        Number solution = entry.getSolution().getSolution();
+        return entry.getSolverHash() + "\t" + solution.getClass().getSimpleName() + "\t" + solution + "\t"
+                + entry.getSolution().getDescriptiveSolution();
+    }
+
+    private static boolean canWrite(ProblemSolution solution) {
+        String description = solution.getDescriptiveSolution();
+        return solution.getSolution() != null
+                && TYPE_TO_PARSER.containsKey(solution.getSolution().getClass().getSimpleName())
+                && description != null
+                && !description.contains("\t") && !description.contains("\n") && !description.contains("\r");
+    }
+
+    /**
+     * The problem number and all of its parameters, defaults included, so overriding a parameter with its default
+     * value shares the default run's entry.
+     */
+    private static String getKey(int problemNumber, Problem problem, Map<String, Long> parameters) {
+        Map<String, Long> allParameters = new TreeMap<>(problem.getDefaultParameters());
+        allParameters.putAll(parameters);
+        String parametersString = allParameters.isEmpty()
+                ? NO_PARAMETERS
+                : allParameters.entrySet().stream()
+                        .map(entry -> entry.getKey() + "=" + entry.getValue())
+                        .collect(Collectors.joining(","));
+        return problemNumber + "\t" + parametersString;
+    }
+}
@@ -0,0 +1,215 @@
+package corypgr.project.euler.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hashes a solver's bytecode along with every class it depends on in the problems package, including the util and
+ * prime packages, nested classes, and lambdas' enclosing classes. Any change to the compiled code a solver can reach
+ * there changes its hash. Classes outside the package, like the JDK's, are assumed not to change between runs.
+ *
+ * Dependencies are found by reading the class file constant pool, where every referenced class shows up by name in a
+ * UTF-8 entry, either on its own or inside a field or method descriptor. String constants naming an existing file
+ * under the problems package, like a problem's input file, are hashed too, relative to the working directory just as
+ * the problems read them.
+ *
+ * Class and file bytes are read once per instance and reused, so one instance should be shared across a run. Thread
+ * safe.
+ */
+public class SolverHasher {
+    static final String PROBLEMS_PACKAGE = "corypgr/project/euler/problems/";
+    private static final Pattern CLASS_NAME_PATTERN =
+            Pattern.compile(Pattern.quote(PROBLEMS_PACKAGE) + "[A-Za-z0-9_/$]+");
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+    private static final String FILE_PREFIX = "file:";
+
+    private final ClassLoader classLoader;
+    private final Map<String, byte[]> dependencyToBytes = new HashMap<>();
+    private final Map<Class<?>, String> classToHash = new HashMap<>();
+
+    public SolverHasher() {
+        this(SolverHasher.class.getClassLoader());
+    }
+
+    public SolverHasher(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Whether hash can follow the class's dependencies, which it only can from inside the problems package.
+     */
+    public static boolean canHash(Class<?> solverClass) {
+        return solverClass.getName().replace('.', '/').startsWith(PROBLEMS_PACKAGE);
+    }
+
+    /**
+     * SHA-256 of the solver class and its dependencies, in hex. Throws IllegalArgumentException if the solver can't be
+     * hashed. See canHash.
+     */
+    public synchronized String hash(Class<?> solverClass) {
+        if (!canHash(solverClass)) {
+            throw new IllegalArgumentException(solverClass + " is not in the problems package.");
+        }
+        return classToHash.computeIfAbsent(solverClass, this::computeHash);
+    }
+
+    private String computeHash(Class<?> solverClass) {
+        String rootName = solverClass.getName().replace('.', '/');
+        MessageDigest digest = newDigest();
+        for (String dependency : findDependencies(rootName)) {
+            digest.update(dependency.getBytes(StandardCharsets.UTF_8));
+            digest.update(getBytes(dependency));
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The class and everything it transitively references in the problems package, in name order. Classes are
+     * internal names, with '/' separators, and files are their paths prefixed with FILE_PREFIX.
+     */
+    synchronized Set<String> findDependencies(String rootName) {
+        Set<String> found = new TreeSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        toVisit.add(rootName);
+        while (!toVisit.isEmpty()) {
+            String className = toVisit.poll();
+            if (!found.add(className)) {
+                continue;
+            }
+
+            for (String utf8 : readUtf8Constants(getBytes(className))) {
+                if (isFile(utf8)) {
+                    found.add(FILE_PREFIX + utf8);
+                    continue;
+                }
+
+                Matcher matcher = CLASS_NAME_PATTERN.matcher(utf8);
+                while (matcher.find()) {
+                    String name = matcher.group();
+                    if (!found.contains(name) && classLoader.getResource(name + ".class") != null) {
+                        toVisit.add(name);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static boolean isFile(String constant) {
+        if (!constant.contains(PROBLEMS_PACKAGE) || constant.startsWith(PROBLEMS_PACKAGE)) {
+            return false;
+        }
+        try {
+            return Files.isRegularFile(Path.of(constant));
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+
+    private byte[] getBytes(String dependency) {
+        return dependencyToBytes.computeIfAbsent(dependency, name -> {
+            if (name.startsWith(FILE_PREFIX)) {
+                Path path = Path.of(name.substring(FILE_PREFIX.length()));
+                try {
+                    return Files.readAllBytes(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Unable to read " + path, e);
+                }
+            }
+
+            try (InputStream in = classLoader.getResourceAsStream(name + ".class")) {
+                if (in == null) {
+                    throw new IllegalStateException("Unable to find the class file for " + name);
+                }
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read the class file for " + name, e);
+            }
+        });
+    }
+
+    /**
+     * The UTF-8 entries of a class file's constant pool. See the JVM spec, section 4.4. Other entries are skipped
+     * over by their fixed sizes.
+     */
+    static Set<String> readUtf8Constants(byte[] classBytes) {
+        Set<String> constants = new TreeSet<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(classBytes))) {
+            if (in.readInt() != CLASS_FILE_MAGIC) {
+                throw new IllegalArgumentException("Not a class file.");
+            }
+            in.readUnsignedShort(); // minor version
+            in.readUnsignedShort(); // major version
+
+            int constantPoolCount = in.readUnsignedShort();
+            for (int i = 1; i < constantPoolCount; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1: // Utf8, stored in the same modified UTF-8 that readUTF reads.
+                        constants.add(in.readUTF());
+                        break;
+                    case 7: // Class
+                    case 8: // String
+                    case 16: // MethodType
+                    case 19: // Module
+                    case 20: // Package
+                        in.skipBytes(2);
+                        break;
+                    case 15: // MethodHandle
+                        in.skipBytes(3);
+                        break;
+                    case 3: // Integer
+                    case 4: // Float
+                    case 9: // Fieldref
+                    case 10: // Methodref
+                    case 11: // InterfaceMethodref
+                    case 12: // NameAndType
+                    case 17: // Dynamic
+                    case 18: // InvokeDynamic
+                        in.skipBytes(4);
+                        break;
+                    case 5: // Long
+                    case 6: // Double
+                        in.skipBytes(8);
+                        i++; // Takes up 2 entries.
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated class file.", e);
+        }
+        return constants;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is always available.", e);
+        }
+    }
+}
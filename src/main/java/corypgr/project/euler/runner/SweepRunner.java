@@ -0,0 +1,84 @@
+package corypgr.project.euler.runner;
+
+import corypgr.project.euler.problems.util.Problem;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Benchmarks a problem at geometrically growing values of one of its parameters, then fits a GrowthCurve to the
+ * median times, to see how a solution scales and where it starts to grow faster than it should.
+ */
+public class SweepRunner {
+    private final BenchmarkRunner benchmarkRunner;
+
+    public SweepRunner(BenchmarkRunner benchmarkRunner) {
+        this.benchmarkRunner = benchmarkRunner;
+    }
+
+    @Value
+    public static class SweepPoint {
+        private final long size;
+        private final BenchmarkResult result;
+    }
+
+    @Value
+    public static class SweepResult {
+        private final String parameter;
+        private final List<SweepPoint> points;
+        private final GrowthCurve growthCurve;
+    }
+
+    /**
+     * Sizes from min up to max, each factor times the last, and always including max.
+     */
+    public static List<Long> getSizes(long min, long max, double factor) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Need 1 <= min <= max.");
+        }
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("factor must be greater than 1.");
+        }
+
+        List<Long> sizes = new ArrayList<>();
+        for (long size = min; size < max; size = Math.max(size + 1, Math.round(size * factor))) {
+            sizes.add(size);
+        }
+        sizes.add(max);
+        return sizes;
+    }
+
+    /**
+     * Benchmarks the problem at each of the sizes, in order, with any other parameters overridden as given. Each point
+     * is passed to pointConsumer as soon as it is measured. Throws IllegalArgumentException if the problem doesn't have
+     * the parameter.
+     */
+    public SweepResult run(int problemNumber, Problem problem, String parameter, List<Long> sizes,
+                           Map<String, Long> otherParameters, Consumer<SweepPoint> pointConsumer) {
+        if (!problem.getDefaultParameters().containsKey(parameter)) {
+            throw new IllegalArgumentException("Problem " + problemNumber + " has no parameter " + parameter
+                    + ". Its parameters are " + problem.getDefaultParameters().keySet() + ".");
+        }
+
+        List<SweepPoint> points = new ArrayList<>();
+        for (long size : sizes) {
+            Map<String, Long> parameters = new HashMap<>(otherParameters);
+            parameters.put(parameter, size);
+            SweepPoint point = new SweepPoint(size, benchmarkRunner.run(problemNumber, problem, parameters));
+            points.add(point);
+            pointConsumer.accept(point);
+        }
+
+        long[] pointSizes = points.stream()
+                .mapToLong(SweepPoint::getSize)
+                .toArray();
+        long[] medianNanos = points.stream()
+                .mapToLong(point -> Math.max(1, point.getResult().getMedianNanos()))
+                .toArray();
+        return new SweepResult(parameter, points, GrowthCurve.fit(pointSizes, medianNanos));
+    }
+}
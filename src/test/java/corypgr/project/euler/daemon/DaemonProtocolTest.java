@@ -0,0 +1,52 @@
+package corypgr.project.euler.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import corypgr.project.euler.problems.util.ProblemSolution;
+import corypgr.project.euler.runner.ProblemResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+
+class DaemonProtocolTest {
+
+    @Test
+    void parseSolveRequest_numberAndParams_parsed() {
+        SolveRequest request = DaemonProtocol.parseSolveRequest(" 10   maxPrime=1000 x=-5 ");
+
+        assertEquals(10, request.getProblemNumber());
+        assertEquals(Map.of("maxPrime", 1000L, "x", -5L), request.getParams());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"seven", "7 maxPrime", "7 =5", "7 maxPrime=1.5"})
+    void parseSolveRequest_invalidRequest_throws(String request) {
+        assertThrows(IllegalArgumentException.class, () -> DaemonProtocol.parseSolveRequest(request));
+    }
+
+    @Test
+    void toJson_problemResult_singleLineObject() {
+        ProblemResult result = ProblemResult.builder()
+                .problemNumber(7)
+                .solution(ProblemSolution.builder()
+                        .solution(104743)
+                        .descriptiveSolution("The \"10001st\" prime\nis 104743")
+                        .build())
+                .executionNanos(1500)
+                .cpuNanos(1200)
+                .build();
+
+        assertEquals("{\"problemNumber\": 7, \"solution\": 104743, "
+                + "\"descriptiveSolution\": \"The \\\"10001st\\\" prime\\nis 104743\", \"executionNanos\": 1500, "
+                + "\"cpuNanos\": 1200}", DaemonProtocol.toJson(result));
+    }
+
+    @Test
+    void errorJson_withAndWithoutProblemNumber() {
+        assertEquals("{\"problemNumber\": 3, \"error\": \"bad\"}", DaemonProtocol.errorJson(3, "bad"));
+        assertEquals("{\"error\": \"tab\\there\"}", DaemonProtocol.errorJson(null, "tab\there"));
+    }
+}
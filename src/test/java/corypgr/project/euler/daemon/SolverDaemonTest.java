@@ -0,0 +1,92 @@
+package corypgr.project.euler.daemon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import corypgr.project.euler.problems.ProblemRegistry;
+import corypgr.project.euler.runner.ProblemRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class SolverDaemonTest {
+    private SolverDaemon daemon;
+    private int port;
+
+    @BeforeEach
+    void setup() throws IOException {
+        daemon = new SolverDaemon(new ProblemRegistry(), 0, 2);
+        port = daemon.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        daemon.close();
+    }
+
+    @Test
+    void send_severalRequestsOnOneConnection_eachAnswered() throws IOException {
+        try (SolverClient client = new SolverClient(port)) {
+            assertEquals("{\"status\": \"ok\"}", client.send(DaemonProtocol.PING));
+            assertTrue(client.send("6").startsWith("{\"problemNumber\": 6, \"solution\": 25164150, "));
+            assertEquals("{\"problemNumber\": 0, \"error\": \"Problem 0 is not known or is not solved yet.\"}",
+                    client.send("0"));
+            assertEquals("{\"error\": \"Expected a problem number but found: six\"}", client.send("six"));
+            assertEquals("{\"problemNumber\": 6, \"error\": \"Unknown parameters [max]. Known parameters are [].\"}",
+                    client.send("6 max=10"));
+            assertTrue(client.send("10 maxPrime=10").startsWith("{\"problemNumber\": 10, \"solution\": 17, "));
+            assertEquals("{\"problemNumber\": 10, \"error\": \"maxPrime must be at least 2, but was 1.\"}",
+                    client.send("10 maxPrime=1"));
+        }
+    }
+
+    @Test
+    void send_concurrentClients_allAnswered() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                responses.add(clients.submit(() -> {
+                    try (SolverClient client = new SolverClient(port)) {
+                        return client.send("1");
+                    }
+                }));
+            }
+            for (Future<String> response : responses) {
+                assertTrue(response.get(30, TimeUnit.SECONDS).startsWith("{\"problemNumber\": 1, \"solution\": "));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void handleRequest_runawayThreadsFillPool_busy() {
+        ProblemRunner saturatedRunner = new ProblemRunner() {
+            @Override
+            public int getRunawayThreadCount() {
+                return 2;
+            }
+        };
+        try (SolverDaemon saturated = new SolverDaemon(new ProblemRegistry(), 0, 2, 1, saturatedRunner)) {
+            assertEquals("{\"problemNumber\": 6, \"error\": \"busy\"}", saturated.handleRequest("6"));
+            assertEquals("{\"status\": \"ok\"}", saturated.handleRequest(DaemonProtocol.PING));
+        }
+    }
+
+    @Test
+    void send_shutdown_daemonStops() throws Exception {
+        try (SolverClient client = new SolverClient(port)) {
+            assertEquals("{\"status\": \"shutting down\"}", client.send(DaemonProtocol.SHUTDOWN));
+        }
+        daemon.awaitShutdown();
+    }
+}
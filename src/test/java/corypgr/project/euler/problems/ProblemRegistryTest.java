@@ -0,0 +1,46 @@
+package corypgr.project.euler.problems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class ProblemRegistryTest {
+    private ProblemRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        registry = new ProblemRegistry();
+    }
+
+    @Test
+    void getProblem_everyProblemNumber_matchingClass() {
+        List<Integer> problemNumbers = registry.getProblemNumbers();
+        assertEquals(100, problemNumbers.size());
+        for (int problemNumber : problemNumbers) {
+            assertTrue(registry.hasProblem(problemNumber));
+            assertEquals(String.format("PE%04d", problemNumber),
+                    registry.getProblem(problemNumber).getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void getProblem_calledTwice_sameInstance() {
+        assertSame(registry.getProblem(7), registry.getProblem(7));
+        assertSame(registry.getProblem(7), registry.getAllProblems().get(7));
+    }
+
+    @Test
+    void getProblem_unknownProblem_throws() {
+        assertFalse(registry.hasProblem(0));
+        assertFalse(registry.hasProblem(101));
+        assertThrows(IllegalArgumentException.class, () -> registry.getProblem(0));
+        assertThrows(IllegalArgumentException.class, () -> registry.getProblem(101));
+    }
+}
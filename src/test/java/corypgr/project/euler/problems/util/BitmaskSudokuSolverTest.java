@@ -0,0 +1,190 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+class BitmaskSudokuSolverTest {
+    private static final String PE0096_PATH = "src/main/java/corypgr/project/euler/problems/resources/PE0096_sudoku";
+
+    private static final int[][] EASY_BOARD = {
+            {0, 0, 3, 0, 2, 0, 6, 0, 0},
+            {9, 0, 0, 3, 0, 5, 0, 0, 1},
+            {0, 0, 1, 8, 0, 6, 4, 0, 0},
+            {0, 0, 8, 1, 0, 2, 9, 0, 0},
+            {7, 0, 0, 0, 0, 0, 0, 0, 8},
+            {0, 0, 6, 7, 0, 8, 2, 0, 0},
+            {0, 0, 2, 6, 0, 9, 5, 0, 0},
+            {8, 0, 0, 2, 0, 3, 0, 0, 9},
+            {0, 0, 5, 0, 1, 0, 3, 0, 0}
+    };
+    private static final int[][] EASY_BOARD_SOLUTION = {
+            {4, 8, 3, 9, 2, 1, 6, 5, 7},
+            {9, 6, 7, 3, 4, 5, 8, 2, 1},
+            {2, 5, 1, 8, 7, 6, 4, 9, 3},
+            {5, 4, 8, 1, 3, 2, 9, 7, 6},
+            {7, 2, 9, 5, 6, 4, 1, 3, 8},
+            {1, 3, 6, 7, 9, 8, 2, 4, 5},
+            {3, 7, 2, 6, 8, 9, 5, 1, 4},
+            {8, 1, 4, 2, 5, 3, 7, 6, 9},
+            {6, 9, 5, 4, 1, 7, 3, 8, 2}
+    };
+
+    // Arto Inkala's "world's hardest Sudoku". Needs a lot of guessing.
+    private static final int[][] HARDEST_BOARD = {
+            {8, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 3, 6, 0, 0, 0, 0, 0},
+            {0, 7, 0, 0, 9, 0, 2, 0, 0},
+            {0, 5, 0, 0, 0, 7, 0, 0, 0},
+            {0, 0, 0, 0, 4, 5, 7, 0, 0},
+            {0, 0, 0, 1, 0, 0, 0, 3, 0},
+            {0, 0, 1, 0, 0, 0, 0, 6, 8},
+            {0, 0, 8, 5, 0, 0, 0, 1, 0},
+            {0, 9, 0, 0, 0, 0, 4, 0, 0}
+    };
+
+    private static final int[][] UNSOLVABLE_BOARD = {
+            {0, 0, 3, 0, 2, 0, 6, 0, 3}, // Added another 3 in the top row.
+            {9, 0, 0, 3, 0, 5, 0, 0, 1},
+            {0, 0, 1, 8, 0, 6, 4, 0, 0},
+            {0, 0, 8, 1, 0, 2, 9, 0, 0},
+            {7, 0, 0, 0, 0, 0, 0, 0, 8},
+            {0, 0, 6, 7, 0, 8, 2, 0, 0},
+            {0, 0, 2, 6, 0, 9, 5, 0, 0},
+            {8, 0, 0, 2, 0, 3, 0, 0, 9},
+            {0, 0, 5, 0, 1, 0, 3, 0, 0}
+    };
+
+    private BitmaskSudokuSolver solver;
+
+    @BeforeEach
+    void setup() {
+        solver = new BitmaskSudokuSolver();
+    }
+
+    @Test
+    void solve_easyGrid_expectedResultWithoutGuesses() {
+        assertArrayEquals(EASY_BOARD_SOLUTION, solver.solve(EASY_BOARD));
+        assertEquals(0, solver.getGuessCount());
+        assertEquals(0, solver.getBacktrackCount());
+    }
+
+    @Test
+    void solve_hardestGrid_validSolution() {
+        int[][] solution = solver.solve(HARDEST_BOARD);
+        assertValidSolution(HARDEST_BOARD, solution);
+        assertTrue(solver.getGuessCount() > 0);
+        assertTrue(solver.getBacktrackCount() > 0);
+    }
+
+    @Test
+    void solve_sameArrayForResult_solvesInPlace() {
+        int[] board = toBoard(EASY_BOARD);
+        solver.solve(board, board);
+        assertArrayEquals(toBoard(EASY_BOARD_SOLUTION), board);
+    }
+
+    @Test
+    void solve_unsolvableBoard_throws() {
+        assertThrows(IllegalStateException.class, () -> solver.solve(UNSOLVABLE_BOARD));
+    }
+
+    /**
+     * Givens that don't conflict directly, but leave the top left cell without any candidates.
+     */
+    @Test
+    void solve_noCandidatesLeft_throws() {
+        int[] board = new int[BitmaskSudokuSolver.NUM_CELLS];
+        board[1] = 1;
+        board[2] = 2;
+        board[9] = 3;
+        board[18] = 4;
+        board[10] = 5;
+        board[3] = 6;
+        board[4] = 7;
+        board[27] = 8;
+        board[36] = 9;
+        assertThrows(IllegalStateException.class, () -> solver.solve(board));
+    }
+
+    @Test
+    void solve_invalidInput_throws() {
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(new int[80]));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(new int[8][9]));
+
+        int[] board = new int[BitmaskSudokuSolver.NUM_CELLS];
+        board[5] = 10;
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(board));
+    }
+
+    /**
+     * Every PE0096 board has a single solution, so both solvers have to agree.
+     */
+    @ParameterizedTest
+    @MethodSource("pe0096Boards")
+    void solve_pe0096Boards_matchesSudokuSolver(int[][] grid) {
+        SudokuSolver.Board board = new SudokuSolver().solveBoard(new SudokuSolver.Board(grid));
+        int[][] expected = new int[9][9];
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                expected[row][col] = board.getGrid()[row][col].getSolution();
+            }
+        }
+
+        assertArrayEquals(expected, solver.solve(grid));
+    }
+
+    static Stream<int[][]> pe0096Boards() throws IOException {
+        List<int[][]> boards = new ArrayList<>();
+        List<String> lines = Files.readAllLines(Paths.get(PE0096_PATH));
+        for (int start = 0; start + 9 < lines.size(); start += 10) {
+            int[][] grid = new int[9][];
+            for (int row = 0; row < 9; row++) {
+                grid[row] = lines.get(start + 1 + row).chars()
+                        .map(Character::getNumericValue)
+                        .toArray();
+            }
+            boards.add(grid);
+        }
+        return boards.stream();
+    }
+
+    private static int[] toBoard(int[][] grid) {
+        return Stream.of(grid)
+                .flatMapToInt(Arrays::stream)
+                .toArray();
+    }
+
+    private static void assertValidSolution(int[][] puzzle, int[][] solution) {
+        for (int i = 0; i < 9; i++) {
+            int rowMask = 0;
+            int colMask = 0;
+            int boxMask = 0;
+            for (int j = 0; j < 9; j++) {
+                if (puzzle[i][j] != 0) {
+                    assertEquals(puzzle[i][j], solution[i][j]);
+                }
+                rowMask |= 1 << solution[i][j];
+                colMask |= 1 << solution[j][i];
+                boxMask |= 1 << solution[(i / 3) * 3 + j / 3][(i % 3) * 3 + j % 3];
+            }
+            assertEquals(0x3FE, rowMask);
+            assertEquals(0x3FE, colMask);
+            assertEquals(0x3FE, boxMask);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import corypgr.project.euler.problems.util.CompressedShortestPathSolver.SearchStrategy;
+import corypgr.project.euler.problems.util.CompressedShortestPathSolver.ShortestPaths;
+import corypgr.project.euler.problems.util.ShortestPathSolver.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class CompressedShortestPathSolverTest {
+    private CompressedShortestPathSolver solver;
+
+    @BeforeEach
+    void setup() {
+        solver = new CompressedShortestPathSolver();
+    }
+
+    @Test
+    void builder_negativeWeight_throws() {
+        CompressedGraph.Builder builder = new CompressedGraph.Builder(2);
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(0, 1, -1));
+    }
+
+    @Test
+    void builder_nodeOutOfRange_throws() {
+        CompressedGraph.Builder builder = new CompressedGraph.Builder(2);
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge(0, 2, 1));
+    }
+
+    @Test
+    void builder_edgesGroupedBySource() {
+        CompressedGraph graph = new CompressedGraph.Builder(3)
+                .addEdge(2, 0, 7)
+                .addEdge(0, 1, 3)
+                .addEdge(2, 1, 8)
+                .addEdge(0, 2, 4)
+                .build();
+
+        assertEquals(3, graph.getNumNodes());
+        assertEquals(4, graph.getNumEdges());
+        assertEquals(0, graph.getEdgesStart(0));
+        assertEquals(2, graph.getEdgesEnd(0));
+        assertEquals(2, graph.getEdgesStart(1));
+        assertEquals(2, graph.getEdgesEnd(1));
+        assertEquals(List.of(0, 1), List.of(graph.getTarget(2), graph.getTarget(3)));
+        assertEquals(List.of(7, 8), List.of(graph.getWeight(2), graph.getWeight(3)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("connectedCases")
+    void findShortestPathDistance_connectedGraph_expectedResult(SearchStrategy strategy, CompressedGraph graph, int end,
+                                                                int distance, List<Integer> path) {
+        CompressedShortestPathSolver strategySolver = new CompressedShortestPathSolver(strategy);
+        assertEquals(distance, strategySolver.findShortestPathDistance(graph, 0, end));
+    }
+
+    @ParameterizedTest
+    @MethodSource("connectedCases")
+    void findShortestPath_connectedGraph_expectedResult(SearchStrategy strategy, CompressedGraph graph, int end,
+                                                        int distance, List<Integer> path) {
+        CompressedShortestPathSolver strategySolver = new CompressedShortestPathSolver(strategy);
+        assertEquals(path, strategySolver.findShortestPath(graph, 0, end));
+    }
+
+    static Stream<Arguments> connectedCases() {
+        return Stream.of(SearchStrategy.values())
+                .flatMap(strategy -> graphCases().map(args -> prepend(strategy, args)));
+    }
+
+    private static Arguments prepend(SearchStrategy strategy, Arguments args) {
+        Object[] original = args.get();
+        Object[] result = new Object[original.length + 1];
+        result[0] = strategy;
+        System.arraycopy(original, 0, result, 1, original.length);
+        return arguments(result);
+    }
+
+    private static Stream<Arguments> graphCases() {
+        CompressedGraph complex = new CompressedGraph.Builder(6)
+                .addEdge(0, 1, 7)
+                .addEdge(0, 2, 9)
+                .addEdge(0, 5, 14)
+                .addEdge(1, 2, 10)
+                .addEdge(1, 3, 15)
+                .addEdge(2, 3, 11)
+                .addEdge(2, 5, 2)
+                .addEdge(3, 4, 6)
+                .addEdge(5, 4, 9)
+                .build();
+        return Stream.of(
+                arguments(new CompressedGraph.Builder(1).build(), 0, 0, List.of(0)),
+                arguments(complex, 4, 20, List.of(0, 2, 5, 4)),
+                arguments(complex, 3, 20, List.of(0, 2, 3)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void findShortestPathDistance_disconnectedGraph_throws(SearchStrategy strategy) {
+        CompressedGraph graph = new CompressedGraph.Builder(3)
+                .addEdge(0, 1, 1)
+                .addEdge(2, 0, 1)
+                .build();
+
+        CompressedShortestPathSolver strategySolver = new CompressedShortestPathSolver(strategy);
+        assertThrows(IllegalStateException.class, () -> strategySolver.findShortestPathDistance(graph, 0, 2));
+        assertThrows(IllegalStateException.class, () -> strategySolver.findShortestPath(graph, 0, 2));
+    }
+
+    /**
+     * Random directed graphs with lots of zero weight edges, which is where the bidirectional search has to be careful
+     * about joining its two halves.
+     */
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void findShortestPath_randomGraphs_matchesDijkstra(SearchStrategy strategy) {
+        Random random = new Random(34);
+        CompressedShortestPathSolver strategySolver = new CompressedShortestPathSolver(strategy);
+        for (int i = 0; i < 200; i++) {
+            int numNodes = random.nextInt(30) + 1;
+            CompressedGraph.Builder builder = new CompressedGraph.Builder(numNodes);
+            for (int edge = random.nextInt(numNodes * 3); edge > 0; edge--) {
+                builder.addEdge(random.nextInt(numNodes), random.nextInt(numNodes), random.nextInt(3));
+            }
+            CompressedGraph graph = builder.build();
+            int start = random.nextInt(numNodes);
+            int end = random.nextInt(numNodes);
+
+            ShortestPaths expected = solver.findShortestPaths(graph, start);
+            ShortestPaths actual = strategySolver.findShortestPaths(graph, start, end);
+            assertEquals(expected.isReachable(end), actual.isReachable(end));
+            if (expected.isReachable(end)) {
+                assertEquals(expected.getDistance(end), actual.getDistance(end));
+                assertPathMatchesDistance(graph, start, actual.getPath(end), actual.getDistance(end));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void findShortestPaths_grid_expandsNoMoreThanDijkstra(SearchStrategy strategy) {
+        int size = 60;
+        Random random = new Random(34);
+        int[][] grid = new int[size][size];
+        for (int[] row : grid) {
+            for (int col = 0; col < size; col++) {
+                row[col] = random.nextInt(9) + 1;
+            }
+        }
+        CompressedGraph graph = buildGrid(grid);
+        int end = size * size - 1;
+
+        CompressedShortestPathSolver strategySolver =
+                new CompressedShortestPathSolver(strategy, CompressedShortestPathSolver.getManhattanHeuristic(size, 1));
+        ShortestPaths dijkstra = solver.findShortestPaths(graph, 0, end);
+        ShortestPaths actual = strategySolver.findShortestPaths(graph, 0, end);
+
+        assertEquals(dijkstra.getDistance(end), actual.getDistance(end));
+        assertPathMatchesDistance(graph, 0, actual.getPath(end), actual.getDistance(end));
+        assertTrue(actual.getExpandedNodeCount() <= dijkstra.getExpandedNodeCount());
+    }
+
+    @Test
+    void getReversed_flipsEveryEdge() {
+        CompressedGraph graph = new CompressedGraph.Builder(3)
+                .addEdge(0, 1, 3)
+                .addEdge(0, 2, 4)
+                .addEdge(2, 1, 5)
+                .build();
+
+        CompressedGraph reversed = graph.getReversed();
+        assertEquals(0, reversed.getEdgesEnd(0) - reversed.getEdgesStart(0));
+        assertEquals(List.of(0, 2), List.of(reversed.getTarget(0), reversed.getTarget(1)));
+        assertEquals(List.of(3, 5), List.of(reversed.getWeight(0), reversed.getWeight(1)));
+        assertEquals(0, reversed.getTarget(2));
+        assertEquals(4, reversed.getWeight(2));
+        assertTrue(reversed.getReversed() == graph);
+    }
+
+    private static void assertPathMatchesDistance(CompressedGraph graph, int start, List<Integer> path, int distance) {
+        assertEquals(start, path.get(0));
+        assertEquals(path.size(), new HashSet<>(path).size(), "Path visits a node more than once.");
+        int total = 0;
+        Iterator<Integer> nodes = path.iterator();
+        int previous = nodes.next();
+        while (nodes.hasNext()) {
+            int next = nodes.next();
+            int cheapestEdge = Integer.MAX_VALUE;
+            for (int edge = graph.getEdgesStart(previous); edge < graph.getEdgesEnd(previous); edge++) {
+                if (graph.getTarget(edge) == next) {
+                    cheapestEdge = Math.min(cheapestEdge, graph.getWeight(edge));
+                }
+            }
+            assertTrue(cheapestEdge != Integer.MAX_VALUE, "Path uses a missing edge.");
+            total += cheapestEdge;
+            previous = next;
+        }
+        assertEquals(distance, total);
+    }
+
+    @Test
+    void findShortestPaths_reportsEveryNode() {
+        CompressedGraph graph = new CompressedGraph.Builder(4)
+                .addEdge(0, 1, 5)
+                .addEdge(0, 2, 1)
+                .addEdge(2, 1, 1)
+                .build();
+
+        ShortestPaths paths = solver.findShortestPaths(graph, 0);
+        assertEquals(2, paths.getDistance(1));
+        assertEquals(List.of(0, 2, 1), paths.getPath(1));
+        assertTrue(paths.isReachable(2));
+        assertFalse(paths.isReachable(3));
+        assertThrows(IllegalStateException.class, () -> paths.getDistance(3));
+    }
+
+    /**
+     * Runs many searches against one shared graph at once, comparing each against ShortestPathSolver on a grid built the
+     * same way as Problem 83.
+     */
+    @Test
+    void findShortestPathDistance_concurrentQueries_matchNodeSolver() {
+        int size = 30;
+        Random random = new Random(83);
+        int[][] grid = new int[size][size];
+        for (int[] row : grid) {
+            for (int col = 0; col < size; col++) {
+                row[col] = random.nextInt(9999) + 1;
+            }
+        }
+
+        CompressedGraph graph = buildGrid(grid);
+
+        IntStream.range(0, size * size).parallel().forEach(end -> {
+            int expected = solveNodeGrid(grid, end / size, end % size);
+            assertEquals(expected, grid[0][0] + solver.findShortestPathDistance(graph, 0, end));
+        });
+    }
+
+    private static CompressedGraph buildGrid(int[][] grid) {
+        int size = grid.length;
+        CompressedGraph.Builder builder = new CompressedGraph.Builder(size * size);
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int node = row * size + col;
+                if (row > 0) {
+                    builder.addEdge(node, node - size, grid[row - 1][col]);
+                }
+                if (row < size - 1) {
+                    builder.addEdge(node, node + size, grid[row + 1][col]);
+                }
+                if (col > 0) {
+                    builder.addEdge(node, node - 1, grid[row][col - 1]);
+                }
+                if (col < size - 1) {
+                    builder.addEdge(node, node + 1, grid[row][col + 1]);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static int solveNodeGrid(int[][] grid, int endRow, int endCol) {
+        int size = grid.length;
+        Node[][] nodes = new Node[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                nodes[row][col] = new Node(grid[row][col]);
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (row > 0) {
+                    nodes[row][col].addChild(nodes[row - 1][col]);
+                }
+                if (row < size - 1) {
+                    nodes[row][col].addChild(nodes[row + 1][col]);
+                }
+                if (col > 0) {
+                    nodes[row][col].addChild(nodes[row][col - 1]);
+                }
+                if (col < size - 1) {
+                    nodes[row][col].addChild(nodes[row][col + 1]);
+                }
+            }
+        }
+        return new ShortestPathSolver().findShortestPathDistance(nodes[0][0], nodes[endRow][endCol]);
+    }
+}
@@ -1,12 +1,16 @@
 package corypgr.project.euler.problems.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import corypgr.project.euler.problems.util.ContinuedFractionUtil.ContinuedFraction;
+import corypgr.project.euler.problems.util.ContinuedFractionUtil.ConvergentSequence;
 import corypgr.project.euler.problems.util.ContinuedFractionUtil.RationalFraction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -137,4 +141,127 @@ class ContinuedFractionUtilTest {
         // our iterator should stop here.
         assertFalse(eConvergentIterator.hasNext());
     }
+
+    @Test
+    void getConvergentSequenceOfSquareRoot_squareInput_doesNotAdvance() {
+        ConvergentSequence sequence = util.getConvergentSequenceOfSquareRoot(9);
+
+        assertEquals(new RationalFraction(BigInteger.valueOf(3), BigInteger.ONE), sequence.toRationalFraction());
+        assertFalse(sequence.advance());
+        assertEquals(new RationalFraction(BigInteger.valueOf(3), BigInteger.ONE), sequence.toRationalFraction());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 2, 3, 7, 61, 991 })
+    void getConvergentSequenceOfSquareRoot_pastLongOverflow_matchesBigIntegerRecurrence(int n) {
+        ContinuedFraction continuedFraction = util.getContinuedFractionOfSquareRoot(n);
+        ConvergentSequence sequence = util.getConvergentSequenceOfSquareRoot(n);
+
+        BigInteger prevNumerator = BigInteger.ONE;
+        BigInteger prevDenominator = BigInteger.ZERO;
+        BigInteger numerator = BigInteger.valueOf(continuedFraction.getWholePart());
+        BigInteger denominator = BigInteger.ONE;
+        List<Integer> repeatedPart = continuedFraction.getRepeatedContinuedPart();
+        for (int i = 0; i < 200; i++) {
+            assertEquals(new RationalFraction(numerator, denominator), sequence.toRationalFraction());
+            assertEquals(numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE,
+                    sequence.fitsInLong());
+
+            BigInteger continuedFractionVal = BigInteger.valueOf(repeatedPart.get(i % repeatedPart.size()));
+            BigInteger newNumerator = continuedFractionVal.multiply(numerator).add(prevNumerator);
+            BigInteger newDenominator = continuedFractionVal.multiply(denominator).add(prevDenominator);
+            prevNumerator = numerator;
+            prevDenominator = denominator;
+            numerator = newNumerator;
+            denominator = newDenominator;
+
+            assertTrue(sequence.advance());
+        }
+
+        // 200 convergents is well past the long range for all of these.
+        assertFalse(sequence.fitsInLong());
+    }
+
+    @Test
+    void convergentSequence_longAccessors_expectedResult() {
+        ConvergentSequence sequence = new ConvergentSequence(1, Stream.of(2, 2, 2).iterator());
+        assertTrue(sequence.advance());
+        assertTrue(sequence.advance());
+
+        assertTrue(sequence.fitsInLong());
+        assertEquals(7L, sequence.getNumeratorAsLong());
+        assertEquals(5L, sequence.getDenominatorAsLong());
+    }
+
+    @Test
+    void convergentSequence_longAccessorsAfterOverflow_throws() {
+        ConvergentSequence sequence = util.getConvergentSequenceOfSquareRoot(2);
+        while (sequence.fitsInLong()) {
+            sequence.advance();
+        }
+
+        assertThrows(ArithmeticException.class, sequence::getNumeratorAsLong);
+        assertThrows(ArithmeticException.class, sequence::getDenominatorAsLong);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -10, -4, -1})
+    void getPeriodOfSquareRoot_negativeNumbers_throws(int n) {
+        assertThrows(IllegalArgumentException.class, () -> util.getPeriodOfSquareRoot(n));
+    }
+
+    @ParameterizedTest
+    @MethodSource("continuedFractionInputAndExpectedOutput")
+    void getPeriodOfSquareRoot_returnsExpected(int n, ContinuedFraction expectedOutput) {
+        assertEquals(expectedOutput.getRepeatedContinuedPart().size(), util.getPeriodOfSquareRoot(n));
+    }
+
+    @ParameterizedTest
+    @MethodSource("continuedFractionInputAndExpectedOutput")
+    void getRepeatedContinuedPartOfSquareRoot_returnsExpected(int n, ContinuedFraction expectedOutput) {
+        int[] expected = expectedOutput.getRepeatedContinuedPart().stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        assertArrayEquals(expected, util.getRepeatedContinuedPartOfSquareRoot(n));
+    }
+
+    @Test
+    void getPeriodsOfSquareRoots_matchesSingleCalculations() {
+        int[] periods = util.getPeriodsOfSquareRoots(2000);
+
+        assertEquals(2001, periods.length);
+        for (int n = 0; n <= 2000; n++) {
+            assertEquals(util.getContinuedFractionOfSquareRoot(n).getRepeatedContinuedPart().size(), periods[n]);
+        }
+    }
+
+    @Test
+    void getRepeatedContinuedPartsOfSquareRoots_matchesSingleCalculations() {
+        int[][] repeatedParts = util.getRepeatedContinuedPartsOfSquareRoots(2000);
+
+        assertEquals(2001, repeatedParts.length);
+        for (int n = 0; n <= 2000; n++) {
+            int[] expected = util.getContinuedFractionOfSquareRoot(n).getRepeatedContinuedPart().stream()
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertArrayEquals(expected, repeatedParts[n]);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -10, -4, -1})
+    void getPeriodsOfSquareRoots_negativeMax_throws(int maxN) {
+        assertThrows(IllegalArgumentException.class, () -> util.getPeriodsOfSquareRoots(maxN));
+        assertThrows(IllegalArgumentException.class, () -> util.getRepeatedContinuedPartsOfSquareRoots(maxN));
+    }
+
+    @Test
+    void getRepeatedContinuedPartOfSquareRoot_cachingUtil_reusesExpansion() {
+        ContinuedFractionUtil cachingUtil = new ContinuedFractionUtil(true);
+        int[] first = cachingUtil.getRepeatedContinuedPartOfSquareRoot(23);
+
+        assertSame(first, cachingUtil.getRepeatedContinuedPartOfSquareRoot(23));
+        assertSame(first, cachingUtil.getRepeatedContinuedPartsOfSquareRoots(30)[23]);
+        assertNotSame(util.getRepeatedContinuedPartOfSquareRoot(23), util.getRepeatedContinuedPartOfSquareRoot(23));
+    }
 }
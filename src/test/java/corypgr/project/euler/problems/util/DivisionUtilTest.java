@@ -47,4 +47,70 @@ class DivisionUtilTest {
     void zeroDenominatorThrows() {
         assertThrows(IllegalArgumentException.class, () -> util.divideWithRepeatingDecimalRepresentation(10, 0));
     }
+
+    @ParameterizedTest
+    @MethodSource("inputAndResults")
+    void getNonRepeatingDecimalLength_expectedResults(int numerator, int denominator, String expectedResult) {
+        String decimalPart = expectedResult.contains(".") ? expectedResult.split("\\.")[1] : "";
+        int expectedLength = decimalPart.contains("(") ? decimalPart.indexOf('(') : decimalPart.length();
+
+        assertEquals(expectedLength, util.getNonRepeatingDecimalLength(numerator, denominator));
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputAndResults")
+    void getRepeatingDecimalLength_expectedResults(int numerator, int denominator, String expectedResult) {
+        assertEquals(getRepeatingLength(expectedResult), util.getRepeatingDecimalLength(numerator, denominator));
+    }
+
+    @Test
+    void getDecimalLengths_matchStringRepresentation() {
+        for (int denominator = 1; denominator <= 300; denominator++) {
+            for (int numerator = 0; numerator <= 2 * denominator; numerator += 7) {
+                String representation = util.divideWithRepeatingDecimalRepresentation(numerator, denominator);
+                String decimalPart = representation.contains(".") ? representation.split("\\.")[1] : "";
+                int expectedNonRepeating = decimalPart.contains("(") ? decimalPart.indexOf('(') : decimalPart.length();
+
+                assertEquals(expectedNonRepeating, util.getNonRepeatingDecimalLength(numerator, denominator));
+                assertEquals(getRepeatingLength(representation),
+                        util.getRepeatingDecimalLength(numerator, denominator));
+            }
+        }
+    }
+
+    @Test
+    void getRepeatingDecimalLengths_matchesSingleCalculations() {
+        int[] lengths = util.getRepeatingDecimalLengths(20_000);
+
+        assertEquals(20_001, lengths.length);
+        for (int denominator = 1; denominator <= 20_000; denominator++) {
+            assertEquals(util.getRepeatingDecimalLength(1, denominator), lengths[denominator]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidLengthInputs")
+    void getDecimalLengths_invalidInput_throws(int numerator, int denominator) {
+        assertThrows(IllegalArgumentException.class, () -> util.getNonRepeatingDecimalLength(numerator, denominator));
+        assertThrows(IllegalArgumentException.class, () -> util.getRepeatingDecimalLength(numerator, denominator));
+    }
+
+    static Stream<Arguments> invalidLengthInputs() {
+        return Stream.of(
+                arguments(1, 0),
+                arguments(1, -3),
+                arguments(-1, 3));
+    }
+
+    @Test
+    void getRepeatingDecimalLengths_invalidMax_throws() {
+        assertThrows(IllegalArgumentException.class, () -> util.getRepeatingDecimalLengths(0));
+    }
+
+    private static int getRepeatingLength(String representation) {
+        if (!representation.contains("(")) {
+            return 0;
+        }
+        return representation.indexOf(')') - representation.indexOf('(') - 1;
+    }
 }
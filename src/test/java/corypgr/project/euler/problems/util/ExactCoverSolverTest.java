@@ -0,0 +1,162 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+class ExactCoverSolverTest {
+    private ExactCoverSolver solver;
+
+    /**
+     * Knuth's example from the Dancing Links paper, with columns A through G as 0 through 6. The only solution is rows
+     * 0, 3, and 4.
+     */
+    @BeforeEach
+    void setup() {
+        solver = new ExactCoverSolver(7);
+        solver.addRow(2, 4, 5);
+        solver.addRow(0, 3, 6);
+        solver.addRow(1, 2, 5);
+        solver.addRow(0, 3);
+        solver.addRow(1, 6);
+        solver.addRow(3, 4, 6);
+    }
+
+    @Test
+    void findFirstSolution_knuthExample_expectedRows() {
+        int[] rows = solver.findFirstSolution().get();
+        Arrays.sort(rows);
+        assertArrayEquals(new int[] {0, 3, 4}, rows);
+    }
+
+    @Test
+    void countSolutions_knuthExample_single() {
+        assertEquals(1, solver.countSolutions());
+    }
+
+    /**
+     * Searches have to leave the matrix as they found it, so repeated searches get the same answers.
+     */
+    @Test
+    void countSolutions_searchedTwiceWithRowsAddedBetween_matrixRestored() {
+        assertEquals(1, solver.countSolutions());
+        assertEquals(1, solver.countSolutions());
+
+        // A copy of row 1, and a row for just E. Rows 1 and 2 now combine with row 7, as does the copy.
+        solver.addRow(0, 3, 6);
+        solver.addRow(4);
+        assertEquals(8, solver.getNumRows());
+        assertEquals(3, solver.countSolutions());
+    }
+
+    @Test
+    void findFirstSolution_noSolution_empty() {
+        ExactCoverSolver noSolution = new ExactCoverSolver(3);
+        noSolution.addRow(0, 1);
+        noSolution.addRow(1, 2);
+        assertFalse(noSolution.findFirstSolution().isPresent());
+        assertEquals(0, noSolution.countSolutions());
+    }
+
+    @Test
+    void countSolutions_noColumns_emptySolution() {
+        ExactCoverSolver empty = new ExactCoverSolver(0);
+        assertEquals(1, empty.countSolutions());
+        assertArrayEquals(new int[0], empty.findFirstSolution().get());
+    }
+
+    /**
+     * Every subset of columns can be covered with single column rows in exactly one way, and with all pairs of columns
+     * the counts are the telephone numbers.
+     */
+    @Test
+    void countSolutions_allSinglesAndPairs_telephoneNumber() {
+        int numColumns = 8;
+        ExactCoverSolver pairs = new ExactCoverSolver(numColumns);
+        for (int i = 0; i < numColumns; i++) {
+            pairs.addRow(i);
+            for (int j = i + 1; j < numColumns; j++) {
+                pairs.addRow(i, j);
+            }
+        }
+        assertEquals(764, pairs.countSolutions());
+        assertEquals(10, pairs.countSolutions(10));
+    }
+
+    @ParameterizedTest
+    @MethodSource("queensCounts")
+    void countSolutions_nQueens_expectedCount(int n, long expectedCount) {
+        assertEquals(expectedCount, createQueensSolver(n).countSolutions());
+    }
+
+    static Stream<Arguments> queensCounts() {
+        return Stream.of(
+                arguments(1, 1),
+                arguments(2, 0),
+                arguments(3, 0),
+                arguments(4, 2),
+                arguments(6, 4),
+                arguments(8, 92));
+    }
+
+    /**
+     * Diagonals are secondary columns. A solution doesn't have to use every diagonal, but can't use one twice.
+     */
+    @Test
+    void findFirstSolution_eightQueens_validPlacement() {
+        int n = 8;
+        int[] rows = createQueensSolver(n).findFirstSolution().get();
+        assertEquals(n, rows.length);
+
+        boolean[] usedRows = new boolean[n];
+        boolean[] usedCols = new boolean[n];
+        boolean[] usedDiagonals = new boolean[2 * n - 1];
+        boolean[] usedAntiDiagonals = new boolean[2 * n - 1];
+        for (int square : rows) {
+            int row = square / n;
+            int col = square % n;
+            assertFalse(usedRows[row] || usedCols[col] || usedDiagonals[row + col]
+                    || usedAntiDiagonals[row - col + n - 1]);
+            usedRows[row] = true;
+            usedCols[col] = true;
+            usedDiagonals[row + col] = true;
+            usedAntiDiagonals[row - col + n - 1] = true;
+        }
+    }
+
+    @Test
+    void addRow_invalidColumns_throws() {
+        assertThrows(IllegalArgumentException.class, () -> solver.addRow());
+        assertThrows(IllegalArgumentException.class, () -> solver.addRow(-1));
+        assertThrows(IllegalArgumentException.class, () -> solver.addRow(7));
+        assertThrows(IllegalArgumentException.class, () -> solver.addRow(1, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ExactCoverSolver(-1));
+        assertThrows(IllegalArgumentException.class, () -> solver.countSolutions(0));
+    }
+
+    /**
+     * Rows are squares in row-major order, covering the square's row and column (primary), and its two diagonals
+     * (secondary).
+     */
+    private static ExactCoverSolver createQueensSolver(int n) {
+        int numDiagonals = 2 * n - 1;
+        ExactCoverSolver queens = new ExactCoverSolver(2 * n, 2 * numDiagonals);
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                queens.addRow(row, n + col, 2 * n + row + col, 2 * n + numDiagonals + row - col + n - 1);
+            }
+        }
+        return queens;
+    }
+}
@@ -0,0 +1,132 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import corypgr.project.euler.problems.util.GridPathSolver.MoveSet;
+import corypgr.project.euler.problems.util.GridPathSolver.QueueType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+class GridPathSolverTest {
+    // The example matrix from Problems 81, 82, and 83.
+    private static final int[] EXAMPLE_GRID = {
+            131, 673, 234, 103, 18,
+            201, 96, 342, 965, 150,
+            630, 803, 746, 422, 111,
+            537, 699, 497, 121, 956,
+            805, 732, 524, 37, 331
+    };
+    private static final int EXAMPLE_COLS = 5;
+
+    @ParameterizedTest
+    @MethodSource("exampleCases")
+    void findMinimalPathSum_exampleGrid_expectedResult(MoveSet moveSet, QueueType queueType, int[] sources,
+                                                       int[] targets, int expected) {
+        GridPathSolver solver = new GridPathSolver(moveSet, queueType);
+        assertEquals(expected, solver.findMinimalPathSum(EXAMPLE_GRID, EXAMPLE_COLS, sources, targets));
+    }
+
+    static Stream<Arguments> exampleCases() {
+        int[] firstColumn = GridPathSolver.getColumnCells(5, EXAMPLE_COLS, 0);
+        int[] lastColumn = GridPathSolver.getColumnCells(5, EXAMPLE_COLS, EXAMPLE_COLS - 1);
+        return Stream.of(QueueType.values())
+                .flatMap(queueType -> Stream.of(
+                        arguments(MoveSet.RIGHT_DOWN, queueType, new int[] {0}, new int[] {24}, 2427),
+                        arguments(MoveSet.UP_DOWN_RIGHT, queueType, firstColumn, lastColumn, 994),
+                        arguments(MoveSet.ALL_NEIGHBOURS, queueType, new int[] {0}, new int[] {24}, 2297)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(QueueType.class)
+    void findMinimalPath_exampleGrid_expectedResult(QueueType queueType) {
+        GridPathSolver solver = new GridPathSolver(MoveSet.ALL_NEIGHBOURS, queueType);
+        List<Integer> expected = List.of(0, 5, 6, 7, 2, 3, 4, 9, 14, 13, 18, 23, 24);
+        assertEquals(expected, solver.findMinimalPath(EXAMPLE_GRID, EXAMPLE_COLS, new int[] {0}, new int[] {24}));
+    }
+
+    @ParameterizedTest
+    @EnumSource(QueueType.class)
+    void findMinimalPathSum_unreachableTarget_throws(QueueType queueType) {
+        GridPathSolver solver = new GridPathSolver(MoveSet.RIGHT_DOWN, queueType);
+        assertThrows(IllegalStateException.class,
+                () -> solver.findMinimalPathSum(EXAMPLE_GRID, EXAMPLE_COLS, new int[] {24}, new int[] {0}));
+    }
+
+    @ParameterizedTest
+    @EnumSource(QueueType.class)
+    void findMinimalPathSum_negativeWeight_throws(QueueType queueType) {
+        GridPathSolver solver = new GridPathSolver(MoveSet.RIGHT_DOWN, queueType);
+        assertThrows(IllegalArgumentException.class,
+                () -> solver.findMinimalPathSum(new int[] {1, -1}, 2, new int[] {0}, new int[] {1}));
+    }
+
+    @ParameterizedTest
+    @EnumSource(QueueType.class)
+    void findMinimalPathSum_zeroWeights_expectedResult(QueueType queueType) {
+        GridPathSolver solver = new GridPathSolver(MoveSet.ALL_NEIGHBOURS, queueType);
+        int[] grid = {
+                0, 0, 5,
+                9, 0, 0,
+                9, 9, 0
+        };
+        assertEquals(0, solver.findMinimalPathSum(grid, 3, new int[] {0}, new int[] {8}));
+    }
+
+    /**
+     * Compares both queues against the CompressedShortestPathSolver on random grids.
+     */
+    @ParameterizedTest
+    @MethodSource("randomCases")
+    void findMinimalPathSum_randomGrid_matchesGraphSolver(MoveSet moveSet, int maxWeight, long seed) {
+        int rows = 23;
+        int cols = 31;
+        Random random = new Random(seed);
+        int[] grid = random.ints(rows * cols, 0, maxWeight + 1).toArray();
+
+        int[][] deltas = getDeltas(moveSet);
+        CompressedGraph.Builder builder = new CompressedGraph.Builder(rows * cols);
+        for (int cell = 0; cell < grid.length; cell++) {
+            for (int[] delta : deltas) {
+                int row = cell / cols + delta[0];
+                int col = cell % cols + delta[1];
+                if (row >= 0 && row < rows && col >= 0 && col < cols) {
+                    builder.addEdge(cell, row * cols + col, grid[row * cols + col]);
+                }
+            }
+        }
+        int expected = grid[0] + new CompressedShortestPathSolver()
+                .findShortestPathDistance(builder.build(), 0, grid.length - 1);
+
+        for (QueueType queueType : QueueType.values()) {
+            GridPathSolver solver = new GridPathSolver(moveSet, queueType);
+            assertEquals(expected, solver.findMinimalPathSum(grid, cols, new int[] {0}, new int[] {grid.length - 1}));
+        }
+    }
+
+    static Stream<Arguments> randomCases() {
+        return Stream.of(MoveSet.values())
+                .flatMap(moveSet -> Stream.of(
+                        arguments(moveSet, 1, 1L),
+                        arguments(moveSet, 9, 2L),
+                        arguments(moveSet, 9999, 3L)));
+    }
+
+    private static int[][] getDeltas(MoveSet moveSet) {
+        switch (moveSet) {
+            case RIGHT_DOWN:
+                return new int[][] {{0, 1}, {1, 0}};
+            case UP_DOWN_RIGHT:
+                return new int[][] {{-1, 0}, {1, 0}, {0, 1}};
+            default:
+                return new int[][] {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import corypgr.project.euler.problems.util.GridSlidingWindow.Direction;
+import corypgr.project.euler.problems.util.GridSlidingWindow.Scoring;
+import corypgr.project.euler.problems.util.GridSlidingWindow.Window;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+class GridSlidingWindowTest {
+    private ForkJoinPool pool;
+    private GridSlidingWindow gridSlidingWindow;
+
+    @BeforeEach
+    void setup() {
+        pool = new ForkJoinPool(4);
+        gridSlidingWindow = new GridSlidingWindow(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Each grid has its best window in a different direction, marked by the 9s.
+     */
+    @ParameterizedTest
+    @MethodSource("directionGrids")
+    void findBestWindow_bestInOneDirection_expectedWindow(long[] grid, Direction direction, int startRow,
+                                                          int startCol) {
+        Window window = gridSlidingWindow.findBestWindow(grid, 4, 3, Scoring.PRODUCT).get();
+        assertEquals(new Window(direction, startRow, startCol, BigInteger.valueOf(729)), window);
+    }
+
+    static Stream<Arguments> directionGrids() {
+        return Stream.of(
+                arguments(new long[] {
+                        1, 1, 1, 1,
+                        1, 9, 9, 9,
+                        1, 1, 1, 1,
+                        1, 1, 1, 1}, Direction.ROW, 1, 1),
+                arguments(new long[] {
+                        1, 1, 9, 1,
+                        1, 1, 9, 1,
+                        1, 1, 9, 1,
+                        1, 1, 1, 1}, Direction.COLUMN, 0, 2),
+                arguments(new long[] {
+                        1, 1, 1, 1,
+                        1, 9, 1, 1,
+                        1, 1, 9, 1,
+                        1, 1, 1, 9}, Direction.DOWN_DIAGONAL, 1, 1),
+                arguments(new long[] {
+                        1, 1, 1, 9,
+                        1, 1, 9, 1,
+                        1, 9, 1, 1,
+                        1, 1, 1, 1}, Direction.UP_DIAGONAL, 2, 1));
+    }
+
+    @Test
+    void findBestProduct_zeroesInEveryOtherWindow_skipsThem() {
+        long[] grid = {
+                9, 9, 0, 9, 9,
+                0, 2, 2, 0, 0,
+                9, 0, 0, 0, 9};
+        assertEquals(81, gridSlidingWindow.findBestProduct(grid, 5, 2));
+        assertEquals(-1, gridSlidingWindow.findBestProduct(new long[] {0, 0, 0, 0}, 2, 2));
+    }
+
+    @Test
+    void findBestProduct_windowLongerThanGrid_noWindow() {
+        assertEquals(-1, gridSlidingWindow.findBestProduct(new long[] {5, 5, 5, 5}, 2, 3));
+        assertFalse(gridSlidingWindow.findBestWindow(new long[] {5, 5, 5, 5}, 2, 3, Scoring.SUM).isPresent());
+    }
+
+    /**
+     * Compares every scoring against checking each window from scratch, on grids with plenty of zeroes.
+     */
+    @ParameterizedTest
+    @MethodSource("randomGridShapes")
+    void findBestWindow_randomGrid_matchesBruteForce(int rows, int cols, int windowLength) {
+        Random random = new Random(rows * 100L + cols * 10L + windowLength);
+        long[] grid = random.longs(rows * cols, 0, 10).toArray();
+
+        BigInteger bestProduct = findBruteForce(grid, cols, windowLength, false);
+        BigInteger bestSum = findBruteForce(grid, cols, windowLength, true);
+        assertEquals(bestProduct.longValue(), gridSlidingWindow.findBestProduct(grid, cols, windowLength));
+        assertEquals(bestProduct, gridSlidingWindow.findBestWindow(grid, cols, windowLength, Scoring.LOG_PRODUCT)
+                .map(Window::getValue)
+                .orElse(BigInteger.ONE.negate()));
+        assertEquals(bestSum, gridSlidingWindow.findBestWindow(grid, cols, windowLength, Scoring.SUM)
+                .get()
+                .getValue());
+    }
+
+    static Stream<Arguments> randomGridShapes() {
+        return Stream.of(
+                arguments(1, 1, 1),
+                arguments(1, 12, 3),
+                arguments(12, 1, 3),
+                arguments(5, 7, 2),
+                arguments(7, 5, 4),
+                arguments(20, 20, 4),
+                arguments(30, 17, 6));
+    }
+
+    /**
+     * 30 cells of 1000 in a row is 10^90, well past a long, but fine in log space.
+     */
+    @Test
+    void findBestWindow_longWindow_onlyLogProductAvoidsOverflow() {
+        long[] grid = new long[40 * 40];
+        Arrays.fill(grid, 999);
+        for (int i = 0; i < 30; i++) {
+            grid[(5 + i) * 40 + 3] = 1000;
+        }
+
+        assertThrows(ArithmeticException.class, () -> gridSlidingWindow.findBestProduct(grid, 40, 30));
+        Window window = gridSlidingWindow.findBestWindow(grid, 40, 30, Scoring.LOG_PRODUCT).get();
+        assertEquals(new Window(Direction.COLUMN, 5, 3, BigInteger.valueOf(1000).pow(30)), window);
+    }
+
+    @Test
+    void findBestWindow_negativeCells_onlySumAllowed() {
+        long[] grid = {-1, -2, -3, -4};
+        Window window = gridSlidingWindow.findBestWindow(grid, 2, 2, Scoring.SUM).get();
+        assertEquals(new Window(Direction.ROW, 0, 0, BigInteger.valueOf(-3)), window);
+        assertThrows(IllegalArgumentException.class, () -> gridSlidingWindow.findBestProduct(grid, 2, 2));
+    }
+
+    @Test
+    void findBestWindow_invalidInput_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> gridSlidingWindow.findBestProduct(new long[] {1, 2, 3}, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> gridSlidingWindow.findBestProduct(new long[0], 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> gridSlidingWindow.findBestProduct(new long[] {1}, 1, 0));
+    }
+
+    private static BigInteger findBruteForce(long[] grid, int cols, int windowLength, boolean sum) {
+        int rows = grid.length / cols;
+        BigInteger best = null;
+        for (Direction direction : Direction.values()) {
+            int rowStep = (direction == Direction.ROW) ? 0 : (direction == Direction.UP_DIAGONAL) ? -1 : 1;
+            int colStep = (direction == Direction.COLUMN) ? 0 : 1;
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    int endRow = row + rowStep * (windowLength - 1);
+                    int endCol = col + colStep * (windowLength - 1);
+                    if (endRow < 0 || endRow >= rows || endCol >= cols) {
+                        continue;
+                    }
+
+                    BigInteger value = sum ? BigInteger.ZERO : BigInteger.ONE;
+                    for (int i = 0; i < windowLength; i++) {
+                        BigInteger cellVal = BigInteger.valueOf(grid[(row + rowStep * i) * cols + col + colStep * i]);
+                        value = sum ? value.add(cellVal) : value.multiply(cellVal);
+                    }
+                    // Products of windows with a zero don't count.
+                    if ((sum || value.signum() != 0) && (best == null || value.compareTo(best) > 0)) {
+                        best = value;
+                    }
+                }
+            }
+        }
+        return (best == null) ? BigInteger.ONE.negate() : best;
+    }
+}
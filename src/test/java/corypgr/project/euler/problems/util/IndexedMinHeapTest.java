@@ -0,0 +1,134 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+class IndexedMinHeapTest {
+    private IndexedMinHeap heap;
+
+    @BeforeEach
+    void setup() {
+        heap = new IndexedMinHeap(2);
+    }
+
+    @Test
+    void constructor_invalidCapacity_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexedMinHeap(0));
+    }
+
+    @Test
+    void emptyHeap_throws() {
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, heap::peekMin);
+        assertThrows(NoSuchElementException.class, heap::pollMin);
+        assertThrows(NoSuchElementException.class, () -> heap.getPriority(0));
+    }
+
+    @Test
+    void insert_invalidIndex_throws() {
+        heap.insert(3, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> heap.insert(3, 5));
+    }
+
+    @Test
+    void decreaseKey_invalidInput_throws() {
+        heap.insert(3, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(4, 5));
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(3, 11));
+    }
+
+    @Test
+    void pollMin_returnsInPriorityOrder() {
+        heap.insert(0, 50);
+        heap.insert(7, 10);
+        heap.insert(100, 30);
+        heap.insert(3, 20);
+
+        assertEquals(4, heap.size());
+        assertEquals(7, heap.pollMin());
+        assertEquals(3, heap.pollMin());
+        assertEquals(100, heap.pollMin());
+        assertEquals(0, heap.pollMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void decreaseKey_reordersIndex() {
+        heap.insert(0, 50);
+        heap.insert(1, 10);
+        heap.insert(2, 30);
+
+        heap.decreaseKey(0, 5);
+        assertEquals(5, heap.getPriority(0));
+        assertEquals(0, heap.pollMin());
+
+        heap.insertOrDecreaseKey(2, 40); // Larger priority. Nothing changes.
+        heap.insertOrDecreaseKey(2, 1);
+        heap.insertOrDecreaseKey(5, 3);
+        assertEquals(2, heap.pollMin());
+        assertEquals(5, heap.pollMin());
+        assertEquals(1, heap.pollMin());
+    }
+
+    @Test
+    void clear_removesAllIndexes() {
+        heap.insert(0, 50);
+        heap.insert(1, 10);
+        heap.clear();
+
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(0));
+        assertFalse(heap.contains(1));
+
+        heap.insert(1, 3);
+        assertEquals(1, heap.pollMin());
+    }
+
+    /**
+     * Runs the same random operations against a PriorityQueue, which removes and re-adds for every decrease.
+     */
+    @Test
+    void randomOperations_matchPriorityQueue() {
+        Random random = new Random(81);
+        int[] priorities = new int[500];
+        PriorityQueue<Integer> expected = new PriorityQueue<>(
+                Comparator.<Integer>comparingInt(index -> priorities[index]).thenComparing(index -> index));
+
+        for (int i = 0; i < 20_000; i++) {
+            int index = random.nextInt(priorities.length);
+            int operation = random.nextInt(3);
+            if (operation < 2) {
+                int priority = random.nextInt(1_000);
+                if (!heap.contains(index) || priority < priorities[index]) {
+                    expected.remove(index);
+                    priorities[index] = priority;
+                    expected.add(index);
+                }
+                heap.insertOrDecreaseKey(index, priority);
+            } else if (!expected.isEmpty()) {
+                int expectedMin = expected.poll();
+                int actualMin = heap.pollMin();
+                // Ties can come out in either order, so compare priorities.
+                assertEquals(priorities[expectedMin], priorities[actualMin]);
+                if (expectedMin != actualMin) {
+                    expected.remove(actualMin);
+                    expected.add(expectedMin);
+                }
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+    }
+}
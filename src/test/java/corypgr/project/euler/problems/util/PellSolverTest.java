@@ -0,0 +1,198 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import corypgr.project.euler.problems.util.PellSolver.PellSolution;
+import corypgr.project.euler.problems.util.PellSolver.SolutionSequence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+class PellSolverTest {
+    private PellSolver solver;
+
+    @BeforeEach
+    void setup() {
+        solver = new PellSolver();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -5, 0, 1, 4, 9, 100 })
+    void getFundamentalSolution_invalidD_throws(int d) {
+        assertThrows(IllegalArgumentException.class, () -> solver.getFundamentalSolution(d));
+    }
+
+    @ParameterizedTest
+    @MethodSource("fundamentalSolutions")
+    void getFundamentalSolution_expectedResult(int d, PellSolution expected) {
+        assertEquals(expected, solver.getFundamentalSolution(d));
+    }
+
+    static Stream<Arguments> fundamentalSolutions() {
+        return Stream.of(
+                arguments(2, solution(3, 2)),
+                arguments(3, solution(2, 1)),
+                arguments(5, solution(9, 4)),
+                arguments(6, solution(5, 2)),
+                arguments(7, solution(8, 3)),
+                arguments(13, solution(649, 180)),
+                arguments(61, solution(1766319049, 226153980)),
+                arguments(109, new PellSolution(new BigInteger("158070671986249"), new BigInteger("15140424455100"))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 2, 3, 13, 61, 109, 661, 991 })
+    void getSolutionSequence_allSolveTheEquation(int d) {
+        SolutionSequence sequence = solver.getSolutionSequence(d);
+        BigInteger previousX = BigInteger.ZERO;
+        for (int i = 0; i < 40; i++) {
+            BigInteger x = sequence.getX();
+            BigInteger y = sequence.getY();
+            assertEquals(BigInteger.ONE, x.multiply(x).subtract(BigInteger.valueOf(d).multiply(y.multiply(y))));
+            assertTrue(x.compareTo(previousX) > 0);
+
+            previousX = x;
+            sequence.advance();
+        }
+
+        // 40 solutions is well past the long range for all of these.
+        assertFalse(sequence.fitsInLong());
+    }
+
+    @Test
+    void getSolutionSequence_longAccessors_expectedResult() {
+        SolutionSequence sequence = solver.getSolutionSequence(2);
+        sequence.advance();
+
+        assertTrue(sequence.fitsInLong());
+        assertEquals(17, sequence.getXAsLong());
+        assertEquals(12, sequence.getYAsLong());
+    }
+
+    @Test
+    void getSolutions_zeroN_throws() {
+        assertThrows(IllegalArgumentException.class, () -> solver.getSolutions(2, 0));
+    }
+
+    @Test
+    void getSolutions_noSolutions_isEmpty() {
+        // Squares mod 3 are only 0 or 1, so x^2 - 3y^2 can never be -1.
+        assertFalse(solver.getSolutions(3, -1).hasNext());
+    }
+
+    @ParameterizedTest
+    @MethodSource("generalizedSolutions")
+    void getSolutions_expectedFirstSolutions(int d, long n, List<PellSolution> expected) {
+        Iterator<PellSolution> solutions = solver.getSolutions(d, n);
+        List<PellSolution> actual = new ArrayList<>();
+        for (int i = 0; i < expected.size(); i++) {
+            actual.add(solutions.next());
+        }
+        assertEquals(expected, actual);
+    }
+
+    static Stream<Arguments> generalizedSolutions() {
+        return Stream.of(
+                arguments(2, 1, List.of(solution(3, 2), solution(17, 12), solution(99, 70))),
+                arguments(2, -1, List.of(solution(1, 1), solution(7, 5), solution(41, 29), solution(239, 169))),
+                arguments(3, -2, List.of(solution(1, 1), solution(5, 3), solution(19, 11), solution(71, 41))),
+                arguments(2, 7, List.of(solution(3, 1), solution(5, 3), solution(13, 9), solution(27, 19))),
+                arguments(5, 4, List.of(solution(3, 1), solution(7, 3), solution(18, 8), solution(47, 21))));
+    }
+
+    /**
+     * Compares the generalized solutions against a brute force search over small y values.
+     */
+    @ParameterizedTest
+    @MethodSource("bruteForceCases")
+    void getSolutions_matchesBruteForce(int d, long n) {
+        List<PellSolution> expected = new ArrayList<>();
+        for (long y = 1; y < 20_000; y++) {
+            long xSquared = n + d * y * y;
+            long x = (long) Math.sqrt(xSquared);
+            if (xSquared > 0 && x * x == xSquared) {
+                expected.add(solution(x, y));
+            }
+        }
+
+        Iterator<PellSolution> solutions = solver.getSolutions(d, n);
+        for (PellSolution solution : expected) {
+            assertEquals(solution, solutions.next());
+        }
+        assertTrue(solutions.next().getY().compareTo(BigInteger.valueOf(20_000)) >= 0);
+    }
+
+    static Stream<Arguments> bruteForceCases() {
+        return Stream.of(
+                arguments(2, 1),
+                arguments(2, 7),
+                arguments(2, -7),
+                arguments(3, 1),
+                arguments(3, 6),
+                arguments(5, -4),
+                arguments(6, 10),
+                arguments(7, 2),
+                arguments(13, -4),
+                arguments(13, 27),
+                arguments(11, 25),
+                arguments(61, 3),
+                arguments(61, -3),
+                arguments(61, 5),
+                arguments(61, -12),
+                arguments(61, 36),
+                arguments(991, 33));
+    }
+
+    /**
+     * The fundamental solution of x^2 - 991y^2 = 1 has 30 digits, far past anything a search over y could reach.
+     */
+    @Test
+    void getSolutions_hugeFundamentalSolution_expectedFirstSolutions() {
+        Iterator<PellSolution> solutions = solver.getSolutions(991, 2);
+
+        assertEquals(solution(616049024759241L, 19569442212887L), solutions.next());
+        assertEquals(new PellSolution(new BigInteger("467601417317557233123987142113548938244591319"),
+                new BigInteger("14853848552777423042754253963436898525778807")), solutions.next());
+    }
+
+    @ParameterizedTest
+    @MethodSource("largeFundamentalSolutionCases")
+    void getSolutions_largeFundamentalSolution_allSolveTheEquation(int d, long n) {
+        Iterator<PellSolution> solutions = solver.getSolutions(d, n);
+        BigInteger previousX = BigInteger.ZERO;
+        for (int i = 0; i < 10; i++) {
+            PellSolution solution = solutions.next();
+            BigInteger x = solution.getX();
+            BigInteger y = solution.getY();
+            assertEquals(BigInteger.valueOf(n), x.multiply(x).subtract(BigInteger.valueOf(d).multiply(y.multiply(y))));
+            assertTrue(x.compareTo(previousX) > 0);
+            previousX = x;
+        }
+    }
+
+    static Stream<Arguments> largeFundamentalSolutionCases() {
+        return Stream.of(
+                arguments(61, -3),
+                arguments(109, 9),
+                arguments(661, -5),
+                arguments(991, -7),
+                arguments(991, 2));
+    }
+
+    private static PellSolution solution(long x, long y) {
+        return new PellSolution(BigInteger.valueOf(x), BigInteger.valueOf(y));
+    }
+}
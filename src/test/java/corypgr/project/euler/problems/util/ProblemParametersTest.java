@@ -0,0 +1,83 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import corypgr.project.euler.problems.PE0010;
+import corypgr.project.euler.problems.PE0087;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class ProblemParametersTest {
+    private static final Map<String, Long> DEFAULTS = Map.of("max", 100L, "min", 1L);
+
+    @Test
+    void withOverrides_noOverrides_defaultsUsed() {
+        ProblemParameters parameters = ProblemParameters.withOverrides(DEFAULTS, Map.of());
+
+        assertEquals(100, parameters.get("max", 1));
+        assertEquals(1, parameters.getInt("min", 0));
+    }
+
+    @Test
+    void withOverrides_override_replacesOnlyThatDefault() {
+        ProblemParameters parameters = ProblemParameters.withOverrides(DEFAULTS, Map.of("max", 5L));
+
+        assertEquals(5, parameters.get("max", 1));
+        assertEquals(1, parameters.get("min", 0));
+    }
+
+    @Test
+    void withOverrides_unknownName_throwsException() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ProblemParameters.withOverrides(DEFAULTS, Map.of("size", 5L)));
+
+        assertEquals("Unknown parameters [size]. Known parameters are [max, min].", e.getMessage());
+    }
+
+    @Test
+    void get_belowMin_throwsException() {
+        ProblemParameters parameters = ProblemParameters.withOverrides(DEFAULTS, Map.of("max", 0L));
+
+        assertThrows(IllegalArgumentException.class, () -> parameters.get("max", 1));
+    }
+
+    @Test
+    void get_aboveMax_throwsException() {
+        ProblemParameters parameters = ProblemParameters.withOverrides(DEFAULTS, Map.of("max", 11L));
+
+        assertEquals(10, ProblemParameters.withOverrides(DEFAULTS, Map.of("max", 10L)).get("max", 1, 10));
+        IllegalArgumentException e =
+                assertThrows(IllegalArgumentException.class, () -> parameters.get("max", 1, 10));
+        assertEquals("max must be at most 10, but was 11.", e.getMessage());
+    }
+
+    @Test
+    void solve_pe0087AboveLimit_throwsException() {
+        Map<String, Long> overrides = Map.of(PE0087.MAX_SUM_PARAM, PE0087.MAX_SUM_LIMIT + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> new PE0087().solve(overrides));
+    }
+
+    @Test
+    void getInt_tooLargeForInt_throwsException() {
+        ProblemParameters parameters =
+                ProblemParameters.withOverrides(DEFAULTS, Map.of("max", Integer.MAX_VALUE + 1L));
+
+        assertThrows(IllegalArgumentException.class, () -> parameters.getInt("max", 1));
+    }
+
+    @Test
+    void solve_parameterizedProblem_matchesSmallerInput() {
+        // The sum of primes below 10 is 2 + 3 + 5 + 7.
+        assertEquals(17L, new PE0010().solve(Map.of(PE0010.MAX_PRIME_PARAM, 10L)).getSolution());
+    }
+
+    @Test
+    void solve_problemWithoutParameters_rejectsOverrides() {
+        Problem problem = () -> null;
+
+        assertThrows(IllegalArgumentException.class, () -> problem.solve(Map.of("max", 10L)));
+    }
+}
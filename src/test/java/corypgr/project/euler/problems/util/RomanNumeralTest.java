@@ -3,10 +3,17 @@ package corypgr.project.euler.problems.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import corypgr.project.euler.problems.util.RomanNumeral.MinimalFormSavings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.stream.Stream;
 
 class RomanNumeralTest {
@@ -117,4 +124,73 @@ class RomanNumeralTest {
                 // Large non-minimal case
                 RomanNumeral.builder().longVal(2111).originalString("MDCCCCCLXXXXXVIIIIII").minimalString("MMCXI"));
     }
+
+    @ParameterizedTest
+    @MethodSource("invalidStringInputs")
+    void parseValue_invalidInputs_throws(String input) {
+        if (input == null) {
+            return; // Covered by parseString. parseValue expects a non-null buffer.
+        }
+
+        byte[] bytes = input.getBytes(StandardCharsets.US_ASCII);
+        assertThrows(IllegalArgumentException.class, () -> RomanNumeral.parseValue(input, 0, input.length()));
+        assertThrows(IllegalArgumentException.class, () -> RomanNumeral.parseValue(bytes, 0, bytes.length));
+    }
+
+    @ParameterizedTest
+    @MethodSource("parseStringValidInputs")
+    void parseValue_validInputsInsideLargerBuffer_expectedResult(RomanNumeral expected) {
+        String buffer = "??" + expected.getOriginalString() + "!";
+        byte[] bytes = buffer.getBytes(StandardCharsets.US_ASCII);
+        int end = buffer.length() - 1;
+
+        assertEquals(expected.getLongVal(), RomanNumeral.parseValue(buffer, 2, end));
+        assertEquals(expected.getLongVal(), RomanNumeral.parseValue(bytes, 2, end));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1, -10})
+    void getMinimalLength_invalidInputs_throws(long input) {
+        assertThrows(IllegalArgumentException.class, () -> RomanNumeral.getMinimalLength(input));
+    }
+
+    @Test
+    void getMinimalLength_matchesMinimalString() {
+        for (long val = 1; val <= 10_000; val++) {
+            assertEquals(RomanNumeral.fromLong(val).getMinimalString().length(), RomanNumeral.getMinimalLength(val));
+        }
+    }
+
+    @Test
+    void getMinimalFormSavings_expectedResult(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("numerals");
+        Files.writeString(file, "MDCCCCCLXXXXXVIIIIII\nIIII\r\nXLIX\nVIIIII");
+
+        MinimalFormSavings savings = RomanNumeral.getMinimalFormSavings(file);
+
+        assertEquals(4, savings.getNumeralCount());
+        assertEquals(20 + 4 + 4 + 6, savings.getOriginalLength());
+        assertEquals(5 + 2 + 4 + 1, savings.getMinimalLength());
+        assertEquals(22, savings.getCharactersSaved());
+    }
+
+    @Test
+    void getMinimalFormSavings_linesLargerThanBuffer_expectedResult(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("numerals");
+        String longNumeral = "M".repeat(100_000) + "IIII";
+        Files.writeString(file, "IIII\n" + longNumeral + "\nIIII\n");
+
+        MinimalFormSavings savings = RomanNumeral.getMinimalFormSavings(file);
+
+        assertEquals(3, savings.getNumeralCount());
+        assertEquals(6, savings.getCharactersSaved());
+    }
+
+    @Test
+    void getMinimalFormSavings_invalidLine_throws(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("numerals");
+        Files.writeString(file, "IIII\nIVIV\n");
+
+        assertThrows(IllegalArgumentException.class, () -> RomanNumeral.getMinimalFormSavings(file));
+    }
 }
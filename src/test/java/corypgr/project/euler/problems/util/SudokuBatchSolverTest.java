@@ -0,0 +1,141 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class SudokuBatchSolverTest {
+    private static final String PE0096_PATH = "src/main/java/corypgr/project/euler/problems/resources/PE0096_sudoku";
+
+    private static final String EASY_BOARD =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String EASY_BOARD_SOLUTION =
+            "483921657967345821251876493548132976729564138136798245372689514814253769695417382";
+    // Top row has 2 3s.
+    private static final String UNSOLVABLE_BOARD =
+            "003020603900305001001806400008102900700000008006708200002609500800203009005010300";
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Solves the PE0096 file, one puzzle at a time with tiny chunks so plenty of them are in flight at once, and
+     * checks every result line against BitmaskSudokuSolver in input order.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 4 })
+    void solve_pe0096File_resultsInInputOrder(int numThreads) throws IOException {
+        Path output = tempDir.resolve("solutions");
+        SudokuBatchSolver.BatchReport report = new SudokuBatchSolver(numThreads, 1)
+                .solve(Paths.get(PE0096_PATH), output);
+
+        List<String> expected = new ArrayList<>();
+        BitmaskSudokuSolver solver = new BitmaskSudokuSolver();
+        List<String> lines = Files.readAllLines(Paths.get(PE0096_PATH));
+        for (int start = 0; start + 9 < lines.size(); start += 10) {
+            String board = String.join("", lines.subList(start + 1, start + 10));
+            expected.add(solve(solver, board));
+        }
+
+        assertEquals(expected, Files.readAllLines(output));
+        assertEquals(50, report.getPuzzleCount());
+        assertEquals(0, report.getUnsolvableCount());
+        assertTrue(report.getGuessCount() >= report.getBacktrackCount());
+    }
+
+    @Test
+    void solve_onePuzzlePerLine_unsolvableMarked() throws IOException {
+        String input = String.join("\n", EASY_BOARD, "", UNSOLVABLE_BOARD, EASY_BOARD.replace('0', '.'));
+        StringWriter output = new StringWriter();
+        SudokuBatchSolver.BatchReport report = new SudokuBatchSolver(2, 2)
+                .solve(new BufferedReader(new StringReader(input)), output);
+
+        List<String> expected = List.of(EASY_BOARD_SOLUTION, SudokuBatchSolver.UNSOLVABLE, EASY_BOARD_SOLUTION);
+        assertEquals(expected, output.toString().lines().collect(Collectors.toList()));
+        assertEquals(3, report.getPuzzleCount());
+        assertEquals(1, report.getUnsolvableCount());
+        assertEquals(0, report.getGuessCount());
+    }
+
+    @Test
+    void solve_emptyInput_emptyReport() throws IOException {
+        StringWriter output = new StringWriter();
+        SudokuBatchSolver.BatchReport report = new SudokuBatchSolver(1)
+                .solve(new BufferedReader(new StringReader("Grid 01\n")), output);
+
+        assertEquals("", output.toString());
+        assertEquals(0, report.getPuzzleCount());
+        assertEquals(0, report.getLatencyPercentileNanos(50));
+    }
+
+    @Test
+    void solve_invalidInput_throws() {
+        SudokuBatchSolver batchSolver = new SudokuBatchSolver(1);
+        assertThrows(IllegalArgumentException.class, () -> batchSolver.solve(
+                new BufferedReader(new StringReader(EASY_BOARD.substring(1))), new StringWriter()));
+        assertThrows(IllegalArgumentException.class, () -> batchSolver.solve(
+                new BufferedReader(new StringReader(EASY_BOARD.replace('6', 'x'))), new StringWriter()));
+        assertThrows(IllegalArgumentException.class, () -> new SudokuBatchSolver(0));
+    }
+
+    @Test
+    void getLatencyPercentileNanos_outOfRange_throws() throws IOException {
+        SudokuBatchSolver.BatchReport report = new SudokuBatchSolver(1)
+                .solve(new BufferedReader(new StringReader(EASY_BOARD)), new StringWriter());
+
+        assertTrue(report.getLatencyPercentileNanos(50) <= report.getLatencyPercentileNanos(100));
+        assertThrows(IllegalArgumentException.class, () -> report.getLatencyPercentileNanos(0));
+        assertThrows(IllegalArgumentException.class, () -> report.getLatencyPercentileNanos(101));
+    }
+
+    @Test
+    void latencyHistogram_percentiles_withinBucketWidthAbove() {
+        SudokuBatchSolver.LatencyHistogram histogram = new SudokuBatchSolver.LatencyHistogram();
+        for (long nanos = 1; nanos <= 1_000_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        for (double percentile : new double[] { 0.001, 1, 50, 90, 99, 99.9 }) {
+            long exact = (long) Math.ceil(percentile / 100 * 1_000_000);
+            long actual = histogram.getPercentileNanos(percentile);
+            assertTrue(actual >= exact && actual <= exact * 1.0625, percentile + "th was " + actual);
+        }
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    void latencyHistogram_hugeValues_keptInRange() {
+        SudokuBatchSolver.LatencyHistogram histogram = new SudokuBatchSolver.LatencyHistogram();
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getPercentileNanos(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(100));
+    }
+
+    private static String solve(BitmaskSudokuSolver solver, String board) {
+        int[] solution = solver.solve(board.chars().map(c -> c - '0').toArray());
+        StringBuilder result = new StringBuilder();
+        for (int cell : solution) {
+            result.append(cell);
+        }
+        return result.toString();
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 class SudokuSolverTest {
@@ -240,6 +241,46 @@ class SudokuSolverTest {
         assertTrue(board.hasGuesses());
     }
 
+    @Test
+    void solveBoardWithExactCover_easyGrid_expectedResult() {
+        SudokuSolver.Board board = solver.solveBoardWithExactCover(new SudokuSolver.Board(EASY_BOARD));
+        assertArrayEquals(EASY_BOARD_SOLUTION, boardTo2DIntArray(board));
+        assertTrue(board.isSolved());
+        assertFalse(board.hasGuesses());
+    }
+
+    @Test
+    void solveBoardWithExactCover_hardGrid_expectedResult() {
+        SudokuSolver.Board board = solver.solveBoardWithExactCover(new SudokuSolver.Board(HARD_BOARD));
+        assertArrayEquals(HARD_BOARD_SOLUTION, boardTo2DIntArray(board));
+        assertTrue(board.isSolved());
+        assertFalse(board.hasGuesses());
+    }
+
+    @Test
+    void solveBoardWithExactCover_unsolvableBoard_throws() {
+        SudokuSolver.Board board = new SudokuSolver.Board(UNSOLVABLE_BOARD);
+        assertThrows(IllegalStateException.class, () -> solver.solveBoardWithExactCover(board));
+    }
+
+    @Test
+    void solveWithExactCover_hardGrid_expectedResult() {
+        assertArrayEquals(toBoard(HARD_BOARD_SOLUTION), solver.solveWithExactCover(toBoard(HARD_BOARD)));
+    }
+
+    @Test
+    void solveWithExactCover_invalidBoard_throws() {
+        assertThrows(IllegalArgumentException.class, () -> solver.solveWithExactCover(new int[80]));
+        assertThrows(IllegalArgumentException.class, () -> solver.solveWithExactCover(toBoard(INVALID_INITIAL_BOARD_1)));
+        assertThrows(IllegalStateException.class, () -> solver.solveWithExactCover(toBoard(UNSOLVABLE_BOARD)));
+    }
+
+    private static int[] toBoard(int[][] grid) {
+        return Stream.of(grid)
+                .flatMapToInt(Arrays::stream)
+                .toArray();
+    }
+
     private int[][] boardTo2DIntArray(SudokuSolver.Board board) {
         SudokuSolver.Cell[][] boardGrid = board.getGrid();
         int[][] result = new int[boardGrid.length][boardGrid[0].length];
@@ -0,0 +1,83 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+class TriangleMaxSumRouteTest {
+    private static final String RESOURCES_PATH = "src/main/java/corypgr/project/euler/problems/resources/";
+
+    private TriangleMaxSumRoute triangleMaxSumRoute;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() {
+        triangleMaxSumRoute = new TriangleMaxSumRoute();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "PE0018_triangle", "PE0067_triangle" })
+    void findMaxSumRouteStreaming_problemTriangles_matchesFindMaxSumRoute(String fileName) {
+        Path path = Paths.get(RESOURCES_PATH + fileName);
+        assertEquals(triangleMaxSumRoute.findMaxSumRoute(path), triangleMaxSumRoute.findMaxSumRouteStreaming(path));
+    }
+
+    @Test
+    void findMaxSumRouteStreaming_exampleTriangle_expectedResult() throws IOException {
+        Path path = write("3\n7 4\n2 4 6\n8 5 9 3\n");
+        assertEquals(23, triangleMaxSumRoute.findMaxSumRouteStreaming(path));
+    }
+
+    @Test
+    void findMaxSumRouteStreaming_crlfAndBlankLines_expectedResult() throws IOException {
+        Path path = write("3\r\n7  4\r\n\r\n2 4 6\r\n8 5 9 3");
+        assertEquals(23, triangleMaxSumRoute.findMaxSumRouteStreaming(path));
+    }
+
+    @Test
+    void findMaxSumRouteStreaming_negativeValues_expectedResult() throws IOException {
+        Path path = write("-1\n-5 -2\n-2147483648 -9 -1\n");
+        assertEquals(-4, triangleMaxSumRoute.findMaxSumRouteStreaming(path));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "\n\n", "1\n2\n", "1\n2 3 4\n", "1\n2 x\n", "1\n2 -\n", "2147483648\n" })
+    void findMaxSumRouteStreaming_invalidTriangle_throws(String contents) throws IOException {
+        Path path = write(contents);
+        assertThrows(IllegalArgumentException.class, () -> triangleMaxSumRoute.findMaxSumRouteStreaming(path));
+    }
+
+    /**
+     * Large enough that rows cross the read buffer boundaries many times.
+     */
+    @Test
+    void findMaxSumRouteStreaming_randomTriangle_matchesFindMaxSumRoute() throws IOException {
+        Random random = new Random(67);
+        StringBuilder contents = new StringBuilder();
+        for (int row = 0; row < 500; row++) {
+            for (int col = 0; col <= row; col++) {
+                contents.append(random.nextInt(200_000) - 100_000).append(col == row ? "\n" : " ");
+            }
+        }
+
+        Path path = write(contents.toString());
+        assertEquals(triangleMaxSumRoute.findMaxSumRoute(path), triangleMaxSumRoute.findMaxSumRouteStreaming(path));
+    }
+
+    private Path write(String contents) throws IOException {
+        return Files.writeString(tempDir.resolve("triangle"), contents);
+    }
+}
@@ -0,0 +1,113 @@
+package corypgr.project.euler.problems.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import corypgr.project.euler.problems.util.GridPathSolver.MoveSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+class WavefrontDpTest {
+    private ForkJoinPool pool;
+    // Tiny blocks, so even small inputs are split up.
+    private WavefrontDp wavefrontDp;
+
+    @BeforeEach
+    void setup() {
+        pool = new ForkJoinPool(4);
+        wavefrontDp = new WavefrontDp(pool, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void findMaxTriangleRouteSum_exampleTriangle_expectedResult() {
+        int[][] triangle = {{3}, {7, 4}, {2, 4, 6}, {8, 5, 9, 3}};
+        assertEquals(23, wavefrontDp.findMaxTriangleRouteSum(triangle));
+        assertEquals(23, wavefrontDp.findMaxTriangleRouteSumSerial(triangle));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 5, 6, 7, 50, 203 })
+    void findMaxTriangleRouteSum_randomTriangle_matchesSerial(int rows) {
+        Random random = new Random(rows);
+        int[][] triangle = new int[rows][];
+        for (int row = 0; row < rows; row++) {
+            triangle[row] = random.ints(row + 1, -1000, 1000).toArray();
+        }
+
+        long expected = wavefrontDp.findMaxTriangleRouteSumSerial(triangle);
+        assertEquals(expected, wavefrontDp.findMaxTriangleRouteSum(triangle));
+    }
+
+    @Test
+    void findMaxTriangleRouteSum_invalidTriangle_throws() {
+        assertThrows(IllegalArgumentException.class, () -> wavefrontDp.findMaxTriangleRouteSum(new int[0][]));
+        assertThrows(IllegalArgumentException.class,
+                () -> wavefrontDp.findMaxTriangleRouteSum(new int[][] {{1}, {2, 3, 4}}));
+    }
+
+    @Test
+    void findMaxTriangleRouteSum_couldOverflow_throws() {
+        int[][] triangle = {{Integer.MAX_VALUE}, {1, 1}};
+        assertThrows(ArithmeticException.class, () -> wavefrontDp.findMaxTriangleRouteSum(triangle));
+    }
+
+    @Test
+    void findMinRightDownPathSum_exampleGrid_expectedResult() {
+        int[] grid = {
+                131, 673, 234, 103, 18,
+                201, 96, 342, 965, 150,
+                630, 803, 746, 422, 111,
+                537, 699, 497, 121, 956,
+                805, 732, 524, 37, 331
+        };
+        assertEquals(2427, wavefrontDp.findMinRightDownPathSum(grid, 5));
+        assertEquals(2427, wavefrontDp.findMinRightDownPathSumSerial(grid, 5));
+    }
+
+    /**
+     * Checks both versions against GridPathSolver, including shapes that don't split evenly into blocks.
+     */
+    @ParameterizedTest
+    @MethodSource("gridShapes")
+    void findMinRightDownPathSum_randomGrid_matchesGridPathSolver(int rows, int cols) {
+        Random random = new Random(rows * 31L + cols);
+        int[] grid = random.ints(rows * cols, 1, 10000).toArray();
+
+        int expected = new GridPathSolver(MoveSet.RIGHT_DOWN)
+                .findMinimalPathSum(grid, cols, new int[] {0}, new int[] {grid.length - 1});
+        assertEquals(expected, wavefrontDp.findMinRightDownPathSumSerial(grid, cols));
+        assertEquals(expected, wavefrontDp.findMinRightDownPathSum(grid, cols));
+    }
+
+    static Stream<Arguments> gridShapes() {
+        return Stream.of(
+                arguments(1, 1),
+                arguments(1, 10),
+                arguments(10, 1),
+                arguments(3, 3),
+                arguments(7, 11),
+                arguments(40, 17),
+                arguments(64, 64));
+    }
+
+    @Test
+    void findMinRightDownPathSum_invalidGrid_throws() {
+        assertThrows(IllegalArgumentException.class, () -> wavefrontDp.findMinRightDownPathSum(new int[] {1, 2, 3}, 2));
+        assertThrows(IllegalArgumentException.class, () -> wavefrontDp.findMinRightDownPathSum(new int[0], 1));
+    }
+}
@@ -0,0 +1,95 @@
+package corypgr.project.euler.runner;
+
+import static corypgr.project.euler.runner.PerformanceBaselineTest.result;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class BaselineComparatorTest {
+    private static final long BASELINE_NANOS = 100_000_000;
+    private static final long BASELINE_BYTES = 100L << 20;
+
+    private PerformanceBaseline baseline;
+    private BaselineComparator comparator;
+
+    @BeforeEach
+    void setup() {
+        baseline = new PerformanceBaseline(Map.of(
+                1, new PerformanceBaseline.Entry(BASELINE_NANOS, BASELINE_BYTES),
+                2, new PerformanceBaseline.Entry(BASELINE_NANOS, BASELINE_BYTES),
+                3, new PerformanceBaseline.Entry(BASELINE_NANOS, BASELINE_BYTES),
+                4, new PerformanceBaseline.Entry(1_000, 1_000)));
+        comparator = new BaselineComparator(20, 50);
+    }
+
+    @ParameterizedTest
+    @MethodSource("changes")
+    void compare_singleResult_expectedRegressionFlags(long medianNanos, long allocatedBytes, boolean timeRegression,
+                                                      boolean allocationRegression) {
+        ProblemComparison comparison = comparator.compare(baseline, List.of(result(1, medianNanos, allocatedBytes)))
+                .get(0);
+
+        assertEquals(timeRegression, comparison.isTimeRegression());
+        assertEquals(allocationRegression, comparison.isAllocationRegression());
+    }
+
+    static Stream<Arguments> changes() {
+        return Stream.of(
+                arguments(BASELINE_NANOS, BASELINE_BYTES, false, false),
+                arguments(BASELINE_NANOS * 12 / 10, BASELINE_BYTES * 15 / 10, false, false),
+                arguments(BASELINE_NANOS * 13 / 10, BASELINE_BYTES, true, false),
+                arguments(BASELINE_NANOS, BASELINE_BYTES * 2, false, true),
+                arguments(BASELINE_NANOS * 2, BASELINE_BYTES * 2, true, true),
+                arguments(BASELINE_NANOS / 2, BASELINE_BYTES / 2, false, false),
+                arguments(BASELINE_NANOS * 2, MemoryProbe.UNSUPPORTED, true, false));
+    }
+
+    /**
+     * Problem 4 takes 1us in the baseline, so growing 10 times over is still under the minimum increase.
+     */
+    @Test
+    void compare_tinyBaseline_noiseIgnored() {
+        ProblemComparison comparison = comparator.compare(baseline, List.of(result(4, 10_000, 10_000))).get(0);
+
+        assertEquals(900.0, comparison.getTimeChangePercent(), 1e-9);
+        assertFalse(comparison.isRegression());
+    }
+
+    @Test
+    void compare_manyResults_regressionsFirstThenLargestTimeChangeThenNew() {
+        List<ProblemComparison> comparisons = comparator.compare(baseline, List.of(
+                result(1, BASELINE_NANOS * 11 / 10, BASELINE_BYTES),
+                result(2, BASELINE_NANOS, BASELINE_BYTES * 3),
+                result(3, BASELINE_NANOS * 3, BASELINE_BYTES),
+                result(4, 1_000, 1_000),
+                result(5, 1_000, 1_000)));
+
+        assertEquals(List.of(3, 2, 1, 4, 5), comparisons.stream()
+                .map(ProblemComparison::getProblemNumber)
+                .collect(Collectors.toList()));
+        assertTrue(comparisons.get(0).isRegression());
+        assertTrue(comparisons.get(1).isRegression());
+        assertFalse(comparisons.get(4).isInBaseline());
+        assertFalse(comparisons.get(4).isRegression());
+        assertTrue(Double.isNaN(comparisons.get(4).getTimeChangePercent()));
+    }
+
+    @Test
+    void constructor_negativeThreshold_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new BaselineComparator(-1, 50));
+        assertThrows(IllegalArgumentException.class, () -> new BaselineComparator(20, Double.NaN));
+    }
+}
@@ -0,0 +1,72 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class BenchmarkReportWriterTest {
+    private static final BenchmarkResult RESULT = BenchmarkResult.builder()
+            .problemNumber(7)
+            .warmupIterations(3)
+            .iterations(10)
+            .minNanos(100)
+            .medianNanos(150)
+            .p90Nanos(180)
+            .p99Nanos(190)
+            .maxNanos(200)
+            .meanNanos(152.25)
+            .stdDevNanos(30)
+            .allocatedBytesPerIteration(4096)
+            .gcCount(2)
+            .gcMillis(5)
+            .peakHeapBytes(1048576)
+            .solution(104743)
+            .build();
+
+    private BenchmarkReportWriter writer;
+
+    @BeforeEach
+    void setup() {
+        writer = new BenchmarkReportWriter();
+    }
+
+    @Test
+    void write_csv_headerThenRowPerResult() throws IOException {
+        StringWriter output = new StringWriter();
+        writer.write(List.of(RESULT, RESULT), BenchmarkReportWriter.Format.CSV, output);
+
+        List<String> lines = output.toString().lines().collect(Collectors.toList());
+        assertEquals(3, lines.size());
+        assertEquals("problemNumber,warmupIterations,iterations,minNanos,medianNanos,p90Nanos,p99Nanos,maxNanos,"
+                + "meanNanos,stdDevNanos,allocatedBytesPerIteration,gcCount,gcMillis,peakHeapBytes,solution",
+                lines.get(0));
+        assertEquals("7,3,10,100,150,180,190,200,152.3,30.0,4096,2,5,1048576,104743", lines.get(1));
+    }
+
+    @Test
+    void write_json_objectPerResult() throws IOException {
+        StringWriter output = new StringWriter();
+        writer.write(List.of(RESULT), BenchmarkReportWriter.Format.JSON, output);
+
+        String json = output.toString();
+        assertTrue(json.contains("\"results\": ["));
+        assertTrue(json.contains("{\"problemNumber\": 7, \"warmupIterations\": 3, \"iterations\": 10, "
+                + "\"minNanos\": 100, \"medianNanos\": 150, \"p90Nanos\": 180, \"p99Nanos\": 190, \"maxNanos\": 200, "
+                + "\"meanNanos\": 152.3, \"stdDevNanos\": 30.0, \"allocatedBytesPerIteration\": 4096, \"gcCount\": 2, "
+                + "\"gcMillis\": 5, \"peakHeapBytes\": 1048576, \"solution\": 104743}"));
+    }
+
+    @Test
+    void fromFileName_extension_matchingFormat() {
+        assertEquals(BenchmarkReportWriter.Format.CSV, BenchmarkReportWriter.Format.fromFileName("results.CSV"));
+        assertEquals(BenchmarkReportWriter.Format.JSON, BenchmarkReportWriter.Format.fromFileName("results.json"));
+        assertEquals(BenchmarkReportWriter.Format.JSON, BenchmarkReportWriter.Format.fromFileName("results"));
+    }
+}
@@ -0,0 +1,64 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemSolution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+class BenchmarkRunnerTest {
+
+    @Test
+    void run_countingProblem_warmupAndMeasuredIterationsRun() {
+        AtomicInteger solveCount = new AtomicInteger();
+        Problem problem = () -> ProblemSolution.builder()
+                .solution(solveCount.incrementAndGet())
+                .descriptiveSolution("Counting")
+                .build();
+
+        BenchmarkResult result = new BenchmarkRunner(2, 7).run(5, problem);
+
+        assertEquals(9, solveCount.get());
+        assertEquals(9, result.getSolution());
+        assertEquals(5, result.getProblemNumber());
+        assertEquals(2, result.getWarmupIterations());
+        assertEquals(7, result.getIterations());
+        assertTrue(result.getMinNanos() <= result.getMedianNanos());
+        assertTrue(result.getMedianNanos() <= result.getP90Nanos());
+        assertTrue(result.getP90Nanos() <= result.getP99Nanos());
+        assertTrue(result.getP99Nanos() <= result.getMaxNanos());
+        assertTrue(result.getStdDevNanos() >= 0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("percentiles")
+    void getPercentile_sortedSamples_nearestRank(double percentile, long expected) {
+        long[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(expected, BenchmarkRunner.getPercentile(sorted, percentile));
+    }
+
+    static Stream<Arguments> percentiles() {
+        return Stream.of(
+                arguments(1, 1),
+                arguments(50, 5),
+                arguments(55, 6),
+                arguments(90, 9),
+                arguments(99, 10),
+                arguments(100, 10));
+    }
+
+    @Test
+    void constructor_invalidIterations_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new BenchmarkRunner(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BenchmarkRunner(0, 0));
+    }
+}
@@ -0,0 +1,52 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class GrowthCurveTest {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void fit_exactQuadratic_exponentTwoAndPerfectFit() {
+        long[] sizes = {10, 20, 40, 80};
+        long[] nanos = {300, 1200, 4800, 19200};
+
+        GrowthCurve curve = GrowthCurve.fit(sizes, nanos);
+
+        assertEquals(2, curve.getExponent(), DELTA);
+        assertEquals(3, curve.getCoefficient(), 1e-6);
+        assertEquals(1, curve.getRSquared(), DELTA);
+        assertEquals(3 * 160 * 160, curve.predictNanos(160), 1e-3);
+    }
+
+    @Test
+    void fit_noisyLinear_exponentNearOne() {
+        long[] sizes = {1_000, 2_000, 4_000, 8_000, 16_000};
+        long[] nanos = {1_050, 1_900, 4_100, 7_800, 16_500};
+
+        GrowthCurve curve = GrowthCurve.fit(sizes, nanos);
+
+        assertEquals(1, curve.getExponent(), 0.05);
+        assertTrue(curve.getRSquared() > 0.99);
+    }
+
+    @Test
+    void fit_singleSize_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> GrowthCurve.fit(new long[] {10, 10}, new long[] {5, 6}));
+    }
+
+    @Test
+    void fit_nonPositiveTime_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> GrowthCurve.fit(new long[] {10, 20}, new long[] {5, 0}));
+    }
+
+    @Test
+    void getLocalExponent_doubledSizeQuadrupledTime_two() {
+        assertEquals(2, GrowthCurve.getLocalExponent(100, 7, 200, 28), DELTA);
+    }
+}
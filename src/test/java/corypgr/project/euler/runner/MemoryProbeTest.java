@@ -0,0 +1,45 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MemoryProbeTest {
+    private static final int ARRAY_LENGTH = 1 << 20;
+
+    private MemoryProbe memoryProbe;
+
+    @BeforeEach
+    void setup() {
+        memoryProbe = new MemoryProbe();
+    }
+
+    @Test
+    void stop_largeAllocation_atLeastArraySizeAllocated() {
+        MemoryProbe.Start start = memoryProbe.start();
+        long[] array = new long[ARRAY_LENGTH];
+        array[ARRAY_LENGTH - 1] = 1;
+        MemoryStats stats = memoryProbe.stop(start);
+
+        assertEquals(1, array[ARRAY_LENGTH - 1]);
+        if (stats.getAllocatedBytes() != MemoryProbe.UNSUPPORTED) {
+            assertTrue(stats.getAllocatedBytes() >= (long) ARRAY_LENGTH * Long.BYTES);
+        }
+        assertTrue(stats.getGcCount() >= 0);
+        assertTrue(stats.getGcMillis() >= 0);
+        assertTrue(stats.getPeakHeapBytes() > 0);
+    }
+
+    @Test
+    void problemRunner_recordMemory_memoryStatsOnlyWhenAsked() {
+        ProblemResult withMemory = new ProblemRunner(true).run(1, () -> null);
+        ProblemResult withoutMemory = new ProblemRunner().run(1, () -> null);
+
+        assertNotNull(withMemory.getMemoryStats());
+        assertNull(withoutMemory.getMemoryStats());
+    }
+}
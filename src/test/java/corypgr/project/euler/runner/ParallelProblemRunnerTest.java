@@ -0,0 +1,112 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import corypgr.project.euler.problems.util.Cancellation;
+import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemSolution;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+class ParallelProblemRunnerTest {
+
+    /**
+     * With a single thread, problems have to start in expected time order, slowest first, but results still come back
+     * in problem number order.
+     */
+    @Test
+    void runAll_singleThread_slowestStartedFirstAndResultsInOrder() {
+        List<Integer> startOrder = Collections.synchronizedList(new ArrayList<>());
+        Map<Integer, Problem> problems = Map.of(
+                1, recordingProblem(1, startOrder),
+                2, recordingProblem(2, startOrder),
+                3, recordingProblem(3, startOrder),
+                4, recordingProblem(4, startOrder));
+        ExpectedProblemTimes expectedTimes = new ExpectedProblemTimes(Map.of(2, 500L, 4, 900L));
+
+        List<ProblemResult> results = new ArrayList<>();
+        BatchSummary summary = new ParallelProblemRunner(1, expectedTimes).runAll(problems, results::add);
+
+        assertEquals(List.of(4, 2, 1, 3), startOrder);
+        assertEquals(List.of(1, 2, 3, 4), results.stream()
+                .map(ProblemResult::getProblemNumber)
+                .collect(Collectors.toList()));
+        assertEquals(10L, results.stream()
+                .mapToLong(result -> result.getSolution().getSolution().longValue())
+                .sum());
+        assertEquals(4, summary.getProblemCount());
+    }
+
+    @Test
+    void runAll_manyThreads_resultsInOrder() {
+        Map<Integer, Problem> problems = new HashMap<>();
+        for (int i = 1; i <= 20; i++) {
+            problems.put(i, recordingProblem(i, new ArrayList<>()));
+        }
+
+        List<Integer> resultOrder = new ArrayList<>();
+        new ParallelProblemRunner(4, new ExpectedProblemTimes(Map.of()))
+                .runAll(problems, result -> resultOrder.add(result.getProblemNumber()));
+
+        List<Integer> expected = new ArrayList<>(problems.keySet());
+        Collections.sort(expected);
+        assertEquals(expected, resultOrder);
+    }
+
+    @Test
+    void runAll_problemThrows_throws() {
+        Problem failing = () -> {
+            throw new ArithmeticException("Oops");
+        };
+        ParallelProblemRunner runner = new ParallelProblemRunner(2, new ExpectedProblemTimes(Map.of()));
+        assertThrows(IllegalStateException.class, () -> runner.runAll(Map.of(1, failing), result -> { }));
+    }
+
+    @Test
+    void runAll_problemTimesOut_restOfBatchStillRuns() {
+        Problem spinning = () -> {
+            while (true) {
+                Cancellation.checkInterrupted();
+            }
+        };
+        Map<Integer, Problem> problems = Map.of(
+                1, recordingProblem(1, new ArrayList<>()),
+                2, spinning,
+                3, recordingProblem(3, new ArrayList<>()));
+        ParallelProblemRunner runner = new ParallelProblemRunner(2, new ExpectedProblemTimes(Map.of()),
+                new ProblemRunner(false, Duration.ofMillis(50)));
+
+        List<ProblemResult> results = new ArrayList<>();
+        BatchSummary summary = runner.runAll(problems, results::add);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(1).isTimedOut());
+        assertEquals(3, results.get(2).getSolution().getSolution());
+        assertEquals(List.of(2), summary.getTimedOutProblemNumbers());
+    }
+
+    @Test
+    void constructor_noThreads_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelProblemRunner(0, new ExpectedProblemTimes(Map.of())));
+    }
+
+    private static Problem recordingProblem(int problemNumber, List<Integer> startOrder) {
+        return () -> {
+            startOrder.add(problemNumber);
+            return ProblemSolution.builder()
+                    .solution(problemNumber)
+                    .descriptiveSolution("Problem " + problemNumber)
+                    .build();
+        };
+    }
+}
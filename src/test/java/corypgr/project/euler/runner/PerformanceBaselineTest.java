@@ -0,0 +1,68 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+class PerformanceBaselineTest {
+
+    @Test
+    void parse_commentsAndBlankLines_skipped() {
+        PerformanceBaseline baseline = PerformanceBaseline.parse(List.of(
+                "# Format: problemNumber medianNanos allocatedBytes",
+                "",
+                "3 1500000 2048",
+                "  12   900  -1  "));
+
+        assertEquals(Optional.of(new PerformanceBaseline.Entry(1500000, 2048)), baseline.getEntry(3));
+        assertEquals(Optional.of(new PerformanceBaseline.Entry(900, MemoryProbe.UNSUPPORTED)), baseline.getEntry(12));
+        assertTrue(baseline.getEntry(4).isEmpty());
+    }
+
+    @Test
+    void parse_wrongNumberOfValues_throws() {
+        assertThrows(IllegalArgumentException.class, () -> PerformanceBaseline.parse(List.of("3 1500000")));
+    }
+
+    @Test
+    void load_missingFile_throwsPointingAtWriteBaseline(@TempDir Path tempDir) {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> PerformanceBaseline.load(tempDir.resolve("missing")));
+        assertTrue(e.getMessage().contains("--write-baseline"));
+    }
+
+    @Test
+    void write_fromResults_parsesBackToSameEntries() throws IOException {
+        PerformanceBaseline baseline = PerformanceBaseline.fromResults(List.of(
+                result(10, 2_000_000, 4096),
+                result(2, 500, 0)));
+
+        StringWriter output = new StringWriter();
+        baseline.write(output);
+        List<String> lines = output.toString().lines().collect(Collectors.toList());
+        assertEquals(List.of("2 500 0", "10 2000000 4096"), lines.subList(lines.size() - 2, lines.size()));
+
+        PerformanceBaseline parsed = PerformanceBaseline.parse(lines);
+        assertEquals(Optional.of(new PerformanceBaseline.Entry(2_000_000, 4096)), parsed.getEntry(10));
+        assertEquals(Optional.of(new PerformanceBaseline.Entry(500, 0)), parsed.getEntry(2));
+    }
+
+    static BenchmarkResult result(int problemNumber, long medianNanos, long allocatedBytes) {
+        return BenchmarkResult.builder()
+                .problemNumber(problemNumber)
+                .medianNanos(medianNanos)
+                .allocatedBytesPerIteration(allocatedBytes)
+                .solution(0)
+                .build();
+    }
+}
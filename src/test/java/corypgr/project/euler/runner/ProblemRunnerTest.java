@@ -0,0 +1,102 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import corypgr.project.euler.problems.util.Cancellation;
+import corypgr.project.euler.problems.util.Problem;
+import corypgr.project.euler.problems.util.ProblemSolution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class ProblemRunnerTest {
+    private static final Duration TIMEOUT = Duration.ofMillis(100);
+
+    private ProblemRunner problemRunner;
+
+    @BeforeEach
+    void setup() {
+        problemRunner = new ProblemRunner(true, TIMEOUT);
+    }
+
+    @Test
+    void run_finishesInTime_solutionReturned() {
+        ProblemResult result = problemRunner.run(1, () -> ProblemSolution.builder()
+                .solution(7)
+                .descriptiveSolution("Seven")
+                .build());
+
+        assertFalse(result.isTimedOut());
+        assertEquals(7, result.getSolution().getSolution());
+        assertNotNull(result.getMemoryStats());
+    }
+
+    @Test
+    void run_cooperativeProblemTimesOut_interruptedAndMarkedTimedOut() throws InterruptedException {
+        CountDownLatch stopped = new CountDownLatch(1);
+        Problem spinning = () -> {
+            try {
+                while (true) {
+                    Cancellation.checkInterrupted();
+                }
+            } finally {
+                stopped.countDown();
+            }
+        };
+
+        ProblemResult result = problemRunner.run(1, spinning);
+
+        assertTrue(result.isTimedOut());
+        assertNull(result.getSolution());
+        assertNull(result.getMemoryStats());
+        assertTrue(result.getExecutionNanos() >= TIMEOUT.toNanos());
+        assertTrue(stopped.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void run_uncooperativeProblemTimesOut_countedAsRunawayUntilItFinishes() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        Problem ignoringInterrupts = () -> {
+            while (release.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+            stopped.countDown();
+            return ProblemSolution.builder().solution(1).descriptiveSolution("One").build();
+        };
+
+        assertEquals(0, problemRunner.getRunawayThreadCount());
+        assertTrue(problemRunner.run(1, ignoringInterrupts).isTimedOut());
+        assertEquals(1, problemRunner.getRunawayThreadCount());
+
+        release.countDown();
+        assertTrue(stopped.await(10, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (problemRunner.getRunawayThreadCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, problemRunner.getRunawayThreadCount());
+    }
+
+    @Test
+    void run_problemThrows_sameExceptionThrown() {
+        Problem failing = () -> {
+            throw new ArithmeticException("Oops");
+        };
+
+        assertThrows(ArithmeticException.class, () -> problemRunner.run(1, failing));
+    }
+
+    @Test
+    void constructor_zeroTimeout_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new ProblemRunner(false, Duration.ZERO));
+    }
+}
@@ -0,0 +1,130 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import corypgr.project.euler.problems.PE0006;
+import corypgr.project.euler.problems.PE0010;
+import corypgr.project.euler.problems.util.ProblemSolution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class SolutionCacheTest {
+    private SolverHasher solverHasher;
+    private SolutionCache solutionCache;
+
+    @BeforeEach
+    void setup() {
+        solverHasher = new SolverHasher();
+        solutionCache = new SolutionCache(solverHasher);
+    }
+
+    @Test
+    void get_afterPut_hit() {
+        solutionCache.put(6, new PE0006(), Map.of(), solution(25164150, "Difference: 25164150"));
+
+        Optional<ProblemSolution> cached = solutionCache.get(6, new PE0006(), Map.of());
+
+        assertEquals(Optional.of(solution(25164150, "Difference: 25164150")), cached);
+        assertEquals(1, solutionCache.getHits());
+        assertEquals(0, solutionCache.getMisses());
+    }
+
+    @Test
+    void get_differentParameters_miss() {
+        solutionCache.put(10, new PE0010(), Map.of(PE0010.MAX_PRIME_PARAM, 10L), solution(17L, "Prime Sum: 17"));
+
+        assertFalse(solutionCache.get(10, new PE0010(), Map.of()).isPresent());
+        assertTrue(solutionCache.get(10, new PE0010(), Map.of(PE0010.MAX_PRIME_PARAM, 10L)).isPresent());
+        assertEquals(1, solutionCache.getMisses());
+    }
+
+    @Test
+    void get_parameterOverriddenWithDefault_sharesDefaultEntry() {
+        solutionCache.put(10, new PE0010(), Map.of(), solution(142913828922L, "Prime Sum: 142913828922"));
+
+        assertTrue(solutionCache.get(10, new PE0010(), Map.of(PE0010.MAX_PRIME_PARAM, 2_000_000L)).isPresent());
+    }
+
+    @Test
+    void get_solverHashChanged_miss() {
+        SolutionCache parsed = SolutionCache.parse(
+                List.of("6\t-\tnotTheCurrentHash\tInteger\t25164150\tDifference: 25164150"), solverHasher);
+
+        assertFalse(parsed.get(6, new PE0006(), Map.of()).isPresent());
+        assertEquals(1, parsed.getMisses());
+    }
+
+    @Test
+    void put_lambdaProblem_notCached() {
+        solutionCache.put(1, () -> null, Map.of(), solution(1, "One"));
+
+        assertFalse(solutionCache.get(1, () -> null, Map.of()).isPresent());
+    }
+
+    @Test
+    void put_descriptionWithLineBreak_notCached() {
+        solutionCache.put(6, new PE0006(), Map.of(), solution(1, "Two\nlines"));
+
+        assertFalse(solutionCache.get(6, new PE0006(), Map.of()).isPresent());
+    }
+
+    @Test
+    void write_thenParse_roundTrips() throws IOException {
+        solutionCache.put(10, new PE0010(), Map.of(), solution(142913828922L, "Prime Sum: 142913828922"));
+        solutionCache.put(6, new PE0006(), Map.of(), solution(new BigInteger("25164150"), "Difference: 25164150"));
+        StringWriter writer = new StringWriter();
+        solutionCache.write(writer);
+
+        SolutionCache parsed = SolutionCache.parse(List.of(writer.toString().split(System.lineSeparator())),
+                solverHasher);
+
+        assertEquals(Optional.of(solution(new BigInteger("25164150"), "Difference: 25164150")),
+                parsed.get(6, new PE0006(), Map.of()));
+        assertEquals(Optional.of(solution(142913828922L, "Prime Sum: 142913828922")),
+                parsed.get(10, new PE0010(), Map.of()));
+    }
+
+    @Test
+    void parse_malformedLines_skipped() {
+        SolutionCache parsed = SolutionCache.parse(List.of("garbage", "6\t-\thash\tInteger\tnotANumber\tx"),
+                solverHasher);
+
+        assertFalse(parsed.get(6, new PE0006(), Map.of()).isPresent());
+    }
+
+    @Test
+    void load_missingFile_emptyCache() {
+        SolutionCache loaded = SolutionCache.load(Path.of("target", "no_such_solution_cache"), solverHasher);
+
+        assertFalse(loaded.get(6, new PE0006(), Map.of()).isPresent());
+    }
+
+    @Test
+    void problemRunner_withCache_secondRunCached() {
+        ProblemRunner problemRunner = new ProblemRunner(false, null, solutionCache);
+
+        ProblemResult first = problemRunner.run(6, new PE0006());
+        ProblemResult second = problemRunner.run(6, new PE0006());
+
+        assertFalse(first.isCached());
+        assertTrue(second.isCached());
+        assertEquals(first.getSolution(), second.getSolution());
+    }
+
+    private static ProblemSolution solution(Number solution, String descriptiveSolution) {
+        return ProblemSolution.builder()
+                .solution(solution)
+                .descriptiveSolution(descriptiveSolution)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import corypgr.project.euler.problems.PE0006;
+import corypgr.project.euler.problems.PE0008;
+import corypgr.project.euler.problems.PE0010;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+class SolverHasherTest {
+    private SolverHasher solverHasher;
+
+    @BeforeEach
+    void setup() {
+        solverHasher = new SolverHasher();
+    }
+
+    @Test
+    void findDependencies_solverUsingPrimes_includesPrimeAndUtilClasses() {
+        Set<String> dependencies = solverHasher.findDependencies("corypgr/project/euler/problems/PE0010");
+
+        assertTrue(dependencies.contains("corypgr/project/euler/problems/PE0010"));
+        assertTrue(dependencies.contains("corypgr/project/euler/problems/prime/PrimeGenerator"));
+        assertTrue(dependencies.contains("corypgr/project/euler/problems/util/LinkedHashSetWithModifiableIteration"));
+        assertTrue(dependencies.contains("corypgr/project/euler/problems/util/ProblemParameters"));
+        assertFalse(dependencies.contains("corypgr/project/euler/problems/PE0008"));
+    }
+
+    @Test
+    void findDependencies_solverWithInputFile_includesFile() {
+        Set<String> dependencies = solverHasher.findDependencies("corypgr/project/euler/problems/PE0008");
+
+        assertTrue(dependencies.contains("file:src/main/java/corypgr/project/euler/problems/resources/PE0008_number"));
+    }
+
+    @Test
+    void hash_sameClass_stableAcrossInstances() {
+        assertEquals(solverHasher.hash(PE0010.class), new SolverHasher().hash(PE0010.class));
+        assertEquals(64, solverHasher.hash(PE0010.class).length());
+    }
+
+    @Test
+    void hash_differentClasses_differentHashes() {
+        assertNotEquals(solverHasher.hash(PE0006.class), solverHasher.hash(PE0008.class));
+    }
+
+    @Test
+    void hash_classOutsideProblemsPackage_throwsException() {
+        assertFalse(SolverHasher.canHash(String.class));
+        assertThrows(IllegalArgumentException.class, () -> solverHasher.hash(String.class));
+    }
+
+    @Test
+    void readUtf8Constants_ownClassFile_containsOwnNameAndMethods() throws IOException {
+        byte[] classBytes;
+        try (InputStream in = SolverHasher.class.getResourceAsStream("SolverHasher.class")) {
+            classBytes = in.readAllBytes();
+        }
+
+        Set<String> constants = SolverHasher.readUtf8Constants(classBytes);
+
+        assertTrue(constants.contains("corypgr/project/euler/runner/SolverHasher"));
+        assertTrue(constants.contains("readUtf8Constants"));
+    }
+
+    @Test
+    void readUtf8Constants_notAClassFile_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> SolverHasher.readUtf8Constants(new byte[] {1, 2, 3, 4}));
+    }
+}
@@ -0,0 +1,59 @@
+package corypgr.project.euler.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import corypgr.project.euler.problems.PE0010;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class SweepRunnerTest {
+    private SweepRunner sweepRunner;
+
+    @BeforeEach
+    void setup() {
+        sweepRunner = new SweepRunner(new BenchmarkRunner(0, 1));
+    }
+
+    @Test
+    void getSizes_doubling_endsAtMax() {
+        assertEquals(List.of(10L, 20L, 40L, 80L, 100L), SweepRunner.getSizes(10, 100, 2));
+    }
+
+    @Test
+    void getSizes_smallFactor_alwaysGrows() {
+        assertEquals(List.of(1L, 2L, 3L, 4L), SweepRunner.getSizes(1, 4, 1.1));
+    }
+
+    @Test
+    void getSizes_minEqualsMax_singleSize() {
+        assertEquals(List.of(5L), SweepRunner.getSizes(5, 5, 2));
+    }
+
+    @Test
+    void getSizes_factorNotAboveOne_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> SweepRunner.getSizes(1, 10, 1));
+    }
+
+    @Test
+    void run_parameterizedProblem_pointPerSize() {
+        List<SweepRunner.SweepPoint> consumed = new ArrayList<>();
+        SweepRunner.SweepResult result =
+                sweepRunner.run(10, new PE0010(), PE0010.MAX_PRIME_PARAM, List.of(10L, 100L), Map.of(), consumed::add);
+
+        assertEquals(2, result.getPoints().size());
+        assertEquals(result.getPoints(), consumed);
+        assertEquals(17L, result.getPoints().get(0).getResult().getSolution());
+        assertEquals(1060L, result.getPoints().get(1).getResult().getSolution());
+    }
+
+    @Test
+    void run_unknownParameter_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> sweepRunner.run(10, new PE0010(), "max", List.of(10L, 100L), Map.of(), point -> { }));
+    }
+}